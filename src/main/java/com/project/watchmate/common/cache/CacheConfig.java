@@ -1,9 +1,15 @@
 package com.project.watchmate.common.cache;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
@@ -14,17 +20,21 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(name = "watchmate.cache.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WatchMateCacheProperties.class)
 public class CacheConfig implements CachingConfigurer {
 
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
@@ -39,53 +49,137 @@ public class CacheConfig implements CachingConfigurer {
     private static final Duration PUBLIC_SHOW_METADATA_TTL = Duration.ofHours(6);
     private static final Duration PUBLIC_SEASON_METADATA_TTL = Duration.ofHours(6);
     private static final Duration CONTINUE_WATCHING_TTL = Duration.ofMinutes(5);
-    private static final Duration WATCHLIST_SUMMARY_PAGES_TTL = Duration.ofMinutes(5);
+    static final Duration WATCHLIST_SUMMARY_PAGES_TTL = Duration.ofMinutes(5);
     private static final Duration USER_FAVORITE_MEDIA_IDS_TTL = Duration.ofMinutes(10);
-    private static final String TYPE_HINT_PROPERTY = "@class";
+
+    private static final Map<String, Duration> CACHE_TTLS = Map.ofEntries(
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_DETAILS, DETAILS_TTL),
+        Map.entry(TmdbCacheNames.TMDB_SHOW_DETAILS, DETAILS_TTL),
+        Map.entry(TmdbCacheNames.TMDB_SEASON_DETAILS, DETAILS_TTL),
+        Map.entry(TmdbCacheNames.TMDB_GENRES, GENRES_TTL),
+        Map.entry(TmdbCacheNames.TMDB_SEARCH, SEARCH_TTL),
+        Map.entry(TmdbCacheNames.TMDB_DISCOVER_BY_GENRE, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_POPULAR, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_TRENDING, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_UPCOMING_MOVIES, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_AIRING_TODAY, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_ON_THE_AIR, DISCOVERY_TTL),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_CREDITS, TMDB_MEDIA_CREDITS_TTL),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_VIDEOS, TMDB_MEDIA_VIDEOS_TTL),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, TMDB_MEDIA_WATCH_PROVIDERS_TTL),
+        Map.entry(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS, DISCOVERY_TTL),
+        Map.entry(WatchMateCacheNames.CURATED_CONTENT_LISTS, DISCOVERY_TTL),
+        Map.entry(WatchMateCacheNames.PUBLIC_MEDIA_DETAIL_BASE, PUBLIC_MEDIA_DETAIL_BASE_TTL),
+        Map.entry(WatchMateCacheNames.PUBLIC_SHOW_METADATA, PUBLIC_SHOW_METADATA_TTL),
+        Map.entry(WatchMateCacheNames.PUBLIC_SEASON_METADATA, PUBLIC_SEASON_METADATA_TTL),
+        Map.entry(WatchMateCacheNames.CONTINUE_WATCHING, CONTINUE_WATCHING_TTL),
+        Map.entry(WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES, WATCHLIST_SUMMARY_PAGES_TTL),
+        Map.entry(WatchMateCacheNames.USER_FAVORITE_MEDIA_IDS, USER_FAVORITE_MEDIA_IDS_TTL)
+    );
+
+    /**
+     * User-scoped caches evicted per user; their entries are tracked in a per-user index set so eviction
+     * does not have to scan the keyspace.
+     */
+    static final Set<String> USER_INDEXED_CACHES = Set.of(WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES);
 
     @Bean
-    public RedisCacheManager cacheManager(
+    public TwoTierCacheManager cacheManager(
         RedisConnectionFactory redisConnectionFactory,
-        ObjectMapper objectMapper
+        ObjectMapper objectMapper,
+        WatchMateCacheProperties cacheProperties,
+        CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<CacheTtlPolicy> ttlPolicies,
+        RedisCircuitBreaker redisCircuitBreaker
     ) {
-        ObjectMapper cacheObjectMapper = objectMapper.rebuild().build();
-        GenericJacksonJsonRedisSerializer valueSerializer = GenericJacksonJsonRedisSerializer
-            .builder(cacheObjectMapper::rebuild)
-            .enableDefaultTyping(cachePolymorphicTypeValidator())
-            .typePropertyName(TYPE_HINT_PROPERTY)
-            .build();
+        CacheTtlPolicy ttlPolicy = CacheTtlPolicy.chain(ttlPolicies.orderedStream().toList());
+        GenericJacksonJsonRedisSerializer jsonSerializer = CacheValueSerializers.json(objectMapper);
+        GenericJacksonJsonRedisSerializer smileSerializer = CacheValueSerializers.smile();
+        Function<String, RedisSerializer<Object>> valueSerializers = cacheName -> CacheValueSerializers.versioned(
+            cacheProperties.valueFormat(cacheName),
+            jsonSerializer,
+            smileSerializer,
+            cacheProperties.getCompressionThresholdBytes()
+        );
         RedisCacheWriter cacheWriter = RedisCacheWriter.create(redisConnectionFactory, config -> config.immediateWrites(true));
-        RedisCacheConfiguration defaultConfig = redisCacheConfiguration(DEFAULT_TTL, valueSerializer);
-
-        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.ofEntries(
-            Map.entry(TmdbCacheNames.TMDB_MEDIA_DETAILS, redisCacheConfiguration(DETAILS_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_SHOW_DETAILS, redisCacheConfiguration(DETAILS_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_SEASON_DETAILS, redisCacheConfiguration(DETAILS_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_GENRES, redisCacheConfiguration(GENRES_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_SEARCH, redisCacheConfiguration(SEARCH_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_DISCOVER_BY_GENRE, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_POPULAR, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_TRENDING, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_UPCOMING_MOVIES, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_AIRING_TODAY, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_ON_THE_AIR, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_MEDIA_CREDITS, redisCacheConfiguration(TMDB_MEDIA_CREDITS_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_MEDIA_VIDEOS, redisCacheConfiguration(TMDB_MEDIA_VIDEOS_TTL, valueSerializer)),
-            Map.entry(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, redisCacheConfiguration(TMDB_MEDIA_WATCH_PROVIDERS_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.CURATED_CONTENT_LISTS, redisCacheConfiguration(DISCOVERY_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.PUBLIC_MEDIA_DETAIL_BASE, redisCacheConfiguration(PUBLIC_MEDIA_DETAIL_BASE_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.PUBLIC_SHOW_METADATA, redisCacheConfiguration(PUBLIC_SHOW_METADATA_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.PUBLIC_SEASON_METADATA, redisCacheConfiguration(PUBLIC_SEASON_METADATA_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.CONTINUE_WATCHING, redisCacheConfiguration(CONTINUE_WATCHING_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES, redisCacheConfiguration(WATCHLIST_SUMMARY_PAGES_TTL, valueSerializer)),
-            Map.entry(WatchMateCacheNames.USER_FAVORITE_MEDIA_IDS, redisCacheConfiguration(USER_FAVORITE_MEDIA_IDS_TTL, valueSerializer))
+        RedisCacheConfiguration defaultConfig = redisCacheConfiguration(
+            RedisCacheWriter.TtlFunction.just(DEFAULT_TTL),
+            valueSerializers.apply(null)
+        );
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new LinkedHashMap<>();
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheConfigurations.put(
+            cacheName,
+            redisCacheConfiguration(redisTtl(cacheName, ttl, cacheProperties, ttlPolicy), valueSerializers.apply(cacheName))
+        ));
+
+        CacheTierMetrics metrics = new CacheTierMetrics(meterRegistry.getIfAvailable());
+        RedisCacheManager redisCacheManager = new WatchMateRedisCacheManager(
+            cacheWriter,
+            defaultConfig,
+            cacheConfigurations,
+            redisConnectionFactory,
+            USER_INDEXED_CACHES,
+            CACHE_TTLS.keySet().stream().filter(cacheProperties::generational).collect(Collectors.toSet()),
+            new CacheGenerations(
+                new StringRedisTemplate(redisConnectionFactory),
+                cacheProperties.getGenerations().getCheckInterval()
+            )
         );
+        redisCacheManager.initializeCaches();
 
-        return RedisCacheManager.builder(cacheWriter)
-            .cacheDefaults(defaultConfig)
-            .withInitialCacheConfigurations(cacheConfigurations)
-            .build();
+        return new TwoTierCacheManager(
+            redisCacheManager,
+            cacheProperties,
+            cacheInvalidationBroadcaster,
+            metrics,
+            CACHE_TTLS,
+            singleFlightLoader(redisConnectionFactory, cacheProperties, metrics, redisCircuitBreaker),
+            ttlPolicy,
+            redisCircuitBreaker
+        );
+    }
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+        WatchMateCacheProperties cacheProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return RedisCircuitBreaker.create(cacheProperties.getCircuitBreaker(), meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    public RedisCircuitBreakerEndpoint redisCircuitBreakerEndpoint(RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCircuitBreakerEndpoint(redisCircuitBreaker);
+    }
+
+    @Bean
+    public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(
+        RedisConnectionFactory redisConnectionFactory,
+        WatchMateCacheProperties cacheProperties,
+        RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        return new CacheInvalidationBroadcaster(
+            new StringRedisTemplate(redisConnectionFactory),
+            cacheProperties.getNearCache().getInvalidationChannel(),
+            redisCircuitBreaker
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        TwoTierCacheManager cacheManager,
+        CacheInvalidationBroadcaster cacheInvalidationBroadcaster
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+            cacheInvalidationBroadcaster.listenerFor(cacheManager),
+            cacheInvalidationBroadcaster.topic()
+        );
+        return container;
     }
 
     @Bean
@@ -94,28 +188,59 @@ public class CacheConfig implements CachingConfigurer {
         return new FailOpenCacheErrorHandler();
     }
 
-    private RedisCacheConfiguration redisCacheConfiguration(Duration ttl, GenericJacksonJsonRedisSerializer valueSerializer) {
+    private static SingleFlightLoader singleFlightLoader(
+        RedisConnectionFactory redisConnectionFactory,
+        WatchMateCacheProperties cacheProperties,
+        CacheTierMetrics metrics,
+        RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        WatchMateCacheProperties.SingleFlight singleFlight = cacheProperties.getSingleFlight();
+        return new SingleFlightLoader(
+            new StringRedisTemplate(redisConnectionFactory),
+            singleFlight.getLease(),
+            singleFlight.getWaitTimeout(),
+            singleFlight.getPollInterval(),
+            metrics,
+            redisCircuitBreaker
+        );
+    }
+
+    /**
+     * Per-entry Redis expiry: the TTL chosen by the {@link CacheTtlPolicy} chain for the entry's value.
+     * Refresh-ahead caches keep entries in Redis past that TTL so a stale value can still be served
+     * while the background reload is retried. Not-found tombstones use the cache's short negative TTL.
+     */
+    private static RedisCacheWriter.TtlFunction redisTtl(
+        String cacheName,
+        Duration ttl,
+        WatchMateCacheProperties cacheProperties,
+        CacheTtlPolicy ttlPolicy
+    ) {
+        Duration staleWindow = cacheProperties.refreshAhead(cacheName)
+            ? cacheProperties.getRefreshAhead().getStaleWindow()
+            : Duration.ZERO;
+        Duration negativeTtl = cacheProperties.negativeCacheTtl(cacheName);
+        return (key, value) -> {
+            if (value instanceof NotFoundTombstone) {
+                return negativeTtl;
+            }
+            Object payload = value instanceof RefreshAheadEntry entry ? entry.getValue() : value;
+            return ttlPolicy.timeToLive(cacheName, payload, ttl).plus(staleWindow);
+        };
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(
+        RedisCacheWriter.TtlFunction ttlFunction,
+        RedisSerializer<Object> valueSerializer
+    ) {
         return RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(ttl)
+            .entryTtl(ttlFunction)
             .disableCachingNullValues()
             .prefixCacheNameWith("watchmate::")
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
             .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
     }
 
-    private BasicPolymorphicTypeValidator cachePolymorphicTypeValidator() {
-        return BasicPolymorphicTypeValidator.builder()
-            .allowIfSubType("com.project.watchmate.")
-            .allowIfSubType(java.util.Collection.class)
-            .allowIfSubType(java.util.Map.class)
-            .allowIfSubType(java.lang.Number.class)
-            .allowIfSubType(java.lang.Boolean.class)
-            .allowIfSubType(java.lang.CharSequence.class)
-            .allowIfSubType(java.time.LocalDate.class)
-            .allowIfSubType(java.time.LocalDateTime.class)
-            .build();
-    }
-
     @Slf4j
     private static class FailOpenCacheErrorHandler implements CacheErrorHandler {
 
@@ -0,0 +1,72 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generation numbers for caches that are cleared as a whole. The generation is part of every key
+ * prefix of such a cache, so bumping it with one {@code INCR} makes all existing entries unreachable;
+ * they are never deleted and expire through their normal TTL.
+ *
+ * <p>Each node reuses the generation it last read for the configured check interval, which bounds how
+ * long it can keep reading the old generation after another node clears. If Redis cannot be reached,
+ * the last known generation keeps being used.
+ */
+@Slf4j
+public class CacheGenerations {
+
+    static final String GENERATION_KEY_PREFIX = "watchmate::generation::";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final long checkIntervalNanos;
+
+    private final ConcurrentMap<String, KnownGeneration> knownGenerations = new ConcurrentHashMap<>();
+
+    public CacheGenerations(StringRedisTemplate redisTemplate, Duration checkInterval) {
+        this.redisTemplate = redisTemplate;
+        this.checkIntervalNanos = checkInterval.toNanos();
+    }
+
+    public long current(String cacheName) {
+        long now = System.nanoTime();
+        KnownGeneration known = knownGenerations.get(cacheName);
+        if (known != null && now - known.readAtNanos() < checkIntervalNanos) {
+            return known.generation();
+        }
+
+        try {
+            String stored = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + cacheName);
+            long generation = stored == null ? 0L : Long.parseLong(stored);
+            knownGenerations.put(cacheName, new KnownGeneration(generation, now));
+            return generation;
+        } catch (RuntimeException ex) {
+            log.warn("Cache generation read failed cache={}: {}", cacheName, ex.getMessage());
+            return known == null ? 0L : known.generation();
+        }
+    }
+
+    /**
+     * Moves the cache to a new generation. Failures propagate so the cache error handler reports the
+     * clear as failed.
+     */
+    public long advance(String cacheName) {
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + cacheName);
+        long advanced = generation == null ? 0L : generation;
+        knownGenerations.put(cacheName, new KnownGeneration(advanced, System.nanoTime()));
+        return advanced;
+    }
+
+    /** Forces the next key computation on this node to re-read the generation from Redis. */
+    public void forget(String cacheName) {
+        knownGenerations.remove(cacheName);
+    }
+
+    private record KnownGeneration(long generation, long readAtNanos) {
+    }
+}
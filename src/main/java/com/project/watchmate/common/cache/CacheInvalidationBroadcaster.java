@@ -0,0 +1,100 @@
+package com.project.watchmate.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes near-cache invalidations over Redis pub/sub so an evict or put on one node drops the
+ * stale in-heap copy on every other node. Messages from this node are ignored on receipt because the
+ * local near cache was already updated in-line. Nothing is published while the
+ * {@link RedisCircuitBreaker} is not closed; other nodes' near copies then age out through their TTL.
+ */
+@Slf4j
+public class CacheInvalidationBroadcaster {
+
+    private static final String EVICT = "EVICT";
+
+    private static final String CLEAR = "CLEAR";
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ChannelTopic topic;
+
+    private final String nodeId;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public CacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, String channel) {
+        this(redisTemplate, channel, UUID.randomUUID().toString(), null);
+    }
+
+    public CacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, String channel, RedisCircuitBreaker circuitBreaker) {
+        this(redisTemplate, channel, UUID.randomUUID().toString(), circuitBreaker);
+    }
+
+    CacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, String channel, String nodeId) {
+        this(redisTemplate, channel, nodeId, null);
+    }
+
+    CacheInvalidationBroadcaster(
+        StringRedisTemplate redisTemplate,
+        String channel,
+        String nodeId,
+        RedisCircuitBreaker circuitBreaker
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.nodeId = nodeId;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public ChannelTopic topic() {
+        return topic;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, EVICT, nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, CLEAR, nodeId, cacheName));
+    }
+
+    public MessageListener listenerFor(TwoTierCacheManager cacheManager) {
+        return (message, pattern) -> handle(message, cacheManager);
+    }
+
+    private void publish(String payload) {
+        if (circuitBreaker != null && !circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), payload);
+        } catch (RuntimeException ex) {
+            // Near-cache entries still expire on their own TTL, so a lost message only widens the staleness window.
+            log.warn("Cache invalidation publish failed channel={}", topic.getTopic(), ex);
+        }
+    }
+
+    private void handle(Message message, TwoTierCacheManager cacheManager) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[1])) {
+            return;
+        }
+
+        if (EVICT.equals(parts[0]) && parts.length == 4) {
+            cacheManager.evictLocal(parts[2], parts[3]);
+        } else if (CLEAR.equals(parts[0])) {
+            cacheManager.clearLocal(parts[2]);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.watchmate.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit and miss counters per cache tier. Tagged by cache name so near-cache sizes can be tuned per cache.
+ * A missing registry turns every call into a no-op, which keeps unit-level cache tests free of Micrometer.
+ */
+public class CacheTierMetrics {
+
+    static final String GETS_METRIC = "watchmate.cache.gets";
+
+    static final String REFRESH_METRIC = "watchmate.cache.refreshes";
+
+    static final String NOT_FOUND_METRIC = "watchmate.cache.not_found";
+
+    static final String TIER_NEAR = "near";
+
+    static final String TIER_REMOTE = "remote";
+
+    private final MeterRegistry meterRegistry;
+
+    public CacheTierMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static CacheTierMetrics noop() {
+        return new CacheTierMetrics(null);
+    }
+
+    public void nearHit(String cacheName) {
+        increment(GETS_METRIC, cacheName, "tier", TIER_NEAR, "result", "hit");
+    }
+
+    public void nearMiss(String cacheName) {
+        increment(GETS_METRIC, cacheName, "tier", TIER_NEAR, "result", "miss");
+    }
+
+    public void remoteHit(String cacheName) {
+        increment(GETS_METRIC, cacheName, "tier", TIER_REMOTE, "result", "hit");
+    }
+
+    public void remoteMiss(String cacheName) {
+        increment(GETS_METRIC, cacheName, "tier", TIER_REMOTE, "result", "miss");
+    }
+
+    void increment(String metricName, String cacheName, String... tags) {
+        if (meterRegistry == null) {
+            return;
+        }
+
+        String[] allTags = new String[tags.length + 2];
+        allTags[0] = "cache";
+        allTags[1] = cacheName;
+        System.arraycopy(tags, 0, allTags, 2, tags.length);
+        Counter.builder(metricName).tags(allTags).register(meterRegistry).increment();
+    }
+
+    MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hook for computing a cache entry's TTL from its value instead of using the cache's fixed TTL.
+ * Every policy bean is applied in order, each receiving the TTL chosen so far; policies return it
+ * unchanged for caches and values they do not handle.
+ *
+ * <p>For refresh-ahead caches the result is when a background reload starts; the Redis expiry adds
+ * the stale window on top, as for fixed TTLs.
+ */
+@FunctionalInterface
+public interface CacheTtlPolicy {
+
+    Duration timeToLive(String cacheName, Object value, Duration ttl);
+
+    static CacheTtlPolicy configured() {
+        return (cacheName, value, ttl) -> ttl;
+    }
+
+    static CacheTtlPolicy chain(List<CacheTtlPolicy> policies) {
+        return (cacheName, value, ttl) -> {
+            Duration resolved = ttl;
+            for (CacheTtlPolicy policy : policies) {
+                resolved = policy.timeToLive(cacheName, value, resolved);
+            }
+            return resolved;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.watchmate.common.cache;
+
+/**
+ * Wire formats a cache value can be written in. The id is stored in the value header, so existing ids
+ * must never be renumbered.
+ */
+public enum CacheValueFormat {
+
+    JSON((byte) 1),
+    SMILE((byte) 2);
+
+    private final byte id;
+
+    CacheValueFormat(byte id) {
+        this.id = id;
+    }
+
+    public byte id() {
+        return id;
+    }
+
+    public static CacheValueFormat fromId(byte id) {
+        for (CacheValueFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.watchmate.common.cache;
+
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Factory for the Jackson-backed value codecs used by the Redis caches. Both codecs share the same
+ * polymorphic type validator and {@code @class} type hint, so a value written in one format decodes to
+ * the same concrete DTO types in the other.
+ */
+public final class CacheValueSerializers {
+
+    static final String TYPE_HINT_PROPERTY = "@class";
+
+    private CacheValueSerializers() {
+    }
+
+    public static GenericJacksonJsonRedisSerializer json(ObjectMapper objectMapper) {
+        ObjectMapper cacheObjectMapper = objectMapper.rebuild().build();
+        return GenericJacksonJsonRedisSerializer
+            .builder(cacheObjectMapper::rebuild)
+            .enableDefaultTyping(polymorphicTypeValidator())
+            .typePropertyName(TYPE_HINT_PROPERTY)
+            .build();
+    }
+
+    /**
+     * Smile is Jackson's binary JSON encoding: same data model and type hints, but field names and
+     * repeated strings such as the {@code @class} hints are back-referenced instead of repeated.
+     */
+    public static GenericJacksonJsonRedisSerializer smile() {
+        return GenericJacksonJsonRedisSerializer
+            .builder(SmileMapper::builder)
+            .enableDefaultTyping(polymorphicTypeValidator())
+            .typePropertyName(TYPE_HINT_PROPERTY)
+            .build();
+    }
+
+    public static VersionedCacheValueSerializer versioned(
+        CacheValueFormat writeFormat,
+        RedisSerializer<Object> jsonSerializer,
+        RedisSerializer<Object> smileSerializer,
+        int compressionThresholdBytes
+    ) {
+        return new VersionedCacheValueSerializer(writeFormat, jsonSerializer, smileSerializer, compressionThresholdBytes);
+    }
+
+    private static BasicPolymorphicTypeValidator polymorphicTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.project.watchmate.")
+            .allowIfSubType(java.util.Collection.class)
+            .allowIfSubType(java.util.Map.class)
+            .allowIfSubType(java.lang.Number.class)
+            .allowIfSubType(java.lang.Boolean.class)
+            .allowIfSubType(java.lang.CharSequence.class)
+            .allowIfSubType(java.time.LocalDate.class)
+            .allowIfSubType(java.time.LocalDateTime.class)
+            .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.watchmate.common.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Routes every call to a Redis-backed cache through the {@link RedisCircuitBreaker}. While the breaker
+ * is open the cache behaves as if it were empty: reads miss, so callers load from the source, and
+ * writes, evictions and clears are dropped. Entries that missed an eviction expire through their TTL,
+ * the same as when an eviction fails against a reachable but erroring Redis.
+ */
+public class CircuitBreakingCache implements Cache {
+
+    private final Cache delegate;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingCache(Cache delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return circuitBreaker.execute(() -> delegate.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return circuitBreaker.execute(() -> delegate.get(key, type), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.get();
+            return value;
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return circuitBreaker.executeAsync(() -> delegate.retrieve(key), () -> CompletableFuture.completedFuture(null), true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return circuitBreaker.executeAsync(() -> delegate.retrieve(key, valueLoader), valueLoader, false);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        circuitBreaker.run(() -> delegate.put(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return circuitBreaker.execute(() -> delegate.putIfAbsent(key, value), () -> null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        circuitBreaker.run(() -> delegate.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return circuitBreaker.execute(() -> delegate.evictIfPresent(key), () -> false);
+    }
+
+    @Override
+    public void clear() {
+        circuitBreaker.run(delegate::clear);
+    }
+
+    @Override
+    public boolean invalidate() {
+        return circuitBreaker.execute(delegate::invalidate, () -> false);
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.watchmate.common.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * Redis cache whose key prefix includes a generation from {@link CacheGenerations}, e.g.
+ * {@code watchmate::curatedContentLists::g3::category:popular}. Clearing it advances the generation
+ * rather than scanning for and deleting its keys; entries of earlier generations are no longer
+ * addressed and expire through their TTL.
+ */
+public class GenerationalRedisCache extends RedisCache {
+
+    private final CacheGenerations generations;
+
+    private final String baseKeyPrefix;
+
+    public GenerationalRedisCache(
+        String name,
+        RedisCacheWriter cacheWriter,
+        RedisCacheConfiguration cacheConfiguration,
+        CacheGenerations generations
+    ) {
+        super(name, cacheWriter, withGeneration(name, cacheConfiguration, generations));
+        this.generations = generations;
+        this.baseKeyPrefix = cacheConfiguration.getKeyPrefixFor(name);
+    }
+
+    @Override
+    public void clear() {
+        generations.advance(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        generations.advance(getName());
+        return true;
+    }
+
+    /** The configured prefix without the generation, e.g. {@code watchmate::curatedContentLists::}. */
+    public String getBaseKeyPrefix() {
+        return baseKeyPrefix;
+    }
+
+    void forgetGeneration() {
+        generations.forget(getName());
+    }
+
+    private static RedisCacheConfiguration withGeneration(
+        String name,
+        RedisCacheConfiguration cacheConfiguration,
+        CacheGenerations generations
+    ) {
+        String baseKeyPrefix = cacheConfiguration.getKeyPrefixFor(name);
+        return cacheConfiguration.computePrefixWith(
+            cacheName -> baseKeyPrefix + "g" + generations.current(cacheName) + "::");
+    }
+}
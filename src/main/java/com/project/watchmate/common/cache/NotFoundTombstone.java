@@ -0,0 +1,18 @@
+package com.project.watchmate.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored in place of a value when the loader reported that the requested resource does not exist.
+ * Synchronized reads replay that {@link com.project.watchmate.common.error.MediaNotFoundException}
+ * without calling the loader until the tombstone's short Redis TTL runs out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotFoundTombstone {
+
+    private String message;
+}
@@ -0,0 +1,236 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+
+import io.lettuce.core.RedisException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker shared by every Redis call on the request path: cache reads and writes, eviction
+ * scripts, load locks and invalidation publishes.
+ *
+ * <p>It opens after a run of consecutive Redis failures or slow calls. While open, callers skip Redis
+ * entirely (reads miss, writes and evictions are dropped) instead of each waiting out the Redis
+ * timeout. After the open duration a single probe call is let through; its outcome closes the breaker
+ * or opens it again. Only {@link DataAccessException}s count as failures, so loader and serialization
+ * errors never trip it.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    static final String STATE_METRIC = "watchmate.cache.redis.circuit.state";
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final boolean enabled;
+
+    private final int failureThreshold;
+
+    private final long slowCallThresholdNanos;
+
+    private final long openDurationMillis;
+
+    private final Clock clock;
+
+    private volatile State state = State.CLOSED;
+
+    private volatile int consecutiveFailures;
+
+    private long openedAtMillis;
+
+    private boolean probeInFlight;
+
+    public RedisCircuitBreaker(
+        boolean enabled,
+        int failureThreshold,
+        Duration slowCallThreshold,
+        Duration openDuration,
+        Clock clock
+    ) {
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    public static RedisCircuitBreaker create(WatchMateCacheProperties.CircuitBreaker properties, MeterRegistry meterRegistry) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(
+            properties.isEnabled(),
+            properties.getFailureThreshold(),
+            properties.getSlowCallThreshold(),
+            properties.getOpenDuration(),
+            Clock.systemUTC()
+        );
+        if (meterRegistry != null) {
+            Gauge.builder(STATE_METRIC, circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Redis cache circuit state: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * Runs a Redis call through the breaker, returning {@code whenOpen} without calling Redis while the
+     * breaker is open. Failures are recorded and rethrown.
+     */
+    public <T> T execute(Supplier<T> redisCall, Supplier<T> whenOpen) {
+        if (!enabled) {
+            return redisCall.get();
+        }
+        if (!tryAcquire()) {
+            return whenOpen.get();
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = redisCall.get();
+            onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException ex) {
+            onFailure();
+            throw ex;
+        } catch (RuntimeException ex) {
+            // Not a Redis availability problem; free the probe slot without judging Redis by it.
+            releaseProbe();
+            throw ex;
+        }
+    }
+
+    /**
+     * Async form of {@link #execute}: the outcome is recorded when the returned future completes.
+     * A Redis client exception counts as a failure like a {@link DataAccessException}, since async
+     * commands are not always translated.
+     *
+     * @param timed whether the call's duration is judged against the slow-call threshold; off for calls
+     *              whose future also covers a value loader
+     */
+    public <F extends CompletableFuture<?>> F executeAsync(Supplier<F> redisCall, Supplier<F> whenOpen, boolean timed) {
+        if (!enabled) {
+            return redisCall.get();
+        }
+        if (!tryAcquire()) {
+            return whenOpen.get();
+        }
+
+        long start = System.nanoTime();
+        F future;
+        try {
+            future = redisCall.get();
+        } catch (DataAccessException | RedisException ex) {
+            onFailure();
+            throw ex;
+        } catch (RuntimeException ex) {
+            releaseProbe();
+            throw ex;
+        }
+        if (future == null) {
+            onSuccess(timed ? System.nanoTime() - start : 0);
+            return null;
+        }
+
+        future.whenComplete((result, ex) -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause == null) {
+                onSuccess(timed ? System.nanoTime() - start : 0);
+            } else if (cause instanceof DataAccessException || cause instanceof RedisException) {
+                onFailure();
+            } else {
+                releaseProbe();
+            }
+        });
+        return future;
+    }
+
+    public void run(Runnable redisCall) {
+        execute(() -> {
+            redisCall.run();
+            return null;
+        }, () -> null);
+    }
+
+    /** Whether Redis calls currently go through normally; half-open counts as not closed. */
+    public boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    boolean tryAcquire() {
+        return state == State.CLOSED || tryAcquireProbe();
+    }
+
+    void onSuccess(long elapsedNanos) {
+        if (elapsedNanos <= slowCallThresholdNanos && state == State.CLOSED && consecutiveFailures == 0) {
+            return;
+        }
+        recordSuccess(elapsedNanos);
+    }
+
+    private synchronized boolean tryAcquireProbe() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && clock.millis() - openedAtMillis >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void recordSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallThresholdNanos) {
+            onFailure();
+            return;
+        }
+        if (state == State.OPEN) {
+            // A call started before the breaker opened; only the probe decides when to close.
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            log.info("Redis cache circuit closed after a successful probe");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            if (state == State.CLOSED) {
+                log.warn("Redis cache circuit opened after {} consecutive failed or slow calls; bypassing Redis for {} ms",
+                    consecutiveFailures, openDurationMillis);
+            }
+            state = State.OPEN;
+            openedAtMillis = clock.millis();
+        }
+    }
+}
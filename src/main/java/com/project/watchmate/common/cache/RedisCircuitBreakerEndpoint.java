@@ -0,0 +1,28 @@
+package com.project.watchmate.common.cache;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/cachecircuit}) reporting whether the cache tier is currently
+ * bypassing Redis. The same state is published as the {@code watchmate.cache.redis.circuit.state} gauge.
+ */
+@Endpoint(id = "cachecircuit")
+public class RedisCircuitBreakerEndpoint {
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisCircuitBreakerEndpoint(RedisCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> circuit() {
+        return Map.of(
+            "state", circuitBreaker.getState().name(),
+            "consecutiveFailures", circuitBreaker.getConsecutiveFailures()
+        );
+    }
+}
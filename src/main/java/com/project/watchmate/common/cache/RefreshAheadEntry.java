@@ -0,0 +1,23 @@
+package com.project.watchmate.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored form of a value in a refresh-ahead cache. The Redis TTL is the hard expiry; {@code refreshAt}
+ * is the soft expiry after which the value is still served but a background reload is started.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshAheadEntry {
+
+    private Object value;
+
+    private long refreshAt;
+
+    public boolean isRefreshDue(long nowMillis) {
+        return nowMillis >= refreshAt;
+    }
+}
@@ -0,0 +1,217 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces cache misses for the same key so only one loader runs at a time, first within the JVM and
+ * then across nodes through a short-lease Redis lock ({@code SET NX PX}).
+ *
+ * <p>The node holding the lock loads and writes the value; other nodes poll the cache until the value
+ * appears. If the lock holder dies, its lease expires and a waiter takes over. If Redis itself is
+ * unavailable or the wait exceeds the configured timeout, the caller loads on its own, so coordination
+ * can only delay a load, never prevent it. Callers waiting on a load in the same JVM are bounded by the
+ * same timeout. While the {@link RedisCircuitBreaker} is not closed, loads
+ * are only coalesced within the JVM.
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    static final String LOADS_METRIC = "watchmate.cache.loads";
+
+    static final String LOCK_KEY_PREFIX = "watchmate::lock::";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Duration lease;
+
+    private final Duration waitTimeout;
+
+    private final Duration pollInterval;
+
+    private final CacheTierMetrics metrics;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(
+        StringRedisTemplate redisTemplate,
+        Duration lease,
+        Duration waitTimeout,
+        Duration pollInterval,
+        CacheTierMetrics metrics
+    ) {
+        this(redisTemplate, lease, waitTimeout, pollInterval, metrics, null);
+    }
+
+    public SingleFlightLoader(
+        StringRedisTemplate redisTemplate,
+        Duration lease,
+        Duration waitTimeout,
+        Duration pollInterval,
+        CacheTierMetrics metrics,
+        RedisCircuitBreaker circuitBreaker
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.metrics = metrics;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * @param cachedValue reads the current value from the shared tier, or {@code null} when absent
+     * @param loadAndStore runs the real loader and writes its result to the cache
+     */
+    public Object load(String cacheName, String key, Supplier<Object> cachedValue, Callable<Object> loadAndStore) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            metrics.increment(LOADS_METRIC, cacheName, "role", "coalesced_local");
+            try {
+                return join(existing, waitTimeout);
+            } catch (TimeoutException ex) {
+                metrics.increment(LOADS_METRIC, cacheName, "role", "wait_timeout");
+                return call(loadAndStore);
+            }
+        }
+
+        try {
+            Object value = loadAcrossNodes(cacheName, key, cachedValue, loadAndStore);
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            // Errors too, or the callers waiting on this flight would only be released by their timeout.
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object loadAcrossNodes(String cacheName, String key, Supplier<Object> cachedValue, Callable<Object> loadAndStore) {
+        if (redisTemplate == null) {
+            metrics.increment(LOADS_METRIC, cacheName, "role", "leader");
+            return call(loadAndStore);
+        }
+
+        if (circuitBreaker != null && !circuitBreaker.isClosed()) {
+            metrics.increment(LOADS_METRIC, cacheName, "role", "uncoordinated");
+            return call(loadAndStore);
+        }
+
+        String lockKey = LOCK_KEY_PREFIX + cacheName + "::" + key;
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            String token;
+            try {
+                token = tryAcquire(lockKey);
+            } catch (RuntimeException ex) {
+                log.warn("Cache load lock unavailable cache={} key={}", cacheName, key, ex);
+                metrics.increment(LOADS_METRIC, cacheName, "role", "uncoordinated");
+                return call(loadAndStore);
+            }
+
+            if (token != null) {
+                try {
+                    // Another node may have finished loading between our cache miss and acquiring the lock.
+                    Object loadedElsewhere = cachedValue.get();
+                    if (loadedElsewhere != null) {
+                        metrics.increment(LOADS_METRIC, cacheName, "role", "coalesced_remote");
+                        return loadedElsewhere;
+                    }
+                    metrics.increment(LOADS_METRIC, cacheName, "role", "leader");
+                    return call(loadAndStore);
+                } finally {
+                    release(lockKey, token);
+                }
+            }
+
+            if (!sleepPollInterval() || System.nanoTime() >= deadline) {
+                metrics.increment(LOADS_METRIC, cacheName, "role", "wait_timeout");
+                return call(loadAndStore);
+            }
+
+            Object loadedByLeader = cachedValue.get();
+            if (loadedByLeader != null) {
+                metrics.increment(LOADS_METRIC, cacheName, "role", "coalesced_remote");
+                return loadedByLeader;
+            }
+        }
+    }
+
+    private String tryAcquire(String lockKey) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (RuntimeException ex) {
+            // The lease expires on its own; waiters only lose up to one lease period.
+            log.warn("Cache load lock release failed key={}", lockKey, ex);
+        }
+    }
+
+    private boolean sleepPollInterval() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Object call(Callable<Object> loadAndStore) {
+        try {
+            return loadAndStore.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> flight, Duration waitTimeout) throws TimeoutException {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight cache load", ex);
+        }
+    }
+}
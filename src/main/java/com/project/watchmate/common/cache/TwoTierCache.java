@@ -0,0 +1,567 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis-backed cache with an optional bounded in-heap near cache in front of it.
+ *
+ * <p>Reads check the near cache first and fall back to Redis, copying remote hits into the near cache.
+ * Writes and evictions always go to Redis, update the local near cache in-line and broadcast an
+ * invalidation so other nodes drop their copy. Near-cached values are shared instances, so callers
+ * must treat them as immutable snapshots, which every cached DTO in this application already is.
+ *
+ * <p>Caches with a refresh-after duration store values as {@link RefreshAheadEntry}. A synchronized
+ * read ({@code @Cacheable(sync = true)}) that finds an entry past its refresh point returns it
+ * immediately and reloads it on the refresh executor; the Redis TTL only removes the entry if those
+ * reloads keep failing.
+ *
+ * <p>With a {@link SingleFlightLoader}, a synchronized read that misses both tiers loads through it, so
+ * concurrent misses for one key share a single load across threads and nodes.
+ *
+ * <p>Negative-caching caches store a {@link NotFoundTombstone} when the loader fails with a
+ * {@link MediaNotFoundException}; synchronized reads replay that exception from the tombstone, and plain
+ * reads treat it as a miss.
+ *
+ * <p>Reactive {@code @Cacheable} methods go through {@link #retrieve(Object, Supplier)}, which reads and
+ * writes Redis asynchronously and never blocks the calling thread. It follows the same near-cache,
+ * refresh-ahead and tombstone rules, but does not take the single-flight lease, which would have to be
+ * awaited; concurrent reactive misses for one key may each load. A failing Redis read or write falls back
+ * to the loader's own result. The loader runs with the caller's {@link TmdbRequestPriority} even when Redis
+ * completes the lookup on one of its own threads.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final Cache remoteCache;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    private final CacheTierMetrics metrics;
+
+    private final Duration refreshAfter;
+
+    private final Executor refreshExecutor;
+
+    private final Clock clock;
+
+    private final SingleFlightLoader singleFlightLoader;
+
+    private final CacheTtlPolicy ttlPolicy;
+
+    private final boolean negativeCache;
+
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Only {@code remoteCache} is required. Without a {@code refreshExecutor} refresh-ahead is off, and
+     * {@code metrics}, {@code clock} and {@code ttlPolicy} default to no-op metrics, the UTC system clock
+     * and the configured TTLs.
+     *
+     * @param refreshAfter the cache's configured TTL; {@code ttlPolicy} may move each entry's refresh
+     *                     point away from it based on the value
+     * @param negativeCache whether loader not-found failures are stored as {@link NotFoundTombstone}s
+     */
+    @Builder
+    private TwoTierCache(
+        Cache remoteCache,
+        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+        CacheInvalidationBroadcaster broadcaster,
+        CacheTierMetrics metrics,
+        Duration refreshAfter,
+        Executor refreshExecutor,
+        Clock clock,
+        SingleFlightLoader singleFlightLoader,
+        CacheTtlPolicy ttlPolicy,
+        boolean negativeCache
+    ) {
+        this.remoteCache = remoteCache;
+        this.nearCache = nearCache;
+        this.broadcaster = broadcaster;
+        this.metrics = metrics == null ? CacheTierMetrics.noop() : metrics;
+        this.refreshAfter = refreshExecutor == null ? null : refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+        this.singleFlightLoader = singleFlightLoader;
+        this.ttlPolicy = ttlPolicy == null ? CacheTtlPolicy.configured() : ttlPolicy;
+        this.negativeCache = negativeCache;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object stored = lookup(key);
+        return stored == null || stored instanceof NotFoundTombstone ? null : new SimpleValueWrapper(unwrap(stored));
+    }
+
+    /**
+     * Whether {@code key} holds a {@link NotFoundTombstone}, which {@link #get(Object)} reports as a plain
+     * miss. Lets callers that warm the cache tell a title known to be missing upstream from a cold entry.
+     */
+    public boolean isTombstoned(Object key) {
+        return lookup(key) instanceof NotFoundTombstone;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookup(key);
+        if (stored != null) {
+            if (stored instanceof NotFoundTombstone tombstone) {
+                throw replayNotFound(key, valueLoader, tombstone);
+            }
+            if (stored instanceof RefreshAheadEntry entry && entry.isRefreshDue(clock.millis())) {
+                scheduleRefresh(key, valueLoader);
+            }
+            return (T) unwrap(stored);
+        }
+
+        if (singleFlightLoader == null) {
+            return loadAndPut(key, valueLoader);
+        }
+        return (T) singleFlightLoader.load(
+            getName(),
+            nearKey(key),
+            () -> {
+                Object loadedElsewhere = lookupRemote(key);
+                if (loadedElsewhere instanceof NotFoundTombstone tombstone) {
+                    throw replayNotFound(key, valueLoader, tombstone);
+                }
+                return loadedElsewhere == null ? null : unwrap(loadedElsewhere);
+            },
+            () -> loadAndPut(key, valueLoader)
+        );
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        Object nearValue = getNear(key);
+        if (nearValue != null) {
+            return CompletableFuture.completedFuture(nearValue instanceof NotFoundTombstone
+                ? null
+                : new SimpleValueWrapper(unwrap(nearValue)));
+        }
+
+        CompletableFuture<?> remoteValue;
+        try {
+            remoteValue = remoteCache.retrieve(key);
+        } catch (RuntimeException ex) {
+            log.warn("Cache async read failed cache={} key={}", getName(), key, ex);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (remoteValue == null) {
+            return null;
+        }
+
+        return remoteValue.<ValueWrapper>handle((result, ex) -> {
+            if (ex != null) {
+                log.warn("Cache async read failed cache={} key={}", getName(), key, unwrapCompletion(ex));
+                return null;
+            }
+            Object stored = result instanceof ValueWrapper wrapper ? wrapper.get() : result;
+            if (stored == null) {
+                metrics.remoteMiss(getName());
+                return null;
+            }
+            metrics.remoteHit(getName());
+            putNear(key, stored);
+            return stored instanceof NotFoundTombstone ? null : new SimpleValueWrapper(unwrap(stored));
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> callerLoader) {
+        // Redis completes the lookup on an I/O thread, which then runs the loader; keep the caller's TMDB priority.
+        Supplier<CompletableFuture<T>> valueLoader = TmdbRequestPriority.propagate(callerLoader);
+        Object nearValue = getNear(key);
+        if (nearValue != null) {
+            return resolveCached(key, nearValue, valueLoader);
+        }
+
+        AtomicReference<CompletableFuture<Object>> load = new AtomicReference<>();
+        CompletableFuture<Object> remoteValue;
+        try {
+            remoteValue = remoteCache.retrieve(key, () -> {
+                CompletableFuture<Object> loaded = loadAsync(key, valueLoader);
+                load.set(loaded);
+                return loaded;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Cache async read failed cache={} key={}", getName(), key, ex);
+            return valueLoader.get();
+        }
+
+        return remoteValue.<CompletableFuture<T>>handle((stored, ex) -> {
+            CompletableFuture<Object> loaded = load.get();
+            if (ex != null) {
+                Throwable cause = unwrapCompletion(ex);
+                if (cause instanceof LoaderFailure failure) {
+                    return failure.getCause() == null
+                        ? CompletableFuture.<T>completedFuture(null)
+                        : CompletableFuture.<T>failedFuture(failure.getCause());
+                }
+                if (loaded == null) {
+                    log.warn("Cache async read failed cache={} key={}", getName(), key, cause);
+                    return valueLoader.get();
+                }
+                // The value was loaded but could not be stored; serve it anyway, the next read loads again.
+                log.warn("Cache async write failed cache={} key={}", getName(), key, cause);
+                return loaded.thenCompose(this::<T>resolveLoaded);
+            }
+            if (loaded == null) {
+                metrics.remoteHit(getName());
+                putNear(key, stored);
+                return resolveCached(key, stored, valueLoader);
+            }
+            metrics.remoteMiss(getName());
+            putNear(key, stored);
+            broadcastEvictAsync(key);
+            return resolveLoaded(stored);
+        }).thenCompose(future -> future);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object stored = wrap(value);
+        remoteCache.put(key, stored);
+        putNear(key, stored);
+        broadcastEvict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, wrap(value));
+        evictNear(key);
+        broadcastEvict(key);
+        return existing == null ? null : new SimpleValueWrapper(unwrap(existing.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        evictNear(key);
+        broadcastEvict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        evictNear(key);
+        broadcastEvict(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearNear();
+        broadcastClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        clearNear();
+        broadcastClear();
+        return invalidated;
+    }
+
+    void evictNear(Object key) {
+        if (nearCache != null) {
+            nearCache.invalidate(nearKey(key));
+        }
+    }
+
+    void clearNear() {
+        if (nearCache != null) {
+            nearCache.invalidateAll();
+        }
+    }
+
+    boolean hasNearCache() {
+        return nearCache != null;
+    }
+
+    boolean isRefreshAhead() {
+        return refreshAfter != null;
+    }
+
+    Cache remoteCache() {
+        return remoteCache;
+    }
+
+    /**
+     * Returns the stored form of the value (possibly a {@link RefreshAheadEntry}) from the near cache
+     * or Redis, or {@code null} on a miss in both tiers.
+     */
+    private Object lookup(Object key) {
+        Object nearValue = getNear(key);
+        if (nearValue != null) {
+            return nearValue;
+        }
+        return lookupRemote(key);
+    }
+
+    private Object lookupRemote(Object key) {
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            metrics.remoteMiss(getName());
+            return null;
+        }
+
+        metrics.remoteHit(getName());
+        putNear(key, remoteValue.get());
+        return remoteValue.get();
+    }
+
+    private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+        T value = load(key, valueLoader);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception ex) {
+            MediaNotFoundException notFound = notFoundCause(ex);
+            if (negativeCache && notFound != null) {
+                putTombstone(key, notFound);
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    /**
+     * Runs the loader and returns the value in its stored form; a not-found failure becomes a tombstone
+     * for negative-caching caches, and any other failure is marked so it is not mistaken for a Redis error.
+     */
+    private <T> CompletableFuture<Object> loadAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<T> loaded;
+        try {
+            loaded = valueLoader.get();
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(new LoaderFailure(ex));
+        }
+
+        return loaded.<Object>handle((value, ex) -> {
+            if (ex != null) {
+                Throwable cause = unwrapCompletion(ex);
+                MediaNotFoundException notFound = notFoundCause(cause);
+                if (negativeCache && notFound != null) {
+                    metrics.increment(CacheTierMetrics.NOT_FOUND_METRIC, getName(), "result", "stored");
+                    return new NotFoundTombstone(notFound.getMessage());
+                }
+                throw new LoaderFailure(cause);
+            }
+            if (value == null) {
+                throw new LoaderFailure(null);
+            }
+            return wrap(value);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> resolveCached(Object key, Object stored, Supplier<CompletableFuture<T>> valueLoader) {
+        if (stored instanceof NotFoundTombstone tombstone) {
+            metrics.increment(CacheTierMetrics.NOT_FOUND_METRIC, getName(), "result", "replayed");
+            return CompletableFuture.failedFuture(new MediaNotFoundException(tombstone.getMessage()));
+        }
+        if (stored instanceof RefreshAheadEntry entry && entry.isRefreshDue(clock.millis())) {
+            scheduleRefresh(key, () -> valueLoader.get().join());
+        }
+        return CompletableFuture.completedFuture((T) unwrap(stored));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> resolveLoaded(Object stored) {
+        if (stored instanceof NotFoundTombstone tombstone) {
+            return CompletableFuture.failedFuture(new MediaNotFoundException(tombstone.getMessage()));
+        }
+        return CompletableFuture.completedFuture((T) unwrap(stored));
+    }
+
+    private static Throwable unwrapCompletion(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * Loader failures (and empty results, which have no cause) travel through the remote cache's future
+     * in this wrapper so they are rethrown as-is instead of triggering the Redis fallback.
+     */
+    private static final class LoaderFailure extends RuntimeException {
+
+        LoaderFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private void putTombstone(Object key, MediaNotFoundException notFound) {
+        try {
+            put(key, new NotFoundTombstone(notFound.getMessage()));
+            metrics.increment(CacheTierMetrics.NOT_FOUND_METRIC, getName(), "result", "stored");
+        } catch (RuntimeException ex) {
+            // Losing the tombstone only costs another upstream lookup; the not-found error still propagates.
+            log.warn("Cache not-found tombstone write failed cache={} key={}", getName(), key, ex);
+        }
+    }
+
+    /**
+     * Raised the way a loader failure is, so {@code @Cacheable(sync = true)} callers see the same
+     * {@link MediaNotFoundException} the loader would have thrown.
+     */
+    private ValueRetrievalException replayNotFound(Object key, Callable<?> valueLoader, NotFoundTombstone tombstone) {
+        metrics.increment(CacheTierMetrics.NOT_FOUND_METRIC, getName(), "result", "replayed");
+        return new ValueRetrievalException(key, valueLoader, new MediaNotFoundException(tombstone.getMessage()));
+    }
+
+    /** Loader exceptions arrive wrapped by the caching interceptor, so the not-found cause is searched for. */
+    private static MediaNotFoundException notFoundCause(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MediaNotFoundException notFound) {
+                return notFound;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleRefresh(Object key, Callable<?> valueLoader) {
+        String refreshKey = nearKey(key);
+        if (!refreshesInFlight.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, refreshKey, valueLoader));
+        } catch (RejectedExecutionException ex) {
+            refreshesInFlight.remove(refreshKey);
+            metrics.increment(CacheTierMetrics.REFRESH_METRIC, getName(), "result", "rejected");
+        }
+    }
+
+    private void refresh(Object key, String refreshKey, Callable<?> valueLoader) {
+        try {
+            Object value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            metrics.increment(CacheTierMetrics.REFRESH_METRIC, getName(), "result", "success");
+        } catch (Exception ex) {
+            // The stale entry keeps being served until its hard TTL; the next read past the refresh point retries.
+            metrics.increment(CacheTierMetrics.REFRESH_METRIC, getName(), "result", "failure");
+            log.warn("Cache refresh-ahead failed cache={} key={}", getName(), key, ex);
+        } finally {
+            refreshesInFlight.remove(refreshKey);
+        }
+    }
+
+    private Object wrap(Object value) {
+        if (refreshAfter == null || value == null || value instanceof RefreshAheadEntry || value instanceof NotFoundTombstone) {
+            return value;
+        }
+        return new RefreshAheadEntry(value, clock.millis() + ttlPolicy.timeToLive(getName(), value, refreshAfter).toMillis());
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof RefreshAheadEntry entry ? entry.getValue() : stored;
+    }
+
+    private Object getNear(Object key) {
+        if (nearCache == null) {
+            return null;
+        }
+
+        Object value = nearCache.getIfPresent(nearKey(key));
+        if (value != null) {
+            metrics.nearHit(getName());
+        } else {
+            metrics.nearMiss(getName());
+        }
+        return value;
+    }
+
+    private void putNear(Object key, Object value) {
+        if (nearCache != null && value != null) {
+            nearCache.put(nearKey(key), value);
+        }
+    }
+
+    private void broadcastEvict(Object key) {
+        if (nearCache != null && broadcaster != null) {
+            broadcaster.publishEvict(getName(), nearKey(key));
+        }
+    }
+
+    /**
+     * Async completions run on the Redis client's I/O threads, which must not issue blocking commands,
+     * so the invalidation is published from the refresh executor or the common pool instead.
+     */
+    private void broadcastEvictAsync(Object key) {
+        if (nearCache != null && broadcaster != null) {
+            Executor executor = refreshExecutor != null ? refreshExecutor : ForkJoinPool.commonPool();
+            try {
+                executor.execute(() -> broadcastEvict(key));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Cache invalidation broadcast rejected cache={} key={}", getName(), key);
+            }
+        }
+    }
+
+    private void broadcastClear() {
+        if (nearCache != null && broadcaster != null) {
+            broadcaster.publishClear(getName());
+        }
+    }
+
+    /**
+     * Redis keys are rendered through the cache conversion service; every key in this application is
+     * already a String, so the string form is also what travels on the invalidation channel.
+     */
+    private static String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+}
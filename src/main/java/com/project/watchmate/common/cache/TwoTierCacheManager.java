@@ -0,0 +1,175 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+
+/**
+ * Wraps the Redis cache manager so every cache it hands out is a {@link TwoTierCache}. Near-cache
+ * sizing comes from {@link WatchMateCacheProperties}; caches sized to zero are passed through with
+ * Redis as their only tier. Refresh-ahead caches reload on a small bounded pool owned by this manager,
+ * kept separate from the application task executor so a slow upstream cannot starve other work.
+ * With a {@link RedisCircuitBreaker}, every Redis tier is wrapped in a {@link CircuitBreakingCache}.
+ */
+public class TwoTierCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager remoteCacheManager;
+
+    private final WatchMateCacheProperties cacheProperties;
+
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    private final CacheTierMetrics metrics;
+
+    private final Map<String, Duration> cacheTtls;
+
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private final SingleFlightLoader singleFlightLoader;
+
+    private final CacheTtlPolicy ttlPolicy;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+        CacheManager remoteCacheManager,
+        WatchMateCacheProperties cacheProperties,
+        CacheInvalidationBroadcaster broadcaster,
+        CacheTierMetrics metrics
+    ) {
+        this(remoteCacheManager, cacheProperties, broadcaster, metrics, Map.of(), null, CacheTtlPolicy.configured(), null);
+    }
+
+    /**
+     * @param cacheTtls normal TTL per cache name; refresh-ahead caches start reloading once an entry is
+     *                  this old
+     * @param singleFlightLoader coordinates concurrent misses; {@code null} disables coordination
+     * @param ttlPolicy adjusts the refresh point of each refresh-ahead entry from its value
+     * @param circuitBreaker guards every remote cache call; {@code null} calls Redis unguarded
+     */
+    public TwoTierCacheManager(
+        CacheManager remoteCacheManager,
+        WatchMateCacheProperties cacheProperties,
+        CacheInvalidationBroadcaster broadcaster,
+        CacheTierMetrics metrics,
+        Map<String, Duration> cacheTtls,
+        SingleFlightLoader singleFlightLoader,
+        CacheTtlPolicy ttlPolicy,
+        RedisCircuitBreaker circuitBreaker
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.cacheProperties = cacheProperties;
+        this.broadcaster = broadcaster;
+        this.metrics = metrics;
+        this.cacheTtls = cacheTtls;
+        this.refreshExecutor = createRefreshExecutor(cacheProperties.getRefreshAhead());
+        this.singleFlightLoader = singleFlightLoader;
+        this.ttlPolicy = ttlPolicy;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictNear(key);
+        }
+    }
+
+    public void clearLocal(String cacheName) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            // Re-read the generation first so the near cache is not refilled from the cleared one.
+            Cache remoteCache = cache.remoteCache() instanceof CircuitBreakingCache circuitBreakingCache
+                ? circuitBreakingCache.getDelegate()
+                : cache.remoteCache();
+            if (remoteCache instanceof GenerationalRedisCache generationalCache) {
+                generationalCache.forgetGeneration();
+            }
+            cache.clearNear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        Duration refreshAfter = cacheProperties.refreshAhead(name) ? cacheTtls.get(name) : null;
+        return TwoTierCache.builder()
+            .remoteCache(circuitBreaker == null ? remoteCache : new CircuitBreakingCache(remoteCache, circuitBreaker))
+            .nearCache(createNearCache(name))
+            .broadcaster(broadcaster)
+            .metrics(metrics)
+            .refreshAfter(refreshAfter)
+            .refreshExecutor(refreshExecutor)
+            .singleFlightLoader(cacheProperties.singleFlight(name) ? singleFlightLoader : null)
+            .ttlPolicy(ttlPolicy)
+            .negativeCache(cacheProperties.negativeCache(name))
+            .build();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> createNearCache(String name) {
+        long maxSize = cacheProperties.nearCacheMaxSize(name);
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(cacheProperties.nearCacheTtl(name))
+            .build();
+        if (metrics.meterRegistry() != null) {
+            Gauge.builder("watchmate.cache.near.size", nearCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(metrics.meterRegistry());
+        }
+        return nearCache;
+    }
+
+    private static ThreadPoolExecutor createRefreshExecutor(WatchMateCacheProperties.RefreshAhead refreshAhead) {
+        int threads = Math.max(1, refreshAhead.getThreads());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, refreshAhead.getQueueCapacity())),
+            new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
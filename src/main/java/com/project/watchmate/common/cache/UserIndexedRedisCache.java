@@ -0,0 +1,179 @@
+package com.project.watchmate.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * Redis cache for user-scoped keys ({@code user:{id}:...}) that records every entry it writes in a
+ * per-user Redis set, so all of one user's entries can be dropped with {@code SMEMBERS} and
+ * {@code UNLINK} instead of a keyspace-wide {@code SCAN}.
+ *
+ * <p>The index membership is written first, by a Lua script that touches only the index key, and the
+ * entry after it through the wrapped cache, so no command spans keys in different Redis Cluster slots and
+ * an entry is never visible without being indexed. The index expires a little after its newest entry;
+ * members whose entries were never written, already expired, or belong to a cleared generation are
+ * harmless to unlink. Reads, single-key evictions and {@link #clear()} go straight to the wrapped
+ * {@link RedisCache}.
+ */
+public class UserIndexedRedisCache implements Cache {
+
+    private static final String USER_KEY_PREFIX = "user:";
+
+    /** Adds the entry key to the index and keeps the index alive at least {@code ARGV[2]} ms. */
+    private static final byte[] INDEX_SCRIPT = """
+        redis.call('sadd', KEYS[1], ARGV[1])
+        if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then
+          redis.call('pexpire', KEYS[1], ARGV[2])
+        end
+        return 1
+        """.getBytes(StandardCharsets.UTF_8);
+
+    /** How much longer than the entry the index lives, covering the gap between the two writes. */
+    private static final Duration INDEX_TTL_MARGIN = Duration.ofSeconds(1);
+
+    private final RedisCache delegate;
+
+    private final RedisConnectionFactory connectionFactory;
+
+    private final String indexKeyPrefix;
+
+    /**
+     * @param indexKeyPrefix prefix of the index set keys; stable across generations when the wrapped
+     *                       cache is a {@link GenerationalRedisCache}
+     */
+    public UserIndexedRedisCache(RedisCache delegate, RedisConnectionFactory connectionFactory, String indexKeyPrefix) {
+        this.delegate = delegate;
+        this.connectionFactory = connectionFactory;
+        this.indexKeyPrefix = indexKeyPrefix;
+    }
+
+    /**
+     * Returns the cache-relative index key for a user-scoped cache key, or {@code null} when the key
+     * does not start with {@code user:{id}:}.
+     */
+    static String userIndexKey(Object key) {
+        String value = String.valueOf(key);
+        if (!value.startsWith(USER_KEY_PREFIX)) {
+            return null;
+        }
+        int end = value.indexOf(':', USER_KEY_PREFIX.length());
+        if (end <= USER_KEY_PREFIX.length()) {
+            return null;
+        }
+        try {
+            return WatchMateCacheKeys.userIndex(Long.valueOf(value.substring(USER_KEY_PREFIX.length(), end)));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        index(key, value);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        index(key, value);
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * Records the entry's Redis key in its user's index before the entry is written. Keys that are not
+     * user-scoped, and entries without an expiry, are not indexed.
+     */
+    private void index(Object key, Object value) {
+        String indexKey = userIndexKey(key);
+        if (value == null || indexKey == null) {
+            return;
+        }
+
+        RedisCacheConfiguration config = delegate.getCacheConfiguration();
+        Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        byte[] indexRedisKey = ByteUtils.getBytes(config.getKeySerializationPair().write(indexKeyPrefix + indexKey));
+        byte[] entryKey = ByteUtils.getBytes(config.getKeySerializationPair().write(config.getKeyPrefixFor(getName()) + key));
+        byte[] ttlMillis = Long.toString(ttl.plus(INDEX_TTL_MARGIN).toMillis()).getBytes(StandardCharsets.UTF_8);
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().eval(INDEX_SCRIPT, ReturnType.INTEGER, 1, indexRedisKey, entryKey, ttlMillis);
+        }
+    }
+}
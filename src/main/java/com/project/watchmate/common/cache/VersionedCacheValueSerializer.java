@@ -0,0 +1,161 @@
+package com.project.watchmate.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Cache value serializer that prefixes every payload with a small header:
+ *
+ * <pre>
+ * byte 0    magic (0xB7, never the first byte of a JSON document)
+ * byte 1    header version
+ * byte 2    {@link CacheValueFormat} id
+ * byte 3    flags (bit 0 = deflate-compressed)
+ * byte 4-7  uncompressed length, only present when compressed
+ * </pre>
+ *
+ * Values without the magic byte are entries written before the header existed and are decoded with the
+ * plain JSON serializer, so caches can switch format without a flush.
+ */
+public class VersionedCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB7;
+
+    static final byte HEADER_VERSION = 1;
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final int HEADER_LENGTH = 4;
+
+    private static final int LENGTH_FIELD_BYTES = Integer.BYTES;
+
+    private final CacheValueFormat writeFormat;
+
+    private final RedisSerializer<Object> jsonSerializer;
+
+    private final RedisSerializer<Object> smileSerializer;
+
+    private final int compressionThresholdBytes;
+
+    VersionedCacheValueSerializer(
+        CacheValueFormat writeFormat,
+        RedisSerializer<Object> jsonSerializer,
+        RedisSerializer<Object> smileSerializer,
+        int compressionThresholdBytes
+    ) {
+        this.writeFormat = writeFormat;
+        this.jsonSerializer = jsonSerializer;
+        this.smileSerializer = smileSerializer;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    public static boolean hasHeader(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] payload = serializerFor(writeFormat).serialize(value);
+        if (payload == null) {
+            return null;
+        }
+
+        byte flags = 0;
+        int uncompressedLength = payload.length;
+        if (compressionThresholdBytes > 0 && payload.length >= compressionThresholdBytes) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length + LENGTH_FIELD_BYTES < payload.length) {
+                payload = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+
+        boolean compressed = (flags & FLAG_COMPRESSED) != 0;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + (compressed ? LENGTH_FIELD_BYTES : 0) + payload.length);
+        buffer.put(MAGIC).put(HEADER_VERSION).put(writeFormat.id()).put(flags);
+        if (compressed) {
+            buffer.putInt(uncompressedLength);
+        }
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!hasHeader(bytes)) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes[1] != HEADER_VERSION) {
+            throw new SerializationException("Unsupported cache value header version " + bytes[1]);
+        }
+
+        CacheValueFormat format = CacheValueFormat.fromId(bytes[2]);
+        if (format == null) {
+            throw new SerializationException("Unknown cache value format id " + bytes[2]);
+        }
+
+        byte[] payload;
+        if ((bytes[3] & FLAG_COMPRESSED) != 0) {
+            int uncompressedLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_FIELD_BYTES).getInt();
+            payload = inflate(bytes, HEADER_LENGTH + LENGTH_FIELD_BYTES, uncompressedLength);
+        } else {
+            payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        }
+        return serializerFor(format).deserialize(payload);
+    }
+
+    private RedisSerializer<Object> serializerFor(CacheValueFormat format) {
+        return format == CacheValueFormat.SMILE ? smileSerializer : jsonSerializer;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int uncompressedLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+            byte[] output = new byte[uncompressedLength];
+            int read = 0;
+            while (read < uncompressedLength && !inflater.finished()) {
+                int inflated = inflater.inflate(output, read, uncompressedLength - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != uncompressedLength) {
+                throw new SerializationException("Truncated compressed cache value");
+            }
+            return output;
+        } catch (DataFormatException ex) {
+            throw new SerializationException("Corrupt compressed cache value", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
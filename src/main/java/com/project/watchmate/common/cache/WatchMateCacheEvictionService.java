@@ -1,14 +1,16 @@
 package com.project.watchmate.common.cache;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
-import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -28,23 +30,44 @@ public class WatchMateCacheEvictionService {
      *   watchmate::                           ← prefixCacheNameWith() in CacheConfig
      *   watchlistSummaryPages                 ← WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES
      *   ::                                    ← Spring separator
+     *   g{generation}::                       ← CacheGenerations, bumped on a full clear
      *   user:{userId}:page:{p}:size:{s}:sort:id_asc  ← WatchMateCacheKeys.watchlistPage(...)
      * </pre>
      *
      * Full key example:
-     * {@code watchmate::watchlistSummaryPages::user:1:page:0:size:20:sort:id_asc}
+     * {@code watchmate::watchlistSummaryPages::g0::user:1:page:0:size:20:sort:id_asc}
+     *
+     * <p>Index sets use this prefix without a generation, so they find entries written
+     * under any generation.
      */
     static final String WATCHLIST_PAGE_KEY_PREFIX = "watchmate::watchlistSummaryPages::";
 
+    /**
+     * Prefix of the per-user index sets; appending a user id gives the same key as
+     * {@code WATCHLIST_PAGE_KEY_PREFIX + WatchMateCacheKeys.userIndex(userId)}.
+     */
+    static final String WATCHLIST_USER_INDEX_KEY_PREFIX = WATCHLIST_PAGE_KEY_PREFIX + "index:user:";
+
+    /** Keys unlinked per pipelined round trip when evicting through an index set. */
+    static final int UNLINK_BATCH_SIZE = 500;
+
+    /** Users whose pages are evicted per step when evicting through a media index set. */
+    static final int MEDIA_USER_BATCH_SIZE = 100;
+
     private final StringRedisTemplate stringRedisTemplate;
 
-    public WatchMateCacheEvictionService() {
-        this(null);
-    }
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
-    @Autowired
-    public WatchMateCacheEvictionService(StringRedisTemplate stringRedisTemplate) {
+    /**
+     * @param stringRedisTemplate {@code null} when Redis is not configured, which turns the
+     *                            user- and media-scoped evictions into no-ops
+     */
+    public WatchMateCacheEvictionService(
+        StringRedisTemplate stringRedisTemplate,
+        ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker
+    ) {
         this.stringRedisTemplate = stringRedisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker.getIfAvailable();
     }
 
     @Caching(evict = {
@@ -75,6 +98,27 @@ public class WatchMateCacheEvictionService {
     public void evictPublicSeasonMetadata(Long tmdbId, Integer seasonNumber) {
     }
 
+    @CacheEvict(
+        cacheNames = TmdbCacheNames.TMDB_MEDIA_DETAILS,
+        key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).media(#type, #tmdbId)"
+    )
+    public void evictTmdbMediaDetails(MediaType type, Long tmdbId) {
+    }
+
+    @CacheEvict(
+        cacheNames = TmdbCacheNames.TMDB_SHOW_DETAILS,
+        key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).show(#tmdbId)"
+    )
+    public void evictTmdbShowDetails(Long tmdbId) {
+    }
+
+    @CacheEvict(
+        cacheNames = TmdbCacheNames.TMDB_SEASON_DETAILS,
+        key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).season(#tmdbId, #seasonNumber)"
+    )
+    public void evictTmdbSeasonDetails(Long tmdbId, Integer seasonNumber) {
+    }
+
     @CacheEvict(
         cacheNames = TmdbCacheNames.TMDB_MEDIA_CREDITS,
         key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).credits(#type, #tmdbId)"
@@ -138,9 +182,11 @@ public class WatchMateCacheEvictionService {
      * Evicts all cached watchlist summary page entries for a specific user without
      * touching any other user's entries.
      *
-     * <p>Uses Redis SCAN (not the blocking KEYS command) to find all page-variant
-     * entries for the given user and deletes them in a single DEL call per cursor
-     * batch. SCAN is non-blocking and safe for production Redis instances.
+     * <p>{@link UserIndexedRedisCache} records every page key it writes in a per-user
+     * index set, so eviction is one {@code SMEMBERS} followed by pipelined single-key
+     * {@code UNLINK}s of the members. The cost depends only on how many pages this user
+     * has cached, not on the size of the Redis keyspace, and no command spans keys in
+     * different cluster slots.
      *
      * <p>Eviction failure is best-effort: a Redis connectivity problem is logged as
      * WARN and the caller's request continues normally. The 5-minute TTL guarantees
@@ -151,10 +197,10 @@ public class WatchMateCacheEvictionService {
             log.debug("No Redis bean; skipping user-scoped watchlist cache eviction for user={}", userId);
             return;
         }
-        String pattern = buildWatchlistEvictionPattern(userId);
+        String indexKey = buildWatchlistIndexKey(userId);
         try {
-            long deleted = scanAndDeleteByPattern(pattern);
-            if (deleted > 0) {
+            Long deleted = executeGuarded(() -> evictIndexedKeys(indexKey), indexKey);
+            if (deleted != null && deleted > 0) {
                 log.debug("Evicted {} watchlist summary page entries for user={}", deleted, userId);
             }
         } catch (Exception e) {
@@ -163,40 +209,151 @@ public class WatchMateCacheEvictionService {
     }
 
     /**
-     * Returns the Redis SCAN glob pattern that matches every watchlist summary page
-     * cache entry belonging to {@code userId}.
+     * Records that {@code userId} has a cached watchlist page containing each of the
+     * given media items ({@link WatchMateCacheKeys#mediaIndex} keys), so a change to one
+     * of those items can evict only the affected users' pages.
      *
-     * <p>Package-private so unit tests can verify the pattern against the actual key
-     * format produced by {@link WatchMateCacheKeys#watchlistPage} without needing a
-     * live Redis instance.
+     * <p>Each media index gets a pipelined single-key {@code SADD} and {@code PEXPIRE}, so
+     * no command spans keys in different cluster slots. Every page has the same TTL, so
+     * resetting the index TTL on each registration keeps it alive as long as the newest
+     * page that registered it; the index is only eventually consistent anyway.
+     *
+     * <p>Called while the page is being built on a cache miss, before Spring stores it.
+     * A media-scoped eviction landing between this registration and the put removes the
+     * user from the index while the page is not cached yet, so the page stored right
+     * after it is stale until the user's next user-scoped eviction or its 5-minute TTL.
+     * Registration failure is best-effort like eviction and falls back to the same TTL.
      */
-    static String buildWatchlistEvictionPattern(Long userId) {
-        return WATCHLIST_PAGE_KEY_PREFIX + "user:" + userId + ":*";
+    public void registerWatchlistPageMedia(Long userId, Collection<String> mediaIndexKeys) {
+        if (stringRedisTemplate == null || userId == null || mediaIndexKeys == null || mediaIndexKeys.isEmpty()) {
+            return;
+        }
+        List<String> redisKeys = mediaIndexKeys.stream()
+            .distinct()
+            .map(mediaIndexKey -> WATCHLIST_PAGE_KEY_PREFIX + mediaIndexKey)
+            .toList();
+        String member = String.valueOf(userId);
+        Duration ttl = CacheConfig.WATCHLIST_SUMMARY_PAGES_TTL;
+        try {
+            executeGuarded(() -> {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    for (String redisKey : redisKeys) {
+                        stringConnection.sAdd(redisKey, member);
+                        stringConnection.pExpire(redisKey, ttl.toMillis());
+                    }
+                    return null;
+                });
+                return (long) redisKeys.size();
+            }, redisKeys);
+        } catch (Exception e) {
+            log.warn("Failed to index watchlist page media for user={}: {}", userId, e.getMessage());
+        }
     }
 
     /**
-     * Scans Redis for keys matching {@code pattern} and deletes them in a single
-     * {@code DEL} call per cursor batch.
-     *
-     * <p>Uses {@code SCAN} with {@code COUNT 100} (a hint to Redis about how many
-     * keys to return per iteration — Redis may return more or fewer). The scan loops
-     * until the full keyspace is covered and all matching keys have been collected.
-     *
-     * @return number of keys deleted
+     * Evicts the cached watchlist summary pages of only those users whose cached pages
+     * contain the given media item. Watchlist DTOs embed the item's reviews, so review
+     * mutations call this instead of clearing every user's pages.
      */
-    private long scanAndDeleteByPattern(String pattern) {
-        Long deleted = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
-            List<byte[]> keysToDelete = new ArrayList<>();
-            ScanOptions opts = ScanOptions.scanOptions().match(pattern).count(100).build();
-            try (Cursor<byte[]> cursor = connection.keyCommands().scan(opts)) {
-                cursor.forEachRemaining(keysToDelete::add);
+    public void evictWatchlistSummaryPagesForMedia(MediaType type, Long tmdbId) {
+        if (stringRedisTemplate == null) {
+            log.debug("No Redis bean; skipping media-scoped watchlist cache eviction for media={}",
+                WatchMateCacheKeys.media(type, tmdbId));
+            return;
+        }
+        String mediaIndexKey = buildWatchlistMediaIndexKey(type, tmdbId);
+        try {
+            Long deleted = executeGuarded(() -> evictMediaUsers(mediaIndexKey), mediaIndexKey);
+            if (deleted != null && deleted > 0) {
+                log.debug("Evicted {} watchlist summary page entries for media={}",
+                    deleted, WatchMateCacheKeys.media(type, tmdbId));
             }
-            if (keysToDelete.isEmpty()) {
-                return 0L;
+        } catch (Exception e) {
+            log.warn("Failed to evict watchlist cache for media={}: {}",
+                WatchMateCacheKeys.media(type, tmdbId), e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts the pages of every user listed in the media index set, {@value #MEDIA_USER_BATCH_SIZE}
+     * users at a time, so a popular title fans out as many short commands instead of one script
+     * holding Redis for the whole walk. Each batch is removed from the media index before its users'
+     * pages are evicted: a user registering again meanwhile keeps the new membership, and the page
+     * that registered it is either evicted with the rest or written after the eviction.
+     */
+    private long evictMediaUsers(String mediaIndexKey) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(mediaIndexKey);
+        if (members == null || members.isEmpty()) {
+            return 0L;
+        }
+        List<String> userIds = List.copyOf(members);
+        long deleted = 0L;
+        for (int from = 0; from < userIds.size(); from += MEDIA_USER_BATCH_SIZE) {
+            List<String> batch = userIds.subList(from, Math.min(from + MEDIA_USER_BATCH_SIZE, userIds.size()));
+            stringRedisTemplate.opsForSet().remove(mediaIndexKey, batch.toArray());
+            for (String userId : batch) {
+                deleted += evictIndexedKeys(WATCHLIST_USER_INDEX_KEY_PREFIX + userId);
             }
-            connection.keyCommands().del(keysToDelete.toArray(new byte[0][]));
-            return (long) keysToDelete.size();
+        }
+        return deleted;
+    }
+
+    /**
+     * Unlinks every key listed in the index set and removes exactly those members from it, in
+     * pipelined batches. A page indexed after the {@code SMEMBERS} keeps its membership, so it is
+     * still found by the next eviction; the index itself disappears once it is empty.
+     */
+    private long evictIndexedKeys(String indexKey) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(indexKey);
+        if (members == null || members.isEmpty()) {
+            return 0L;
+        }
+        List<String> keys = List.copyOf(members);
+        for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                batch.forEach(stringConnection::unlink);
+                stringConnection.sRem(indexKey, batch.toArray(String[]::new));
+                return null;
+            });
+        }
+        return keys.size();
+    }
+
+    /**
+     * Runs an eviction or index operation through the Redis circuit breaker. While the breaker
+     * is open the operation is skipped and {@code null} returned, so a Redis brownout costs no
+     * timeout; the affected pages fall back to their TTL as with any failed eviction.
+     */
+    private Long executeGuarded(Supplier<Long> operation, Object keys) {
+        if (redisCircuitBreaker == null) {
+            return operation.get();
+        }
+        return redisCircuitBreaker.execute(operation, () -> {
+            log.debug("Redis circuit open; skipping cache index operation for keys={}", keys);
+            return null;
         });
-        return deleted == null ? 0L : deleted;
+    }
+
+    /**
+     * Returns the Redis key of the index set listing every watchlist summary page
+     * cache entry belonging to {@code userId}.
+     *
+     * <p>Package-private so unit tests can verify it against the index key
+     * {@link UserIndexedRedisCache} derives from {@link WatchMateCacheKeys#watchlistPage}
+     * without needing a live Redis instance.
+     */
+    static String buildWatchlistIndexKey(Long userId) {
+        return WATCHLIST_PAGE_KEY_PREFIX + WatchMateCacheKeys.userIndex(userId);
+    }
+
+    /**
+     * Returns the Redis key of the set listing the users whose cached watchlist summary
+     * pages contain the given media item.
+     */
+    static String buildWatchlistMediaIndexKey(MediaType type, Long tmdbId) {
+        return WATCHLIST_PAGE_KEY_PREFIX + WatchMateCacheKeys.mediaIndex(type, tmdbId);
     }
 }
@@ -31,6 +31,20 @@ public final class WatchMateCacheKeys {
         return "user:" + userId;
     }
 
+    /**
+     * Redis set listing every key a user-indexed cache holds for this user; see {@link UserIndexedRedisCache}.
+     */
+    public static String userIndex(Long userId) {
+        return "index:" + user(userId);
+    }
+
+    /**
+     * Redis set listing the users whose cached watchlist pages contain this media item.
+     */
+    public static String mediaIndex(MediaType type, Long tmdbId) {
+        return "index:" + media(type, tmdbId);
+    }
+
     public static String watchlistPage(Long userId, int page, int size) {
         return "user:" + userId + ":page:" + page + ":size:" + size + ":sort:id_asc";
     }
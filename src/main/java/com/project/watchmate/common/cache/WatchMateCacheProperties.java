@@ -0,0 +1,287 @@
+package com.project.watchmate.common.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "watchmate.cache")
+public class WatchMateCacheProperties {
+
+    /**
+     * Near-cache sizes used when a cache has no explicit override. Only caches whose values are
+     * shared, read-only snapshots are listed; user-scoped caches stay Redis-only so evictions never
+     * race an in-heap copy.
+     */
+    private static final Map<String, Long> DEFAULT_NEAR_CACHE_MAX_SIZES = Map.ofEntries(
+        Map.entry(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS, 4L),
+        Map.entry(WatchMateCacheNames.CURATED_CONTENT_LISTS, 32L),
+        Map.entry(WatchMateCacheNames.PUBLIC_MEDIA_DETAIL_BASE, 2_000L),
+        Map.entry(WatchMateCacheNames.PUBLIC_SHOW_METADATA, 2_000L),
+        Map.entry(WatchMateCacheNames.PUBLIC_SEASON_METADATA, 1_000L),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_DETAILS, 2_000L),
+        Map.entry(TmdbCacheNames.TMDB_SHOW_DETAILS, 2_000L),
+        Map.entry(TmdbCacheNames.TMDB_GENRES, 4L),
+        Map.entry(TmdbCacheNames.TMDB_POPULAR, 4L),
+        Map.entry(TmdbCacheNames.TMDB_TRENDING, 4L),
+        Map.entry(TmdbCacheNames.TMDB_UPCOMING_MOVIES, 4L),
+        Map.entry(TmdbCacheNames.TMDB_AIRING_TODAY, 4L),
+        Map.entry(TmdbCacheNames.TMDB_ON_THE_AIR, 4L),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_CREDITS, 1_000L),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_VIDEOS, 1_000L),
+        Map.entry(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, 1_000L)
+    );
+
+    /** Caches that serve stale entries while reloading them in the background when no override is set. */
+    private static final Set<String> DEFAULT_REFRESH_AHEAD_CACHES = Set.of(
+        TmdbCacheNames.TMDB_MEDIA_DETAILS,
+        TmdbCacheNames.TMDB_SHOW_DETAILS,
+        TmdbCacheNames.TMDB_MEDIA_CREDITS,
+        TmdbCacheNames.TMDB_MEDIA_VIDEOS,
+        TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS
+    );
+
+    /** User-scoped caches: misses are cheap, per-user and rarely concurrent, so they skip load coordination. */
+    private static final Set<String> DEFAULT_UNCOORDINATED_CACHES = Set.of(
+        WatchMateCacheNames.CONTINUE_WATCHING,
+        WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES,
+        WatchMateCacheNames.USER_FAVORITE_MEDIA_IDS
+    );
+
+    /**
+     * Caches cleared wholesale on content syncs or review changes. Their keys carry a generation number
+     * so a clear is one {@code INCR} instead of a scan over the keyspace.
+     */
+    private static final Set<String> DEFAULT_GENERATIONAL_CACHES = Set.of(
+        WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS,
+        WatchMateCacheNames.CURATED_CONTENT_LISTS,
+        WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES
+    );
+
+    /**
+     * TMDB lookups that answer "not found" for an id. Crawlers probing ids would otherwise reach TMDB on
+     * every request, so these caches remember the miss as a short-lived tombstone.
+     */
+    private static final Set<String> DEFAULT_NEGATIVE_CACHES = Set.of(
+        TmdbCacheNames.TMDB_MEDIA_DETAILS,
+        TmdbCacheNames.TMDB_SHOW_DETAILS,
+        TmdbCacheNames.TMDB_SEASON_DETAILS,
+        TmdbCacheNames.TMDB_MEDIA_CREDITS,
+        TmdbCacheNames.TMDB_MEDIA_VIDEOS,
+        TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS
+    );
+
+    private boolean enabled = true;
+
+    private NearCache nearCache = new NearCache();
+
+    private RefreshAhead refreshAhead = new RefreshAhead();
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    private Generations generations = new Generations();
+
+    private NegativeCache negativeCache = new NegativeCache();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /** Format new values are written in; entries in any other known format stay readable. */
+    private CacheValueFormat valueFormat = CacheValueFormat.SMILE;
+
+    /** Encoded values at or above this size are deflate-compressed; 0 disables compression. */
+    private int compressionThresholdBytes = 1024;
+
+    /** Per-cache overrides keyed by cache name, e.g. {@code watchmate.cache.caches.tmdbSearch.near-cache-max-size}. */
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    public long nearCacheMaxSize(String cacheName) {
+        if (!nearCache.isEnabled()) {
+            return 0;
+        }
+
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getNearCacheMaxSize() != null) {
+            return Math.max(0, spec.getNearCacheMaxSize());
+        }
+        return DEFAULT_NEAR_CACHE_MAX_SIZES.getOrDefault(cacheName, 0L);
+    }
+
+    public Duration nearCacheTtl(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getNearCacheTtl() != null) {
+            return spec.getNearCacheTtl();
+        }
+        return nearCache.getTtl();
+    }
+
+    public CacheValueFormat valueFormat(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getValueFormat() != null) {
+            return spec.getValueFormat();
+        }
+        return valueFormat;
+    }
+
+    public boolean refreshAhead(String cacheName) {
+        if (!refreshAhead.isEnabled()) {
+            return false;
+        }
+
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getRefreshAhead() != null) {
+            return spec.getRefreshAhead();
+        }
+        return DEFAULT_REFRESH_AHEAD_CACHES.contains(cacheName);
+    }
+
+    public boolean singleFlight(String cacheName) {
+        if (!singleFlight.isEnabled()) {
+            return false;
+        }
+
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getSingleFlight() != null) {
+            return spec.getSingleFlight();
+        }
+        return !DEFAULT_UNCOORDINATED_CACHES.contains(cacheName);
+    }
+
+    public boolean generational(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getGenerational() != null) {
+            return spec.getGenerational();
+        }
+        return DEFAULT_GENERATIONAL_CACHES.contains(cacheName);
+    }
+
+    public boolean negativeCache(String cacheName) {
+        if (!negativeCache.isEnabled()) {
+            return false;
+        }
+
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getNegativeCache() != null) {
+            return spec.getNegativeCache();
+        }
+        return DEFAULT_NEGATIVE_CACHES.contains(cacheName);
+    }
+
+    public Duration negativeCacheTtl(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null && spec.getNegativeCacheTtl() != null) {
+            return spec.getNegativeCacheTtl();
+        }
+        return negativeCache.getTtl();
+    }
+
+    @Getter
+    @Setter
+    public static class NearCache {
+
+        private boolean enabled = true;
+
+        /** Upper bound on how long a near-cache entry may outlive a missed invalidation message. */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        private String invalidationChannel = "watchmate:cache:invalidation";
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshAhead {
+
+        private boolean enabled = true;
+
+        /**
+         * How long past its normal TTL a refresh-ahead entry may still be served while background
+         * reloads fail. The Redis TTL of these caches is the normal TTL plus this window.
+         */
+        private Duration staleWindow = Duration.ofHours(24);
+
+        private int threads = 4;
+
+        private int queueCapacity = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class SingleFlight {
+
+        private boolean enabled = true;
+
+        /** Lock lease; longer than the TMDB response timeout so a healthy leader never loses its lock. */
+        private Duration lease = Duration.ofSeconds(15);
+
+        /** How long a waiter polls for the leader's value before loading on its own. */
+        private Duration waitTimeout = Duration.ofSeconds(10);
+
+        private Duration pollInterval = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class Generations {
+
+        /** How long a node reuses its last-read generation; bounds how stale reads are after another node clears. */
+        private Duration checkInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class NegativeCache {
+
+        private boolean enabled = true;
+
+        /** How long a not-found answer is replayed; also bounds how late a newly published id shows up. */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+
+        /** Consecutive failed or slow Redis calls that open the circuit. */
+        private int failureThreshold = 5;
+
+        /** A Redis call taking longer than this counts as a failure; well under the Redis command timeout. */
+        private Duration slowCallThreshold = Duration.ofMillis(500);
+
+        /** How long Redis is bypassed before a single probe call is let through. */
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        /** Maximum in-heap entries for this cache; 0 keeps the cache Redis-only. */
+        private Long nearCacheMaxSize;
+
+        private Duration nearCacheTtl;
+
+        private CacheValueFormat valueFormat;
+
+        /** Serve entries past their TTL while reloading them in the background. */
+        private Boolean refreshAhead;
+
+        /** Coordinate concurrent misses for one key into a single load across nodes. */
+        private Boolean singleFlight;
+
+        /** Clear by bumping a generation number folded into the key prefix instead of deleting keys. */
+        private Boolean generational;
+
+        /** Remember not-found answers from the loader as short-lived tombstones. */
+        private Boolean negativeCache;
+
+        private Duration negativeCacheTtl;
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.watchmate.common.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Redis cache manager that hands out {@link GenerationalRedisCache} for caches cleared as a whole,
+ * wraps the configured user-scoped caches in {@link UserIndexedRedisCache}, and creates plain
+ * {@link RedisCache} instances for everything else.
+ */
+public class WatchMateRedisCacheManager extends RedisCacheManager {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    private final Set<String> userIndexedCacheNames;
+
+    private final Set<String> generationalCacheNames;
+
+    private final CacheGenerations generations;
+
+    public WatchMateRedisCacheManager(
+        RedisCacheWriter cacheWriter,
+        RedisCacheConfiguration defaultCacheConfiguration,
+        Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+        RedisConnectionFactory connectionFactory,
+        Set<String> userIndexedCacheNames,
+        Set<String> generationalCacheNames,
+        CacheGenerations generations
+    ) {
+        super(cacheWriter, defaultCacheConfiguration, true, initialCacheConfigurations);
+        this.connectionFactory = connectionFactory;
+        this.userIndexedCacheNames = userIndexedCacheNames;
+        this.generationalCacheNames = generationalCacheNames;
+        this.generations = generations;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        if (!generationalCacheNames.contains(name)) {
+            return super.createRedisCache(name, cacheConfiguration);
+        }
+        RedisCacheConfiguration configuration = cacheConfiguration != null ? cacheConfiguration : getDefaultCacheConfiguration();
+        return new GenerationalRedisCache(name, getCacheWriter(), configuration, generations);
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        Cache decorated = super.decorateCache(cache);
+        if (decorated instanceof RedisCache redisCache && userIndexedCacheNames.contains(redisCache.getName())) {
+            // Index sets sit outside the generation so eviction finds entries written under any generation.
+            String indexKeyPrefix = redisCache instanceof GenerationalRedisCache generational
+                ? generational.getBaseKeyPrefix()
+                : redisCache.getCacheConfiguration().getKeyPrefixFor(redisCache.getName());
+            return new UserIndexedRedisCache(redisCache, connectionFactory, indexKeyPrefix);
+        }
+        return decorated;
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.watchmate.common.config;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * Opens a few TMDB connections in the background once the application is ready, so the first page loads
+ * after a deploy do not pay for TCP and TLS handshakes. Uses TMDB's small {@code /configuration} endpoint;
+ * a failure is only logged.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TmdbConnectionWarmer {
+
+    private final WebClient tmdbWebClient;
+
+    private final TmdbHttpProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int connections = properties.getWarmupConnections();
+        if (!properties.isWarmupEnabled() || connections <= 0) {
+            return;
+        }
+
+        try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
+            Flux.range(0, connections)
+                .flatMap(i -> tmdbWebClient.get()
+                    .uri("/configuration")
+                    .retrieve()
+                    .toBodilessEntity(), connections)
+                .then()
+                .subscribe(
+                    ignored -> { },
+                    ex -> log.warn("TMDB connection warm-up failed connections={}", connections, ex),
+                    () -> log.info("TMDB connections warmed up connections={}", connections)
+                );
+        }
+    }
+}
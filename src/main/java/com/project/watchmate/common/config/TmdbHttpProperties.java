@@ -0,0 +1,40 @@
+package com.project.watchmate.common.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchmate.tmdb.http")
+public class TmdbHttpProperties {
+
+    /** Open connections to TMDB at most; further requests wait for one to be released. */
+    private int maxConnections = 50;
+
+    /** Requests that may wait for a connection before new ones are rejected. */
+    private int pendingAcquireMaxCount = 200;
+
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /** Idle connections are closed after this long, before TMDB's load balancer drops them. */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /** How often idle and expired connections are evicted in the background. */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /** Sends {@code Accept-Encoding: gzip} and decompresses responses. */
+    private boolean compression = true;
+
+    /** Initializes the HTTP client and opens connections to TMDB once the application is ready. */
+    private boolean warmupEnabled = true;
+
+    private int warmupConnections = 4;
+}
@@ -12,10 +12,14 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.project.watchmate.media.tmdb.client.TmdbCircuitBreaker;
+import com.project.watchmate.media.tmdb.client.TmdbRequestThrottle;
+
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -26,25 +30,57 @@ public class WebClientConfig {
     @Value("${tmdb.api.token}")
     private String tmdbToken;
 
+    @Value("${tmdb.base-url:https://api.themoviedb.org/3}")
+    private String tmdbBaseUrl;
+
+    /**
+     * Dedicated pool for TMDB so its sizing and eviction do not depend on Reactor Netty's global
+     * defaults. Pool gauges ({@code reactor.netty.connection.provider.active.connections}, {@code idle},
+     * {@code pending} and {@code total}) are published to Micrometer under {@code name=tmdb}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tmdbConnectionProvider(TmdbHttpProperties properties) {
+        return ConnectionProvider.builder("tmdb")
+            .maxConnections(properties.getMaxConnections())
+            .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .maxLifeTime(properties.getMaxLifeTime())
+            .evictInBackground(properties.getEvictionInterval())
+            .metrics(true)
+            .build();
+    }
+
     @Bean
-    public WebClient tmdbWebClient() {
-        HttpClient httpClient = HttpClient.create()
+    public WebClient tmdbWebClient(
+        ConnectionProvider tmdbConnectionProvider,
+        TmdbHttpProperties properties,
+        TmdbCircuitBreaker tmdbCircuitBreaker,
+        TmdbRequestThrottle tmdbRequestThrottle
+    ) {
+        HttpClient httpClient = HttpClient.create(tmdbConnectionProvider)
+            .compress(properties.isCompression())
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TMDB_CONNECT_TIMEOUT.toMillis())
             .responseTimeout(TMDB_RESPONSE_TIMEOUT)
             .doOnConnected(connection -> connection
                 .addHandlerLast(new ReadTimeoutHandler(TMDB_IO_TIMEOUT_SECONDS, TimeUnit.SECONDS))
                 .addHandlerLast(new WriteTimeoutHandler(TMDB_IO_TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+        if (properties.isWarmupEnabled()) {
+            // Event loops, native transport and DNS resolver; connections are opened by TmdbConnectionWarmer.
+            httpClient.warmup().block();
+        }
 
         return WebClient.builder()
-            .baseUrl("https://api.themoviedb.org/3")
+            .baseUrl(tmdbBaseUrl)
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tmdbToken)
             .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            // Outermost, so an open circuit fails fast without taking a rate-limit token.
+            .filter(tmdbCircuitBreaker)
+            .filter(tmdbRequestThrottle)
             .exchangeStrategies(ExchangeStrategies.builder()
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
                 .build())
             .build();
     }
 }
-
-
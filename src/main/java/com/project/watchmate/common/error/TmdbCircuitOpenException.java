@@ -0,0 +1,9 @@
+package com.project.watchmate.common.error;
+
+/** Thrown without calling TMDB while the circuit for the request's endpoint family is open. */
+public class TmdbCircuitOpenException extends TmdbUnavailableException {
+
+    public TmdbCircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -27,6 +27,7 @@ import com.project.watchmate.common.security.auth.CustomAuthenticationEntryPoint
 import com.project.watchmate.common.security.auth.WmUserDetailsService;
 import com.project.watchmate.common.security.jwt.JwtFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -53,6 +54,9 @@ public class SecurityConfig {
                 .exceptionHandling(ex -> ex
                 .authenticationEntryPoint(customAuthenticationEntryPoint))
                 .authorizeHttpRequests(request -> request
+                    // Async dispatches finish streamed responses whose request was already authorized.
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**")
                     .permitAll()
                     .requestMatchers("/api/v1/auth/register","/api/v1/auth/login", "/api/v1/auth/verify/**", "/api/v1/auth/verify", "/api/v1/auth/refresh")
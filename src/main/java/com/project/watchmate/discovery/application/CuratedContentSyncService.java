@@ -20,7 +20,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
-import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.client.ReactiveTmdbClient;
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
 import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
 import com.project.watchmate.discovery.domain.ContentSyncResult;
@@ -36,6 +37,7 @@ import com.project.watchmate.media.catalog.persistence.GenreRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Service
 @Slf4j
@@ -46,7 +48,7 @@ public class CuratedContentSyncService {
 
     private static final int BUCKET_LIMIT = 20;
 
-    private final TmdbClient tmdbClient;
+    private final ReactiveTmdbClient tmdbClient;
 
     private final TmdbService tmdbService;
 
@@ -77,7 +79,7 @@ public class CuratedContentSyncService {
         syncStatus.setLastAttemptedAt(attemptedAt);
         contentSyncStatusRepository.save(syncStatus);
 
-        try {
+        try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
             FetchedDiscoveryData fetchedData = fetchDiscoveryData();
             new TransactionTemplate(transactionManager).executeWithoutResult(status ->
                 syncGenres(fetchedData.movieGenres(), fetchedData.showGenres(), attemptedAt));
@@ -98,8 +100,24 @@ public class CuratedContentSyncService {
         }
     }
 
+    /**
+     * Issues all nine TMDB list requests at once and waits for them together, so the fetch takes about
+     * as long as the slowest request instead of the sum of all of them. Any failure fails the whole sync.
+     */
+    @SuppressWarnings("unchecked")
     private FetchedDiscoveryData fetchDiscoveryData() {
-        return new FetchedDiscoveryData(
+        return Mono.zip(
+            results -> new FetchedDiscoveryData(
+                (List<TmdbGenreDTO>) results[0],
+                (List<TmdbGenreDTO>) results[1],
+                (List<TmdbMovieDTO>) results[2],
+                (List<TmdbMovieDTO>) results[3],
+                (List<TmdbMovieDTO>) results[4],
+                (List<TmdbMovieDTO>) results[5],
+                (List<TmdbMovieDTO>) results[6],
+                (List<TmdbMovieDTO>) results[7],
+                (List<TmdbMovieDTO>) results[8]
+            ),
             tmdbClient.fetchGenres("movie"),
             tmdbClient.fetchGenres("tv"),
             tmdbClient.fetchTrending("movie"),
@@ -109,7 +127,7 @@ public class CuratedContentSyncService {
             tmdbClient.fetchAiringToday(),
             tmdbClient.fetchUpcomingMovies(),
             tmdbClient.fetchOnTheAir()
-        );
+        ).block();
     }
 
     protected void syncGenres(List<TmdbGenreDTO> movieGenres, List<TmdbGenreDTO> showGenres, LocalDateTime syncedAt) {
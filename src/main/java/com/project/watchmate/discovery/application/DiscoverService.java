@@ -28,7 +28,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).TRENDING_MOVIES)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getTrendingMovies() {
         return getBucket(CuratedContentCategory.TRENDING_MOVIES);
@@ -38,7 +38,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).TRENDING_SHOWS)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getTrendingShows() {
         return getBucket(CuratedContentCategory.TRENDING_SHOWS);
@@ -48,7 +48,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).POPULAR_NOW)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getPopularNow() {
         return getBucket(CuratedContentCategory.POPULAR_NOW);
@@ -58,7 +58,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).AIRING_TODAY)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getAiringToday() {
         return getBucket(CuratedContentCategory.AIRING_TODAY);
@@ -68,7 +68,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).UPCOMING)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getUpcoming() {
         return getBucket(CuratedContentCategory.UPCOMING);
@@ -78,7 +78,7 @@ public class DiscoverService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.CURATED_CONTENT_LISTS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).curatedCategory(T(com.project.watchmate.discovery.domain.CuratedContentCategory).RECOMMENDED_LATER)",
-        unless = "#result == null"
+        sync = true
     )
     public List<DiscoveryMediaItemDTO> getRecommendedLater() {
         return getBucket(CuratedContentCategory.RECOMMENDED_LATER);
@@ -34,7 +34,7 @@ public class HomeService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).HOME_DEFAULT",
-        unless = "#result == null"
+        sync = true
     )
     public HomeResponseDTO getHome() {
         return HomeResponseDTO.builder()
@@ -0,0 +1,22 @@
+package com.project.watchmate.media.catalog.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchmate.catalog.change-sync")
+public class CatalogChangeSyncProperties {
+
+    private boolean enabled = true;
+
+    private int initialLookbackDays = 1;
+
+    private int maxPages = 20;
+
+    private int maxRefreshesPerRun = 200;
+}
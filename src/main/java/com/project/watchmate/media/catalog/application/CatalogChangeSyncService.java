@@ -0,0 +1,283 @@
+package com.project.watchmate.media.catalog.application;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.discovery.domain.ContentSyncResult;
+import com.project.watchmate.discovery.domain.ContentSyncStatus;
+import com.project.watchmate.discovery.persistence.ContentSyncStatusRepository;
+import com.project.watchmate.media.catalog.domain.Media;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.catalog.domain.ShowSeason;
+import com.project.watchmate.media.catalog.persistence.MediaRepository;
+import com.project.watchmate.media.catalog.persistence.ShowSeasonRepository;
+import com.project.watchmate.media.tmdb.application.TmdbService;
+import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
+import com.project.watchmate.media.tmdb.dto.TmdbChangedItemDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbChangesResponseDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonSummaryDTO;
+import com.project.watchmate.show.catalog.application.ShowCatalogService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps stored titles fresh from TMDB's {@code /movie/changes} and {@code /tv/changes} feeds instead of
+ * waiting for their caches to expire. Each run reads the ids changed since the last successful run,
+ * keeps only those we have a {@link Media} row for, and refreshes them: the base snapshot, and for shows
+ * every season already cached. Past {@code maxRefreshesPerRun} titles, the rest only have their caches
+ * evicted and are refetched on next read. A title whose refresh or eviction fails is logged and counted
+ * but does not stop the run; its caches still expire on their TTL.
+ *
+ * <p>The window is tracked in {@link ContentSyncStatus} under {@link #STATUS_KEY} and only advances when the
+ * change feeds were read in full, so a failed run is covered by the next one, up to TMDB's {@value TmdbClient#MAX_CHANGES_WINDOW_DAYS}-day
+ * limit. A feed with more than {@code maxPages} pages still has its read pages synced, but the run is
+ * recorded as a failure and the window stays put so the unread ids are picked up again. TMDB change dates
+ * have day granularity, so consecutive runs overlap by one day.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogChangeSyncService {
+
+    public static final String STATUS_KEY = "CATALOG_CHANGE_SYNC";
+
+    /** Keeps the stored-media lookup's {@code IN} list at a size the database handles well. */
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    private final TmdbClient tmdbClient;
+
+    private final TmdbService tmdbService;
+
+    private final ShowCatalogService showCatalogService;
+
+    private final MediaRepository mediaRepository;
+
+    private final ShowSeasonRepository showSeasonRepository;
+
+    private final ContentSyncStatusRepository contentSyncStatusRepository;
+
+    private final WatchMateCacheEvictionService cacheEvictionService;
+
+    private final CatalogChangeSyncProperties properties;
+
+    private final AtomicBoolean syncInProgress = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${watchmate.catalog.change-sync.cron:0 30 4 * * *}")
+    public void scheduledSync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        syncChangedMedia("scheduled");
+    }
+
+    public void syncChangedMedia(String trigger) {
+        if (!syncInProgress.compareAndSet(false, true)) {
+            log.warn("Catalog change sync skipped trigger={} reason=already_running", trigger);
+            return;
+        }
+
+        LocalDateTime attemptedAt = LocalDateTime.now();
+        ContentSyncStatus syncStatus = getOrCreateStatus();
+        LocalDate endDate = attemptedAt.toLocalDate();
+        LocalDate startDate = windowStart(syncStatus, endDate);
+        syncStatus.setLastAttemptedAt(attemptedAt);
+        contentSyncStatusRepository.save(syncStatus);
+
+        try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
+            List<Media> changedMedia = new ArrayList<>();
+            List<MediaType> truncatedFeeds = new ArrayList<>();
+            for (MediaType type : MediaType.values()) {
+                ChangedIds changedIds = fetchChangedIds(type, startDate, endDate);
+                if (changedIds.truncated()) {
+                    truncatedFeeds.add(type);
+                }
+                changedMedia.addAll(findStoredMedia(type, changedIds.ids()));
+            }
+
+            int refreshed = 0;
+            int failed = 0;
+            for (Media media : changedMedia) {
+                boolean withinRefreshLimit = refreshed < properties.getMaxRefreshesPerRun();
+                try {
+                    if (withinRefreshLimit) {
+                        refresh(media);
+                    } else {
+                        evict(media);
+                    }
+                } catch (RuntimeException ex) {
+                    failed++;
+                    log.warn("Changed media sync failed tmdbId={} type={}", media.getTmdbId(), media.getType(), ex);
+                }
+                if (withinRefreshLimit) {
+                    refreshed++;
+                }
+            }
+
+            if (truncatedFeeds.isEmpty()) {
+                syncStatus.setLastSuccessfulAt(attemptedAt);
+                syncStatus.setLastResult(ContentSyncResult.SUCCESS);
+                syncStatus.setLastErrorMessage(failed == 0 ? null : failed + " of " + changedMedia.size() + " changed titles failed to sync");
+            } else {
+                syncStatus.setLastFailedAt(attemptedAt);
+                syncStatus.setLastResult(ContentSyncResult.FAILURE);
+                syncStatus.setLastErrorMessage("Change feeds " + truncatedFeeds + " had more than " + properties.getMaxPages()
+                    + " pages; the window was not advanced");
+            }
+            contentSyncStatusRepository.save(syncStatus);
+            log.info("Catalog change sync completed trigger={} startDate={} endDate={} changed={} refreshed={} evicted={} failed={} truncated={}",
+                trigger, startDate, endDate, changedMedia.size(), refreshed, changedMedia.size() - refreshed, failed, truncatedFeeds);
+        } catch (RuntimeException ex) {
+            markSyncFailure(syncStatus, attemptedAt, ex);
+            log.error("Catalog change sync failed trigger={} startDate={} endDate={}", trigger, startDate, endDate, ex);
+        } finally {
+            syncInProgress.set(false);
+        }
+    }
+
+    private ChangedIds fetchChangedIds(MediaType type, LocalDate startDate, LocalDate endDate) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        int totalPages = 1;
+        for (int page = 1; page <= Math.min(totalPages, properties.getMaxPages()); page++) {
+            TmdbChangesResponseDTO response = tmdbClient.fetchChanges(type, startDate, endDate, page);
+            if (response == null || response.getResults() == null) {
+                break;
+            }
+            response.getResults().stream()
+                .map(TmdbChangedItemDTO::getId)
+                .filter(Objects::nonNull)
+                .forEach(changedIds::add);
+            totalPages = response.getTotalPages();
+        }
+        boolean truncated = totalPages > properties.getMaxPages();
+        if (truncated) {
+            log.warn("Catalog change feed truncated type={} totalPages={} maxPages={}", type, totalPages, properties.getMaxPages());
+        }
+        return new ChangedIds(changedIds, truncated);
+    }
+
+    private List<Media> findStoredMedia(MediaType type, Set<Long> changedIds) {
+        List<Long> ids = new ArrayList<>(changedIds);
+        List<Media> stored = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            stored.addAll(mediaRepository.findAllByTypeAndTmdbIdIn(type, ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()))));
+        }
+        return stored;
+    }
+
+    /**
+     * Evicts the title's TMDB entries so the refetch reaches TMDB, then rewrites the stored snapshot,
+     * which also evicts the public detail caches. A title TMDB no longer has is left to its caches' TTL.
+     */
+    private void refresh(Media media) {
+        Long tmdbId = media.getTmdbId();
+        List<Integer> cachedSeasons = cachedSeasonNumbers(media);
+        evictTmdbEntries(media, cachedSeasons);
+        try {
+            if (media.getType() == MediaType.SHOW) {
+                TmdbTvDetailsDTO tvDetails = showCatalogService.fetchAndRefreshShowDetails(tmdbId, media);
+                showCatalogService.hydrateSeasons(media, tmdbId, currentSeasons(tvDetails, cachedSeasons), cached -> { });
+            } else {
+                tmdbService.saveAndUpdateMedia(List.of(tmdbService.fetchMediaByTmdbId(tmdbId, media.getType())));
+            }
+        } catch (MediaNotFoundException ex) {
+            log.warn("Changed media not found on TMDB tmdbId={} type={}", tmdbId, media.getType());
+        }
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(media.getType(), tmdbId);
+    }
+
+    private void evict(Media media) {
+        Long tmdbId = media.getTmdbId();
+        List<Integer> cachedSeasons = cachedSeasonNumbers(media);
+        evictTmdbEntries(media, cachedSeasons);
+        cacheEvictionService.evictPublicMediaDetailBase(media.getType(), tmdbId);
+        if (media.getType() == MediaType.SHOW) {
+            cacheEvictionService.evictPublicShowMetadata(tmdbId);
+            cachedSeasons.forEach(seasonNumber -> cacheEvictionService.evictPublicSeasonMetadata(tmdbId, seasonNumber));
+        }
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(media.getType(), tmdbId);
+    }
+
+    private void evictTmdbEntries(Media media, List<Integer> cachedSeasons) {
+        Long tmdbId = media.getTmdbId();
+        cacheEvictionService.evictTmdbMediaDetails(media.getType(), tmdbId);
+        cacheEvictionService.evictTmdbMediaCredits(media.getType(), tmdbId);
+        cacheEvictionService.evictTmdbMediaVideos(media.getType(), tmdbId);
+        cacheEvictionService.evictTmdbMediaWatchProviders(media.getType(), tmdbId);
+        if (media.getType() == MediaType.SHOW) {
+            cacheEvictionService.evictTmdbShowDetails(tmdbId);
+            cachedSeasons.forEach(seasonNumber -> cacheEvictionService.evictTmdbSeasonDetails(tmdbId, seasonNumber));
+        }
+    }
+
+    private List<Integer> cachedSeasonNumbers(Media media) {
+        if (media.getType() != MediaType.SHOW) {
+            return List.of();
+        }
+        return showSeasonRepository.findAllByMediaIdOrderBySeasonNumberAsc(media.getId()).stream()
+            .map(ShowSeason::getSeasonNumber)
+            .toList();
+    }
+
+    /** Cached seasons the show still lists, so a season TMDB removed does not fail the refresh. */
+    private List<Integer> currentSeasons(TmdbTvDetailsDTO tvDetails, List<Integer> cachedSeasons) {
+        if (tvDetails.getSeasons() == null) {
+            return List.of();
+        }
+        Set<Integer> listedSeasons = new LinkedHashSet<>();
+        tvDetails.getSeasons().stream()
+            .map(TmdbTvSeasonSummaryDTO::getSeasonNumber)
+            .filter(Objects::nonNull)
+            .forEach(listedSeasons::add);
+        return cachedSeasons.stream()
+            .filter(listedSeasons::contains)
+            .toList();
+    }
+
+    private LocalDate windowStart(ContentSyncStatus status, LocalDate endDate) {
+        LocalDate earliest = endDate.minusDays(TmdbClient.MAX_CHANGES_WINDOW_DAYS);
+        LocalDate start = status.getLastSuccessfulAt() == null
+            ? endDate.minusDays(properties.getInitialLookbackDays())
+            : status.getLastSuccessfulAt().toLocalDate();
+        return start.isBefore(earliest) ? earliest : start;
+    }
+
+    private void markSyncFailure(ContentSyncStatus status, LocalDateTime attemptedAt, RuntimeException ex) {
+        status.setLastFailedAt(attemptedAt);
+        status.setLastResult(ContentSyncResult.FAILURE);
+        status.setLastErrorMessage(trimErrorMessage(ex.getMessage()));
+        contentSyncStatusRepository.save(status);
+    }
+
+    private ContentSyncStatus getOrCreateStatus() {
+        return contentSyncStatusRepository.findById(STATUS_KEY)
+            .orElseGet(() -> ContentSyncStatus.builder()
+                .statusKey(STATUS_KEY)
+                .lastResult(ContentSyncResult.NEVER)
+                .build());
+    }
+
+    private String trimErrorMessage(String message) {
+        if (message == null || message.isBlank()) {
+            return null;
+        }
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    /** The ids read from one change feed, and whether pages past {@code maxPages} were left unread. */
+    private record ChangedIds(Set<Long> ids, boolean truncated) {
+    }
+}
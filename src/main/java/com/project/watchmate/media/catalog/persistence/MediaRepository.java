@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ public interface MediaRepository extends JpaRepository<Media, Long>{
 
     Optional<Media> findByTmdbIdAndType(Long tmdbId, MediaType type);
 
+    List<Media> findAllByTypeAndTmdbIdIn(MediaType type, Collection<Long> tmdbIds);
+
 }
 
 
@@ -1,5 +1,6 @@
 package com.project.watchmate.media.extras.application;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Comparator;
@@ -7,8 +8,20 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import com.project.watchmate.media.catalog.domain.MediaType;
@@ -26,62 +39,147 @@ import com.project.watchmate.media.tmdb.dto.TmdbWatchProviderEntryDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbWatchProviderRegionDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbWatchProvidersResponseDTO;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Builds the cast, trailer and watch-provider extras shown on movie and show detail pages.
+ *
+ * <p>The three TMDB lookups are independent, so they run concurrently on a small bounded pool and a
+ * cold page waits for the slowest of them rather than their sum. Each lookup has its own deadline; one
+ * that fails or runs past it is left out of the response (empty cast, no trailer or empty providers)
+ * without holding back the other two. A lookup that times out keeps running and still fills the TMDB
+ * cache for the next request.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class MediaExtrasService {
+public class MediaExtrasService implements DisposableBean {
 
     private static final int DEFAULT_CAST_LIMIT = 10;
     private static final String DEFAULT_REGION = "US";
     private static final String YOUTUBE_SITE = "YouTube";
     private static final String TRAILER_TYPE = "Trailer";
     private static final String TEASER_TYPE = "Teaser";
+    private static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_MAX_CONCURRENCY = 24;
+    private static final int QUEUE_CAPACITY = 64;
+    static final String FETCH_METRIC = "watchmate.tmdb.extras.fetch";
 
     private final TmdbClient tmdbClient;
 
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor fetchExecutor;
+
     @Value("${watchmate.tmdb.default-region:US}")
     private String defaultRegion;
 
     @Value("${watchmate.tmdb.cast-limit:10}")
     private Integer castLimit;
 
+    @Value("${watchmate.tmdb.extras.fetch-timeout:2s}")
+    private Duration fetchTimeout;
+
+    public MediaExtrasService(TmdbClient tmdbClient) {
+        this(tmdbClient, (MeterRegistry) null, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Autowired
+    public MediaExtrasService(
+        TmdbClient tmdbClient,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${watchmate.tmdb.extras.max-concurrency:24}") int maxConcurrency
+    ) {
+        this(tmdbClient, meterRegistry.getIfAvailable(), maxConcurrency);
+    }
+
+    MediaExtrasService(TmdbClient tmdbClient, MeterRegistry meterRegistry, int maxConcurrency) {
+        this.tmdbClient = tmdbClient;
+        this.meterRegistry = meterRegistry;
+        this.fetchExecutor = createFetchExecutor(maxConcurrency);
+    }
+
     public MediaExtrasDTO getExtras(Long tmdbId, MediaType type) {
         String region = normalizeRegion(defaultRegion);
-        return new MediaExtrasDTO(
-            fetchCast(tmdbId, type),
-            fetchBestTrailer(tmdbId, type),
-            fetchWatchProviders(tmdbId, type, region)
-        );
+
+        CompletableFuture<List<CastMemberDTO>> cast = fetchAsync(
+            "credits",
+            () -> mapCast(tmdbClient.fetchCredits(tmdbId, type)),
+            ex -> {
+                log.warn("Failed to fetch media cast tmdbId={} type={}", tmdbId, type, ex);
+                return List.of();
+            });
+        CompletableFuture<TrailerDTO> trailer = fetchAsync(
+            "videos",
+            () -> selectBestTrailer(tmdbClient.fetchVideos(tmdbId, type)),
+            ex -> {
+                log.warn("Failed to fetch media videos tmdbId={} type={}", tmdbId, type, ex);
+                return null;
+            });
+        CompletableFuture<WatchProvidersDTO> watchProviders = fetchAsync(
+            "watch_providers",
+            () -> mapWatchProviders(tmdbClient.fetchWatchProviders(tmdbId, type), region),
+            ex -> {
+                log.warn("Failed to fetch media watch providers tmdbId={} type={} region={}", tmdbId, type, region, ex);
+                return emptyWatchProviders(region);
+            });
+
+        return new MediaExtrasDTO(cast.join(), trailer.join(), watchProviders.join());
     }
 
-    private List<CastMemberDTO> fetchCast(Long tmdbId, MediaType type) {
-        try {
-            return mapCast(tmdbClient.fetchCredits(tmdbId, type));
-        } catch (RuntimeException ex) {
-            log.warn("Failed to fetch media cast tmdbId={} type={}", tmdbId, type, ex);
-            return List.of();
-        }
+    @Override
+    public void destroy() {
+        fetchExecutor.shutdownNow();
     }
 
-    private TrailerDTO fetchBestTrailer(Long tmdbId, MediaType type) {
-        try {
-            return selectBestTrailer(tmdbClient.fetchVideos(tmdbId, type));
-        } catch (RuntimeException ex) {
-            log.warn("Failed to fetch media videos tmdbId={} type={}", tmdbId, type, ex);
-            return null;
-        }
+    /**
+     * Runs one lookup on the fetch pool, records its duration and outcome, and completes with the
+     * fallback if it fails or misses its deadline, so joining the result never throws.
+     */
+    private <T> CompletableFuture<T> fetchAsync(String part, Supplier<T> fetch, Function<Throwable, T> fallback) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(fetch, fetchExecutor)
+            .orTimeout(resolvedFetchTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .handle((value, ex) -> {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                recordFetch(part, cause == null ? "success" : cause instanceof TimeoutException ? "timeout" : "failure", start);
+                return cause == null ? value : fallback.apply(cause);
+            });
     }
 
-    private WatchProvidersDTO fetchWatchProviders(Long tmdbId, MediaType type, String region) {
-        try {
-            return mapWatchProviders(tmdbClient.fetchWatchProviders(tmdbId, type), region);
-        } catch (RuntimeException ex) {
-            log.warn("Failed to fetch media watch providers tmdbId={} type={} region={}", tmdbId, type, region, ex);
-            return emptyWatchProviders(region);
+    private void recordFetch(String part, String outcome, long startNanos) {
+        if (meterRegistry == null) {
+            return;
         }
+        Timer.builder(FETCH_METRIC)
+            .tag("part", part)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Duration resolvedFetchTimeout() {
+        return fetchTimeout == null || fetchTimeout.isNegative() || fetchTimeout.isZero() ? DEFAULT_FETCH_TIMEOUT : fetchTimeout;
+    }
+
+    /**
+     * When the pool and its queue are full, the request thread runs the lookup itself; that page loads
+     * as slowly as before rather than losing its extras.
+     */
+    private static ThreadPoolExecutor createFetchExecutor(int maxConcurrency) {
+        int threads = Math.max(1, maxConcurrency);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new CustomizableThreadFactory("tmdb-extras-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private List<CastMemberDTO> mapCast(TmdbCreditsDTO credits) {
@@ -0,0 +1,125 @@
+package com.project.watchmate.media.tmdb.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.project.watchmate.common.cache.TmdbCacheKeys;
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.common.cache.TwoTierCache;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms the TMDB details, credits, videos and watch-provider caches for a detail page with a single
+ * {@code append_to_response} request, so the page's separate lookups then hit the cache.
+ *
+ * <p>The bundle is only fetched when at least {@link #MIN_MISSING_PARTS} of those entries are missing;
+ * for a single missing entry the page's own lookup costs the same one request. Entries that are
+ * already cached are left alone. A title whose details are cached as not found is skipped, since the
+ * bundle would only fail the same way. A failed bundle request is logged and ignored, leaving the page to
+ * load each part itself as before.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TmdbDetailsBundleService {
+
+    static final int MIN_MISSING_PARTS = 2;
+
+    private final TmdbClient tmdbClient;
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public void prefetchDetailPage(Long tmdbId, MediaType type) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null || tmdbId == null || type == null) {
+            return;
+        }
+
+        List<CachedPart> parts = List.of(
+            type == MediaType.SHOW
+                ? new CachedPart(manager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS), TmdbCacheKeys.show(tmdbId))
+                : new CachedPart(manager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS), TmdbCacheKeys.media(type, tmdbId)),
+            new CachedPart(manager.getCache(TmdbCacheNames.TMDB_MEDIA_CREDITS), TmdbCacheKeys.credits(type, tmdbId)),
+            new CachedPart(manager.getCache(TmdbCacheNames.TMDB_MEDIA_VIDEOS), TmdbCacheKeys.videos(type, tmdbId)),
+            new CachedPart(manager.getCache(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS), TmdbCacheKeys.watchProviders(type, tmdbId))
+        );
+        if (parts.stream().anyMatch(part -> part.cache() == null)) {
+            return;
+        }
+
+        List<Boolean> missing = new ArrayList<>();
+        try {
+            for (CachedPart part : parts) {
+                missing.add(part.cache().get(part.key()) == null);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("TMDB details bundle cache check failed tmdbId={} type={}", tmdbId, type, ex);
+            return;
+        }
+        if (missing.stream().filter(Boolean::booleanValue).count() < MIN_MISSING_PARTS) {
+            return;
+        }
+        if (missing.get(0) && isTombstoned(parts.get(0))) {
+            return;
+        }
+
+        TmdbDetailsBundleDTO<?> bundle;
+        try {
+            bundle = type == MediaType.SHOW
+                ? tmdbClient.fetchTvDetailsBundle(tmdbId)
+                : tmdbClient.fetchMovieDetailsBundle(tmdbId);
+        } catch (RuntimeException ex) {
+            log.warn("TMDB details bundle prefetch failed tmdbId={} type={}", tmdbId, type, ex);
+            return;
+        }
+        if (bundle == null) {
+            return;
+        }
+
+        List<Object> values = Arrays.asList(
+            bundle.getDetails(),
+            bundle.getCredits(),
+            bundle.getVideos(),
+            bundle.getWatchProviders()
+        );
+        for (int i = 0; i < parts.size(); i++) {
+            if (missing.get(i) && values.get(i) != null) {
+                put(parts.get(i), values.get(i), tmdbId, type);
+            }
+        }
+    }
+
+    /**
+     * The details lookup is the one that stores a tombstone when TMDB has no such title. Checked only when
+     * a bundle is about to be fetched, so the extra lookup is paid only by pages that would call TMDB.
+     */
+    private boolean isTombstoned(CachedPart part) {
+        try {
+            return part.cache() instanceof TwoTierCache cache && cache.isTombstoned(part.key());
+        } catch (RuntimeException ex) {
+            log.warn("TMDB details bundle tombstone check failed cache={}", part.cache().getName(), ex);
+            return false;
+        }
+    }
+
+    private void put(CachedPart part, Object value, Long tmdbId, MediaType type) {
+        try {
+            part.cache().put(part.key(), value);
+        } catch (RuntimeException ex) {
+            log.warn("TMDB details bundle cache write failed cache={} tmdbId={} type={}", part.cache().getName(), tmdbId, type, ex);
+        }
+    }
+
+    private record CachedPart(Cache cache, String key) {}
+}
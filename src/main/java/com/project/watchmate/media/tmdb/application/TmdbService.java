@@ -104,6 +104,11 @@ public class TmdbService {
         return seasonDetails;
     }
 
+    public Map<Integer, TmdbTvSeasonDTO> fetchTvSeasonDetailsBatch(Long tmdbId, List<Integer> seasonNumbers) {
+        Map<Integer, TmdbTvSeasonDTO> seasons = tmdbClient.fetchTvSeasonDetailsBatch(tmdbId, seasonNumbers);
+        return seasons == null ? Map.of() : seasons;
+    }
+
     @Transactional
     public Media refreshShowSnapshot(Media media, TmdbTvDetailsDTO tvDetails) {
         if (media.getType() != MediaType.SHOW) {
@@ -0,0 +1,28 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.util.List;
+
+import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TmdbClient} for the genre and list endpoints, which curated content
+ * sync fans out in one go. Calls share its caches, keys, requests and error mapping, but no thread waits on
+ * TMDB, so the sync can issue them all and join once.
+ */
+public interface ReactiveTmdbClient {
+
+    Mono<List<TmdbGenreDTO>> fetchGenres(String type);
+
+    Mono<List<TmdbMovieDTO>> fetchPopular(String type);
+
+    Mono<List<TmdbMovieDTO>> fetchTrending(String type);
+
+    Mono<List<TmdbMovieDTO>> fetchUpcomingMovies();
+
+    Mono<List<TmdbMovieDTO>> fetchAiringToday();
+
+    Mono<List<TmdbMovieDTO>> fetchOnTheAir();
+}
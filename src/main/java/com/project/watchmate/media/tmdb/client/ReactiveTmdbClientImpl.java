@@ -0,0 +1,87 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbGenreResponseDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveTmdbClient} on the shared TMDB {@link WebClient}. Requests and result unwrapping come from
+ * {@link TmdbListRequest}, as in {@link TmdbClientImpl}. Results are cached through
+ * {@code @Cacheable(sync = true)}, which for {@link Mono} return types reads and writes the cache
+ * asynchronously, under the same cache names and keys as {@link TmdbClientImpl}.
+ *
+ * <p>Each request carries the caller's {@link TmdbRequestPriority} in its Reactor {@code Context}, captured
+ * when the method is called: on a cache miss the request is subscribed on a Redis I/O thread, so the
+ * throttle cannot read it from the subscribing thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveTmdbClientImpl implements ReactiveTmdbClient {
+
+    private final WebClient tmdbWebClient;
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_GENRES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).genre(#type)", sync = true)
+    public Mono<List<TmdbGenreDTO>> fetchGenres(String type) {
+        return tmdbWebClient.get()
+            .uri(TmdbListRequest.GENRES_URI, type)
+            .retrieve()
+            .bodyToMono(TmdbGenreResponseDTO.class)
+            .map(TmdbListRequest::genres)
+            .switchIfEmpty(Mono.fromSupplier(() -> TmdbListRequest.genres(null)))
+            .onErrorMap(ex -> TmdbErrors.translate(ex, "genre fetch", "type=" + type))
+            .contextWrite(TmdbRequestPriority.captureContext());
+    }
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_POPULAR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", sync = true)
+    public Mono<List<TmdbMovieDTO>> fetchPopular(String type) {
+        return fetchList(TmdbListRequest.popular(type));
+    }
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_TRENDING, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", sync = true)
+    public Mono<List<TmdbMovieDTO>> fetchTrending(String type) {
+        return fetchList(TmdbListRequest.trending(type));
+    }
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_UPCOMING_MOVIES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).UPCOMING_MOVIES", sync = true)
+    public Mono<List<TmdbMovieDTO>> fetchUpcomingMovies() {
+        return fetchList(TmdbListRequest.upcomingMovies());
+    }
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_AIRING_TODAY, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).AIRING_TODAY", sync = true)
+    public Mono<List<TmdbMovieDTO>> fetchAiringToday() {
+        return fetchList(TmdbListRequest.airingToday());
+    }
+
+    @Override
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_ON_THE_AIR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).ON_THE_AIR", sync = true)
+    public Mono<List<TmdbMovieDTO>> fetchOnTheAir() {
+        return fetchList(TmdbListRequest.onTheAir());
+    }
+
+    private Mono<List<TmdbMovieDTO>> fetchList(TmdbListRequest request) {
+        return tmdbWebClient.get()
+            .uri(request.uri())
+            .retrieve()
+            .bodyToMono(TmdbResponseDTO.class)
+            .map(TmdbListRequest::results)
+            .switchIfEmpty(Mono.fromSupplier(() -> TmdbListRequest.results(null)))
+            .onErrorMap(ex -> TmdbErrors.translate(ex, "list fetch", "label=" + request.label()))
+            .contextWrite(TmdbRequestPriority.captureContext());
+    }
+}
@@ -0,0 +1,221 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.project.watchmate.common.error.TmdbCircuitOpenException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+
+/**
+ * Circuit breaker for the TMDB {@code WebClient}, with one circuit per {@link TmdbEndpointFamily}.
+ *
+ * <p>A circuit opens after a run of consecutive failures in its family: 5xx or 429 responses left after
+ * the throttle's retries, or transport failures such as connect errors and read timeouts. While open,
+ * requests fail at once with {@link TmdbCircuitOpenException}, which callers treat like any other
+ * {@code TmdbUnavailableException} and answer from the database where they can. After the open duration
+ * a single probe request is let through; its outcome closes the circuit or opens it again. Any other
+ * response, including 404, counts as TMDB being up.
+ *
+ * <p>It is the outermost filter, so requests rejected by an open circuit never take a rate-limit token,
+ * and a response counts once, after the throttle's retries. Slow responses are not counted: timing here
+ * would include time spent waiting for the throttle. Like the Redis cache breaker, state is per instance.
+ */
+@Component
+@Slf4j
+public class TmdbCircuitBreaker implements ExchangeFilterFunction {
+
+    static final String STATE_METRIC = "watchmate.tmdb.circuit.state";
+
+    private static final String OPEN_MESSAGE = "TMDB is temporarily unavailable. Please try again shortly.";
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final TmdbCircuitBreakerProperties properties;
+
+    private final Clock clock;
+
+    private final Map<TmdbEndpointFamily, Circuit> circuits = new EnumMap<>(TmdbEndpointFamily.class);
+
+    public TmdbCircuitBreaker(TmdbCircuitBreakerProperties properties) {
+        this(properties, (MeterRegistry) null, Clock.systemUTC());
+    }
+
+    @Autowired
+    public TmdbCircuitBreaker(TmdbCircuitBreakerProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(properties, meterRegistryProvider.getIfAvailable(), Clock.systemUTC());
+    }
+
+    TmdbCircuitBreaker(TmdbCircuitBreakerProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        for (TmdbEndpointFamily family : TmdbEndpointFamily.values()) {
+            Circuit circuit = new Circuit(family);
+            circuits.put(family, circuit);
+            if (meterRegistry != null) {
+                Gauge.builder(STATE_METRIC, circuit, value -> value.state.ordinal())
+                    .description("TMDB circuit state: 0 closed, 1 half-open, 2 open")
+                    .tag("family", family.name().toLowerCase())
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        Circuit circuit = circuits.get(TmdbEndpointFamily.of(request.url()));
+        return Mono.defer(() -> {
+            if (!circuit.tryAcquire()) {
+                return Mono.error(new TmdbCircuitOpenException(OPEN_MESSAGE));
+            }
+            return next.exchange(request)
+                .doOnNext(response -> {
+                    if (isFailure(response.statusCode())) {
+                        circuit.onFailure();
+                    } else {
+                        circuit.onSuccess();
+                    }
+                })
+                .doOnError(ex -> {
+                    if (isTransportFailure(ex)) {
+                        circuit.onFailure();
+                    } else {
+                        // Not a sign of TMDB being down, e.g. the throttle's budget ran out.
+                        circuit.releaseProbe();
+                    }
+                })
+                .doOnCancel(circuit::releaseProbe);
+        });
+    }
+
+    /** Whether requests in {@code family} are currently failed without calling TMDB; half-open counts as not open. */
+    public boolean isOpen(TmdbEndpointFamily family) {
+        return properties.isEnabled() && circuits.get(family).state == State.OPEN;
+    }
+
+    public State getState(TmdbEndpointFamily family) {
+        return circuits.get(family).state;
+    }
+
+    private static boolean isFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+
+    private static boolean isTransportFailure(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof WebClientRequestException
+                || current instanceof ConnectException
+                || current instanceof UnknownHostException
+                || current instanceof SocketException
+                || current instanceof ReadTimeoutException
+                || current instanceof WriteTimeoutException
+                || current instanceof PrematureCloseException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private final class Circuit {
+
+        private final TmdbEndpointFamily family;
+
+        private volatile State state = State.CLOSED;
+
+        private volatile int consecutiveFailures;
+
+        private long openedAtMillis;
+
+        private boolean probeInFlight;
+
+        private Circuit(TmdbEndpointFamily family) {
+            this.family = family;
+        }
+
+        boolean tryAcquire() {
+            return state == State.CLOSED || tryAcquireProbe();
+        }
+
+        void onSuccess() {
+            if (state == State.CLOSED && consecutiveFailures == 0) {
+                return;
+            }
+            recordSuccess();
+        }
+
+        private synchronized boolean tryAcquireProbe() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && clock.millis() - openedAtMillis >= properties.getOpenDuration().toMillis()) {
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == State.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void recordSuccess() {
+            if (state == State.OPEN) {
+                // A request sent before the circuit opened; only the probe decides when to close.
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                log.info("TMDB circuit closed after a successful probe family={}", family);
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        }
+
+        private synchronized void releaseProbe() {
+            probeInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            probeInFlight = false;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= Math.max(1, properties.getFailureThreshold()))) {
+                if (state == State.CLOSED) {
+                    log.warn("TMDB circuit opened family={} consecutiveFailures={} openMs={}",
+                        family, consecutiveFailures, properties.getOpenDuration().toMillis());
+                }
+                state = State.OPEN;
+                openedAtMillis = clock.millis();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchmate.tmdb.circuit-breaker")
+public class TmdbCircuitBreakerProperties {
+
+    private boolean enabled = true;
+
+    /** Consecutive 5xx, 429 or transport failures in one endpoint family that open its circuit. */
+    private int failureThreshold = 5;
+
+    /** How long an open circuit fails requests without calling TMDB before letting a probe through. */
+    private Duration openDuration = Duration.ofSeconds(30);
+}
@@ -1,9 +1,13 @@
 package com.project.watchmate.media.tmdb.client;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbChangesResponseDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbCreditsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbResponseDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbVideosResponseDTO;
@@ -14,6 +18,12 @@ import com.project.watchmate.media.catalog.domain.MediaType;
 
 public interface TmdbClient {
 
+    /** Most {@code season/N} parts TMDB accepts in one {@code append_to_response} request. */
+    int MAX_APPENDED_SEASONS = 20;
+
+    /** Longest date range TMDB's {@code /changes} endpoints accept. */
+    int MAX_CHANGES_WINDOW_DAYS = 14;
+
     List<TmdbGenreDTO> fetchGenres(String type);
 
     List<TmdbMovieDTO> fetchPopular(String type);
@@ -32,15 +42,33 @@ public interface TmdbClient {
 
     TmdbTvSeasonDTO fetchTvSeasonDetails(Long tmdbId, Integer seasonNumber);
 
+    /**
+     * Up to {@link #MAX_APPENDED_SEASONS} seasons of a show in one TMDB request, keyed by season number.
+     * Seasons TMDB leaves out of the response are missing from the map.
+     */
+    Map<Integer, TmdbTvSeasonDTO> fetchTvSeasonDetailsBatch(Long tmdbId, List<Integer> seasonNumbers);
+
     TmdbCreditsDTO fetchCredits(Long tmdbId, MediaType type);
 
     TmdbVideosResponseDTO fetchVideos(Long tmdbId, MediaType type);
 
     TmdbWatchProvidersResponseDTO fetchWatchProviders(Long tmdbId, MediaType type);
 
+    /** Movie details, credits, videos and watch providers in one TMDB request. */
+    TmdbDetailsBundleDTO<TmdbMovieDTO> fetchMovieDetailsBundle(Long tmdbId);
+
+    /** Show details, credits, videos and watch providers in one TMDB request. */
+    TmdbDetailsBundleDTO<TmdbTvDetailsDTO> fetchTvDetailsBundle(Long tmdbId);
+
     TmdbResponseDTO searchMulti(String query, int page);
 
     TmdbResponseDTO discoverByGenre(String type, Long genreId, int page);
+
+    /**
+     * One page of the ids TMDB recorded a change for between the two dates, inclusive. TMDB accepts
+     * at most {@link #MAX_CHANGES_WINDOW_DAYS} days per request. Never cached.
+     */
+    TmdbChangesResponseDTO fetchChanges(MediaType type, LocalDate startDate, LocalDate endDate, int page);
 }
 
 
@@ -1,22 +1,30 @@
 package com.project.watchmate.media.tmdb.client;
 
-import java.net.ConnectException;
-import java.net.SocketException;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeoutException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.project.watchmate.common.cache.TmdbCacheKeys;
 import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.media.tmdb.dto.TmdbChangesResponseDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbCreditsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbGenreResponseDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
@@ -26,231 +34,349 @@ import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbVideosResponseDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbWatchProvidersResponseDTO;
 import com.project.watchmate.common.error.MediaNotFoundException;
-import com.project.watchmate.common.error.TmdbClientException;
-import com.project.watchmate.common.error.TmdbUnavailableException;
 import com.project.watchmate.media.catalog.domain.MediaType;
 
-import io.netty.handler.timeout.ReadTimeoutException;
-import io.netty.handler.timeout.WriteTimeoutException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import reactor.netty.http.client.PrematureCloseException;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class TmdbClientImpl implements TmdbClient {
-    private static final String TMDB_UNAVAILABLE_MESSAGE = "TMDB is temporarily unavailable. Please try again shortly.";
-    private static final String TMDB_CLIENT_MESSAGE = "TMDB request failed.";
+
+    private static final String BUNDLE_PARTS = "credits,videos,watch/providers";
+
+    /** Buffers requested ahead of the parser when streaming a response body. */
+    private static final int STREAM_DEMAND = 8;
 
     private final WebClient tmdbWebClient;
 
+    private final TmdbRequestCoalescer requestCoalescer;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * For tests without an application context. The mapper ignores unknown properties like the one Spring
+     * Boot configures, since the TMDB DTOs map only the fields the app uses.
+     */
+    public TmdbClientImpl(WebClient tmdbWebClient) {
+        this(
+            tmdbWebClient,
+            new TmdbRequestCoalescer(),
+            JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build()
+        );
+    }
+
+    /**
+     * @param objectMapper the application's mapper, used to decode streamed bodies and the appended
+     *                     {@code season/N} objects, whose keys are only known per request; it must ignore unknown
+     *                     properties, as Spring Boot's does
+     */
+    @Autowired
+    public TmdbClientImpl(WebClient tmdbWebClient, TmdbRequestCoalescer requestCoalescer, ObjectMapper objectMapper) {
+        this.tmdbWebClient = tmdbWebClient;
+        this.requestCoalescer = requestCoalescer;
+        this.objectMapper = objectMapper;
+    }
+
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_GENRES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).genre(#type)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_GENRES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).genre(#type)", sync = true)
     public List<TmdbGenreDTO> fetchGenres(String type) {
         try {
             TmdbGenreResponseDTO response = tmdbWebClient.get()
-                .uri("/genre/{type}/list", type)
+                .uri(TmdbListRequest.GENRES_URI, type)
                 .retrieve()
                 .bodyToMono(TmdbGenreResponseDTO.class)
                 .block();
 
-            return response != null && response.getGenres() != null ? new ArrayList<>(response.getGenres()) : new ArrayList<>();
+            return TmdbListRequest.genres(response);
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "genre fetch", "type=" + type);
+            throw TmdbErrors.fromResponse(ex, "genre fetch", "type=" + type);
         } catch (Exception ex) {
-            throw handleGenericException(ex, "genre fetch", "type=" + type);
+            throw TmdbErrors.fromGeneric(ex, "genre fetch", "type=" + type);
         }
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_POPULAR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_POPULAR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", sync = true)
     public List<TmdbMovieDTO> fetchPopular(String type) {
-        return fetchList("/" + type + "/popular?language=en-US&page=1", type + " popular");
+        return fetchList(TmdbListRequest.popular(type));
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_TRENDING, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_TRENDING, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).listByType(#type)", sync = true)
     public List<TmdbMovieDTO> fetchTrending(String type) {
-        return fetchList("/trending/" + type + "/day?language=en-US", type + " trending");
+        return fetchList(TmdbListRequest.trending(type));
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_UPCOMING_MOVIES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).UPCOMING_MOVIES", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_UPCOMING_MOVIES, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).UPCOMING_MOVIES", sync = true)
     public List<TmdbMovieDTO> fetchUpcomingMovies() {
-        return fetchList("/movie/upcoming?language=en-US&page=1", "movie upcoming");
+        return fetchList(TmdbListRequest.upcomingMovies());
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_AIRING_TODAY, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).AIRING_TODAY", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_AIRING_TODAY, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).AIRING_TODAY", sync = true)
     public List<TmdbMovieDTO> fetchAiringToday() {
-        return fetchList("/tv/airing_today?language=en-US&page=1", "tv airing today");
+        return fetchList(TmdbListRequest.airingToday());
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_ON_THE_AIR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).ON_THE_AIR", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_ON_THE_AIR, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).ON_THE_AIR", sync = true)
     public List<TmdbMovieDTO> fetchOnTheAir() {
-        return fetchList("/tv/on_the_air?language=en-US&page=1", "tv on the air");
+        return fetchList(TmdbListRequest.onTheAir());
     }
 
-    private List<TmdbMovieDTO> fetchList(String uri, String label) {
+    private List<TmdbMovieDTO> fetchList(TmdbListRequest request) {
         try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbResponseDTO.class)
-                .blockOptional()
-                .map(TmdbResponseDTO::getResults)
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new);
+            return TmdbListRequest.results(readStreaming(request.uri(), TmdbResponseDTO.class));
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "list fetch", "label=" + label);
+            throw TmdbErrors.fromResponse(ex, "list fetch", "label=" + request.label());
         } catch (Exception ex) {
-            throw handleGenericException(ex, "list fetch", "label=" + label);
+            throw TmdbErrors.fromGeneric(ex, "list fetch", "label=" + request.label());
         }
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).media(#type, #tmdbId)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).media(#type, #tmdbId)", sync = true)
     public TmdbMovieDTO fetchMediaById(Long tmdbId, MediaType type) {
-        String typePath = (type == MediaType.MOVIE) ? "movie" : "tv";
-        String uri = "/" + typePath + "/" + tmdbId + "?language=en-US";
-
-        try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbMovieDTO.class)
-                .blockOptional()
-                .orElseThrow(() ->
-                    new MediaNotFoundException("TMDB media not found for ID: " + tmdbId));
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB media not found tmdbId={} type={}", tmdbId, type);
-            throw new MediaNotFoundException("TMDB media not found for ID: " + tmdbId);
-        } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "media lookup", "tmdbId=" + tmdbId + " type=" + type);
-        } catch (Exception ex) {
-            throw handleGenericException(ex, "media lookup", "tmdbId=" + tmdbId + " type=" + type);
-        }
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_MEDIA_DETAILS, TmdbCacheKeys.media(type, tmdbId), () -> {
+            String typePath = (type == MediaType.MOVIE) ? "movie" : "tv";
+            String uri = "/" + typePath + "/" + tmdbId + "?language=en-US";
+
+            try {
+                return tmdbWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(TmdbMovieDTO.class)
+                    .blockOptional()
+                    .orElseThrow(() ->
+                        new MediaNotFoundException("TMDB media not found for ID: " + tmdbId));
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB media not found tmdbId={} type={}", tmdbId, type);
+                throw new MediaNotFoundException("TMDB media not found for ID: " + tmdbId);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "media lookup", "tmdbId=" + tmdbId + " type=" + type);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "media lookup", "tmdbId=" + tmdbId + " type=" + type);
+            }
+        });
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SHOW_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).show(#tmdbId)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SHOW_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).show(#tmdbId)", sync = true)
     public TmdbTvDetailsDTO fetchTvDetailsById(Long tmdbId) {
-        String uri = "/tv/" + tmdbId + "?language=en-US";
-
-        try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbTvDetailsDTO.class)
-                .blockOptional()
-                .orElseThrow(() ->
-                    new MediaNotFoundException("TMDB show not found for ID: " + tmdbId));
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB show details not found tmdbId={}", tmdbId);
-            throw new MediaNotFoundException("TMDB show not found for ID: " + tmdbId);
-        } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "show details lookup", "tmdbId=" + tmdbId);
-        } catch (Exception ex) {
-            throw handleGenericException(ex, "show details lookup", "tmdbId=" + tmdbId);
-        }
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, TmdbCacheKeys.show(tmdbId), () -> {
+            String uri = "/tv/" + tmdbId + "?language=en-US";
+
+            try {
+                return tmdbWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(TmdbTvDetailsDTO.class)
+                    .blockOptional()
+                    .orElseThrow(() ->
+                        new MediaNotFoundException("TMDB show not found for ID: " + tmdbId));
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB show details not found tmdbId={}", tmdbId);
+                throw new MediaNotFoundException("TMDB show not found for ID: " + tmdbId);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "show details lookup", "tmdbId=" + tmdbId);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "show details lookup", "tmdbId=" + tmdbId);
+            }
+        });
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SEASON_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).season(#tmdbId, #seasonNumber)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SEASON_DETAILS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).season(#tmdbId, #seasonNumber)", sync = true)
     public TmdbTvSeasonDTO fetchTvSeasonDetails(Long tmdbId, Integer seasonNumber) {
-        String uri = "/tv/" + tmdbId + "/season/" + seasonNumber + "?language=en-US";
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_SEASON_DETAILS, TmdbCacheKeys.season(tmdbId, seasonNumber), () -> {
+            String uri = "/tv/" + tmdbId + "/season/" + seasonNumber + "?language=en-US";
+
+            try {
+                return Optional.ofNullable(readStreaming(uri, TmdbTvSeasonDTO.class))
+                    .orElseThrow(() ->
+                        new MediaNotFoundException("TMDB season not found for show ID: " + tmdbId + " season: " + seasonNumber));
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB season not found tmdbId={} season={}", tmdbId, seasonNumber);
+                throw new MediaNotFoundException("TMDB season not found for show ID: " + tmdbId + " season: " + seasonNumber);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "season lookup", "tmdbId=" + tmdbId + " season=" + seasonNumber);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "season lookup", "tmdbId=" + tmdbId + " season=" + seasonNumber);
+            }
+        });
+    }
+
+    @Override
+    public Map<Integer, TmdbTvSeasonDTO> fetchTvSeasonDetailsBatch(Long tmdbId, List<Integer> seasonNumbers) {
+        if (seasonNumbers.isEmpty()) {
+            return Map.of();
+        }
+        if (seasonNumbers.size() > MAX_APPENDED_SEASONS) {
+            throw new IllegalArgumentException("At most " + MAX_APPENDED_SEASONS + " seasons can be fetched per request.");
+        }
+
+        String appendedSeasons = seasonNumbers.stream()
+            .map(seasonNumber -> "season/" + seasonNumber)
+            .collect(Collectors.joining(","));
+        String uri = "/tv/" + tmdbId + "?language=en-US&append_to_response=" + appendedSeasons;
+        String context = "tmdbId=" + tmdbId + " seasons=" + seasonNumbers;
 
         try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbTvSeasonDTO.class)
-                .blockOptional()
-                .orElseThrow(() ->
-                    new MediaNotFoundException("TMDB season not found for show ID: " + tmdbId + " season: " + seasonNumber));
+            JsonNode response = readStreaming(uri, JsonNode.class);
+
+            Map<Integer, TmdbTvSeasonDTO> seasons = new LinkedHashMap<>();
+            if (response == null) {
+                return seasons;
+            }
+            for (Integer seasonNumber : seasonNumbers) {
+                JsonNode season = response.get("season/" + seasonNumber);
+                if (season != null && season.isObject()) {
+                    seasons.put(seasonNumber, objectMapper.treeToValue(season, TmdbTvSeasonDTO.class));
+                }
+            }
+            return seasons;
         } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB season not found tmdbId={} season={}", tmdbId, seasonNumber);
-            throw new MediaNotFoundException("TMDB season not found for show ID: " + tmdbId + " season: " + seasonNumber);
+            log.warn("TMDB show not found for season batch tmdbId={}", tmdbId);
+            throw new MediaNotFoundException("TMDB show not found for ID: " + tmdbId);
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "season lookup", "tmdbId=" + tmdbId + " season=" + seasonNumber);
+            throw TmdbErrors.fromResponse(ex, "season batch lookup", context);
         } catch (Exception ex) {
-            throw handleGenericException(ex, "season lookup", "tmdbId=" + tmdbId + " season=" + seasonNumber);
+            throw TmdbErrors.fromGeneric(ex, "season batch lookup", context);
         }
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_CREDITS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).credits(#type, #tmdbId)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_CREDITS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).credits(#type, #tmdbId)", sync = true)
     public TmdbCreditsDTO fetchCredits(Long tmdbId, MediaType type) {
-        String typePath = tmdbTypePath(type);
-        String uri = "/" + typePath + "/" + tmdbId + "/credits?language=en-US";
-
-        try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbCreditsDTO.class)
-                .blockOptional()
-                .orElseGet(() -> TmdbCreditsDTO.builder().id(tmdbId).build());
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB credits not found tmdbId={} type={}", tmdbId, type);
-            throw new MediaNotFoundException("TMDB credits not found for ID: " + tmdbId);
-        } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "credits lookup", "tmdbId=" + tmdbId + " type=" + type);
-        } catch (Exception ex) {
-            throw handleGenericException(ex, "credits lookup", "tmdbId=" + tmdbId + " type=" + type);
-        }
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_MEDIA_CREDITS, TmdbCacheKeys.credits(type, tmdbId), () -> {
+            String typePath = tmdbTypePath(type);
+            String uri = "/" + typePath + "/" + tmdbId + "/credits?language=en-US";
+
+            try {
+                return tmdbWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(TmdbCreditsDTO.class)
+                    .blockOptional()
+                    .orElseGet(() -> TmdbCreditsDTO.builder().id(tmdbId).build());
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB credits not found tmdbId={} type={}", tmdbId, type);
+                throw new MediaNotFoundException("TMDB credits not found for ID: " + tmdbId);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "credits lookup", "tmdbId=" + tmdbId + " type=" + type);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "credits lookup", "tmdbId=" + tmdbId + " type=" + type);
+            }
+        });
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_VIDEOS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).videos(#type, #tmdbId)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_VIDEOS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).videos(#type, #tmdbId)", sync = true)
     public TmdbVideosResponseDTO fetchVideos(Long tmdbId, MediaType type) {
-        String typePath = tmdbTypePath(type);
-        String uri = "/" + typePath + "/" + tmdbId + "/videos?language=en-US";
-
-        try {
-            return tmdbWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(TmdbVideosResponseDTO.class)
-                .blockOptional()
-                .orElseGet(() -> TmdbVideosResponseDTO.builder().id(tmdbId).build());
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB videos not found tmdbId={} type={}", tmdbId, type);
-            throw new MediaNotFoundException("TMDB videos not found for ID: " + tmdbId);
-        } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "videos lookup", "tmdbId=" + tmdbId + " type=" + type);
-        } catch (Exception ex) {
-            throw handleGenericException(ex, "videos lookup", "tmdbId=" + tmdbId + " type=" + type);
-        }
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_MEDIA_VIDEOS, TmdbCacheKeys.videos(type, tmdbId), () -> {
+            String typePath = tmdbTypePath(type);
+            String uri = "/" + typePath + "/" + tmdbId + "/videos?language=en-US";
+
+            try {
+                return tmdbWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(TmdbVideosResponseDTO.class)
+                    .blockOptional()
+                    .orElseGet(() -> TmdbVideosResponseDTO.builder().id(tmdbId).build());
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB videos not found tmdbId={} type={}", tmdbId, type);
+                throw new MediaNotFoundException("TMDB videos not found for ID: " + tmdbId);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "videos lookup", "tmdbId=" + tmdbId + " type=" + type);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "videos lookup", "tmdbId=" + tmdbId + " type=" + type);
+            }
+        });
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).watchProviders(#type, #tmdbId)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).watchProviders(#type, #tmdbId)", sync = true)
     public TmdbWatchProvidersResponseDTO fetchWatchProviders(Long tmdbId, MediaType type) {
-        String typePath = tmdbTypePath(type);
-        String uri = "/" + typePath + "/" + tmdbId + "/watch/providers";
+        return requestCoalescer.execute(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, TmdbCacheKeys.watchProviders(type, tmdbId), () -> {
+            String typePath = tmdbTypePath(type);
+            String uri = "/" + typePath + "/" + tmdbId + "/watch/providers";
+
+            try {
+                return tmdbWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(TmdbWatchProvidersResponseDTO.class)
+                    .blockOptional()
+                    .orElseGet(() -> TmdbWatchProvidersResponseDTO.builder().id(tmdbId).build());
+            } catch (WebClientResponseException.NotFound ex) {
+                log.warn("TMDB watch providers not found tmdbId={} type={}", tmdbId, type);
+                throw new MediaNotFoundException("TMDB watch providers not found for ID: " + tmdbId);
+            } catch (WebClientResponseException ex) {
+                throw TmdbErrors.fromResponse(ex, "watch providers lookup", "tmdbId=" + tmdbId + " type=" + type);
+            } catch (Exception ex) {
+                throw TmdbErrors.fromGeneric(ex, "watch providers lookup", "tmdbId=" + tmdbId + " type=" + type);
+            }
+        });
+    }
+
+    @Override
+    public TmdbDetailsBundleDTO<TmdbMovieDTO> fetchMovieDetailsBundle(Long tmdbId) {
+        return fetchDetailsBundle(MediaType.MOVIE, tmdbId, new ParameterizedTypeReference<TmdbDetailsBundleDTO<TmdbMovieDTO>>() {});
+    }
+
+    @Override
+    public TmdbDetailsBundleDTO<TmdbTvDetailsDTO> fetchTvDetailsBundle(Long tmdbId) {
+        return fetchDetailsBundle(MediaType.SHOW, tmdbId, new ParameterizedTypeReference<TmdbDetailsBundleDTO<TmdbTvDetailsDTO>>() {});
+    }
 
+    private <T> TmdbDetailsBundleDTO<T> fetchDetailsBundle(
+        MediaType type,
+        Long tmdbId,
+        ParameterizedTypeReference<TmdbDetailsBundleDTO<T>> bundleType
+    ) {
+        String uri = "/" + tmdbTypePath(type) + "/" + tmdbId + "?language=en-US&append_to_response=" + BUNDLE_PARTS;
+        TmdbDetailsBundleDTO<T> bundle;
         try {
-            return tmdbWebClient.get()
+            bundle = tmdbWebClient.get()
                 .uri(uri)
                 .retrieve()
-                .bodyToMono(TmdbWatchProvidersResponseDTO.class)
-                .blockOptional()
-                .orElseGet(() -> TmdbWatchProvidersResponseDTO.builder().id(tmdbId).build());
+                .bodyToMono(bundleType)
+                .block();
         } catch (WebClientResponseException.NotFound ex) {
-            log.warn("TMDB watch providers not found tmdbId={} type={}", tmdbId, type);
-            throw new MediaNotFoundException("TMDB watch providers not found for ID: " + tmdbId);
+            log.warn("TMDB details bundle not found tmdbId={} type={}", tmdbId, type);
+            throw new MediaNotFoundException("TMDB media not found for ID: " + tmdbId);
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "watch providers lookup", "tmdbId=" + tmdbId + " type=" + type);
+            throw TmdbErrors.fromResponse(ex, "details bundle lookup", "tmdbId=" + tmdbId + " type=" + type);
         } catch (Exception ex) {
-            throw handleGenericException(ex, "watch providers lookup", "tmdbId=" + tmdbId + " type=" + type);
+            throw TmdbErrors.fromGeneric(ex, "details bundle lookup", "tmdbId=" + tmdbId + " type=" + type);
+        }
+
+        if (bundle == null || bundle.getDetails() == null) {
+            throw new MediaNotFoundException("TMDB media not found for ID: " + tmdbId);
+        }
+        // Appended parts carry no id of their own; the standalone endpoints always return it.
+        if (bundle.getCredits() != null) {
+            bundle.getCredits().setId(tmdbId);
         }
+        if (bundle.getVideos() != null) {
+            bundle.getVideos().setId(tmdbId);
+        }
+        if (bundle.getWatchProviders() != null) {
+            bundle.getWatchProviders().setId(tmdbId);
+        }
+        return bundle;
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SEARCH, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).search(#query, #page)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_SEARCH, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).search(#query, #page)", sync = true)
     public TmdbResponseDTO searchMulti(String query, int page) {
         try {
             return tmdbWebClient.get()
@@ -264,14 +390,14 @@ public class TmdbClientImpl implements TmdbClient {
                 .bodyToMono(TmdbResponseDTO.class)
                 .block();
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "search", "page=" + page);
+            throw TmdbErrors.fromResponse(ex, "search", "page=" + page);
         } catch (Exception ex) {
-            throw handleGenericException(ex, "search", "page=" + page);
+            throw TmdbErrors.fromGeneric(ex, "search", "page=" + page);
         }
     }
 
     @Override
-    @Cacheable(cacheNames = TmdbCacheNames.TMDB_DISCOVER_BY_GENRE, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).discoverByGenre(#type, #genreId, #page)", unless = "#result == null")
+    @Cacheable(cacheNames = TmdbCacheNames.TMDB_DISCOVER_BY_GENRE, key = "T(com.project.watchmate.common.cache.TmdbCacheKeys).discoverByGenre(#type, #genreId, #page)", sync = true)
     public TmdbResponseDTO discoverByGenre(String type, Long genreId, int page) {
         try {
             return tmdbWebClient.get()
@@ -285,55 +411,52 @@ public class TmdbClientImpl implements TmdbClient {
                 .bodyToMono(TmdbResponseDTO.class)
                 .block();
         } catch (WebClientResponseException ex) {
-            throw handleWebClientResponseException(ex, "discover", "type=" + type + " genreId=" + genreId + " page=" + page);
+            throw TmdbErrors.fromResponse(ex, "discover", "type=" + type + " genreId=" + genreId + " page=" + page);
         } catch (Exception ex) {
-            throw handleGenericException(ex, "discover", "type=" + type + " genreId=" + genreId + " page=" + page);
+            throw TmdbErrors.fromGeneric(ex, "discover", "type=" + type + " genreId=" + genreId + " page=" + page);
         }
     }
 
-    private RuntimeException handleWebClientResponseException(WebClientResponseException ex, String operation, String context) {
-        if (ex.getStatusCode().is5xxServerError()) {
-            log.error("TMDB {} unavailable context={} status={}", operation, context, ex.getStatusCode().value(), ex);
-            return new TmdbUnavailableException(TMDB_UNAVAILABLE_MESSAGE, ex);
-        }
-        if (ex.getStatusCode().value() == 429) {
-            log.warn("TMDB {} rate limited context={} status={}", operation, context, ex.getStatusCode().value());
-            return new TmdbClientException(TMDB_UNAVAILABLE_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE, "TMDB_UNAVAILABLE", ex);
-        }
-
-        log.warn("TMDB {} failed context={} status={}", operation, context, ex.getStatusCode().value());
-        return new TmdbClientException(TMDB_CLIENT_MESSAGE, HttpStatus.BAD_GATEWAY, "TMDB_CLIENT_ERROR", ex);
-    }
+    @Override
+    public TmdbChangesResponseDTO fetchChanges(MediaType type, LocalDate startDate, LocalDate endDate, int page) {
+        String uri = "/" + tmdbTypePath(type) + "/changes?start_date=" + startDate + "&end_date=" + endDate + "&page=" + page;
+        String context = "type=" + type + " startDate=" + startDate + " endDate=" + endDate + " page=" + page;
 
-    private String tmdbTypePath(MediaType type) {
-        return type == MediaType.SHOW ? "tv" : "movie";
+        try {
+            return Optional.ofNullable(readStreaming(uri, TmdbChangesResponseDTO.class))
+                .orElseGet(TmdbChangesResponseDTO::new);
+        } catch (WebClientResponseException ex) {
+            throw TmdbErrors.fromResponse(ex, "changes fetch", context);
+        } catch (Exception ex) {
+            throw TmdbErrors.fromGeneric(ex, "changes fetch", context);
+        }
     }
 
-    private RuntimeException handleGenericException(Exception ex, String operation, String context) {
-        if (ex instanceof WebClientRequestException || isNetworkOrTimeoutFailure(ex)) {
-            log.error("TMDB {} unavailable context={} reason={}", operation, context, ex.getClass().getSimpleName(), ex);
-            return new TmdbUnavailableException(TMDB_UNAVAILABLE_MESSAGE, ex);
+    /**
+     * GETs {@code uri} and decodes the body with Jackson's streaming parser as the buffers arrive, instead
+     * of joining the whole body into memory first as {@code bodyToMono} does. Used for seasons and lists,
+     * the largest TMDB payloads. Error statuses still fail before the body is read, so callers handle
+     * {@link WebClientResponseException} as usual. Returns {@code null} for an empty body.
+     */
+    private <T> T readStreaming(String uri, Class<T> type) {
+        ResponseEntity<Flux<DataBuffer>> response = tmdbWebClient.get()
+            .uri(uri)
+            .retrieve()
+            .toEntityFlux(DataBuffer.class)
+            .block();
+        if (response == null || response.getBody() == null) {
+            return null;
         }
 
-        log.error("TMDB {} failed context={}", operation, context, ex);
-        return new TmdbClientException(TMDB_CLIENT_MESSAGE, HttpStatus.BAD_GATEWAY, "TMDB_CLIENT_ERROR", ex);
+        try (InputStream body = DataBufferUtils.subscriberInputStream(response.getBody(), STREAM_DEMAND);
+             JsonParser parser = objectMapper.createParser(body)) {
+            return parser.nextToken() == null ? null : objectMapper.readValue(parser, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
-    private boolean isNetworkOrTimeoutFailure(Throwable throwable) {
-        Throwable current = throwable;
-        while (current != null) {
-            if (current instanceof TimeoutException
-                || current instanceof SocketTimeoutException
-                || current instanceof ConnectException
-                || current instanceof UnknownHostException
-                || current instanceof SocketException
-                || current instanceof ReadTimeoutException
-                || current instanceof WriteTimeoutException
-                || current instanceof PrematureCloseException) {
-                return true;
-            }
-            current = current.getCause();
-        }
-        return false;
+    private String tmdbTypePath(MediaType type) {
+        return type == MediaType.SHOW ? "tv" : "movie";
     }
 }
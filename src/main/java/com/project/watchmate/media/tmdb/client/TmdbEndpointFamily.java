@@ -0,0 +1,77 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Groups TMDB endpoints that tend to fail together, so {@link TmdbCircuitBreaker} can open a circuit for,
+ * say, season lookups without cutting off search.
+ */
+public enum TmdbEndpointFamily {
+    /** {@code /movie/{id}} and {@code /tv/{id}}. */
+    DETAILS,
+    /** {@code /tv/{id}/season/{n}}, and show details that append seasons. */
+    SEASONS,
+    /** Credits, videos and watch providers. */
+    EXTRAS,
+    /** {@code /search} and {@code /discover}. */
+    SEARCH,
+    /** Trending, genre and curated lists such as {@code /movie/popular}. */
+    LISTS,
+    /** {@code /movie/changes} and {@code /tv/changes}. */
+    CHANGES,
+    OTHER;
+
+    private static final Set<String> MEDIA_ROOTS = Set.of("movie", "tv");
+
+    private static final Set<String> LIST_NAMES = Set.of("popular", "top_rated", "upcoming", "now_playing", "airing_today", "on_the_air");
+
+    private static final Set<String> EXTRAS_NAMES = Set.of("credits", "aggregate_credits", "videos", "watch");
+
+    public static TmdbEndpointFamily of(URI url) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : url.getPath().split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        // The API version is part of the base URL.
+        if (!segments.isEmpty() && segments.get(0).equals("3")) {
+            segments.remove(0);
+        }
+        if (segments.isEmpty()) {
+            return OTHER;
+        }
+
+        String root = segments.get(0);
+        if (root.equals("search") || root.equals("discover")) {
+            return SEARCH;
+        }
+        if (root.equals("trending") || root.equals("genre")) {
+            return LISTS;
+        }
+        if (!MEDIA_ROOTS.contains(root) || segments.size() < 2) {
+            return OTHER;
+        }
+
+        String second = segments.get(1);
+        if (second.equals("changes")) {
+            return CHANGES;
+        }
+        if (LIST_NAMES.contains(second)) {
+            return LISTS;
+        }
+        if (segments.size() == 2) {
+            String query = url.getRawQuery();
+            return query != null && query.contains("append_to_response=season") ? SEASONS : DETAILS;
+        }
+
+        String third = segments.get(2);
+        if (third.equals("season")) {
+            return SEASONS;
+        }
+        return EXTRAS_NAMES.contains(third) ? EXTRAS : OTHER;
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.common.error.TmdbCircuitOpenException;
+import com.project.watchmate.common.error.TmdbClientException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.PrematureCloseException;
+
+/**
+ * Maps TMDB call failures to the application's exceptions, shared by the blocking and reactive clients
+ * so both surface the same error types and log lines.
+ */
+@Slf4j
+final class TmdbErrors {
+
+    static final String TMDB_UNAVAILABLE_MESSAGE = "TMDB is temporarily unavailable. Please try again shortly.";
+    private static final String TMDB_CLIENT_MESSAGE = "TMDB request failed.";
+
+    private TmdbErrors() {
+    }
+
+    /** Maps any failure; already-mapped exceptions such as {@link MediaNotFoundException} pass through. */
+    static RuntimeException translate(Throwable ex, String operation, String context) {
+        if (ex instanceof MediaNotFoundException
+            || ex instanceof TmdbClientException
+            || ex instanceof TmdbUnavailableException) {
+            return (RuntimeException) ex;
+        }
+        if (ex instanceof WebClientResponseException responseException) {
+            return fromResponse(responseException, operation, context);
+        }
+        return fromGeneric(ex, operation, context);
+    }
+
+    static RuntimeException fromResponse(WebClientResponseException ex, String operation, String context) {
+        if (ex.getStatusCode().is5xxServerError()) {
+            log.error("TMDB {} unavailable context={} status={}", operation, context, ex.getStatusCode().value(), ex);
+            return new TmdbUnavailableException(TMDB_UNAVAILABLE_MESSAGE, ex);
+        }
+        if (ex.getStatusCode().value() == 429) {
+            log.warn("TMDB {} rate limited context={} status={}", operation, context, ex.getStatusCode().value());
+            return new TmdbClientException(TMDB_UNAVAILABLE_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE, "TMDB_UNAVAILABLE", ex);
+        }
+
+        log.warn("TMDB {} failed context={} status={}", operation, context, ex.getStatusCode().value());
+        return new TmdbClientException(TMDB_CLIENT_MESSAGE, HttpStatus.BAD_GATEWAY, "TMDB_CLIENT_ERROR", ex);
+    }
+
+    static RuntimeException fromGeneric(Throwable ex, String operation, String context) {
+        if (ex instanceof TmdbCircuitOpenException circuitOpen) {
+            log.warn("TMDB {} skipped context={} reason=circuit_open", operation, context);
+            return circuitOpen;
+        }
+        if (ex instanceof WebClientRequestException || isNetworkOrTimeoutFailure(ex)) {
+            log.error("TMDB {} unavailable context={} reason={}", operation, context, ex.getClass().getSimpleName(), ex);
+            return new TmdbUnavailableException(TMDB_UNAVAILABLE_MESSAGE, ex);
+        }
+
+        log.error("TMDB {} failed context={}", operation, context, ex);
+        return new TmdbClientException(TMDB_CLIENT_MESSAGE, HttpStatus.BAD_GATEWAY, "TMDB_CLIENT_ERROR", ex);
+    }
+
+    private static boolean isNetworkOrTimeoutFailure(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof TimeoutException
+                || current instanceof SocketTimeoutException
+                || current instanceof ConnectException
+                || current instanceof UnknownHostException
+                || current instanceof SocketException
+                || current instanceof ReadTimeoutException
+                || current instanceof WriteTimeoutException
+                || current instanceof PrematureCloseException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbGenreResponseDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbResponseDTO;
+
+/**
+ * A TMDB list endpoint as both {@link TmdbClientImpl} and {@link ReactiveTmdbClientImpl} call it, with how
+ * its response is unwrapped, so the blocking and non-blocking clients request and decode lists identically.
+ */
+record TmdbListRequest(String uri, String label) {
+
+    static final String GENRES_URI = "/genre/{type}/list";
+
+    static TmdbListRequest popular(String type) {
+        return new TmdbListRequest("/" + type + "/popular?language=en-US&page=1", type + " popular");
+    }
+
+    static TmdbListRequest trending(String type) {
+        return new TmdbListRequest("/trending/" + type + "/day?language=en-US", type + " trending");
+    }
+
+    static TmdbListRequest upcomingMovies() {
+        return new TmdbListRequest("/movie/upcoming?language=en-US&page=1", "movie upcoming");
+    }
+
+    static TmdbListRequest airingToday() {
+        return new TmdbListRequest("/tv/airing_today?language=en-US&page=1", "tv airing today");
+    }
+
+    static TmdbListRequest onTheAir() {
+        return new TmdbListRequest("/tv/on_the_air?language=en-US&page=1", "tv on the air");
+    }
+
+    /** The results as a mutable list, empty when TMDB sent no body or no results. */
+    static List<TmdbMovieDTO> results(TmdbResponseDTO response) {
+        return response != null && response.getResults() != null ? new ArrayList<>(response.getResults()) : new ArrayList<>();
+    }
+
+    /** The genres as a mutable list, empty when TMDB sent no body or no genres. */
+    static List<TmdbGenreDTO> genres(TmdbGenreResponseDTO response) {
+        return response != null && response.getGenres() != null ? new ArrayList<>(response.getGenres()) : new ArrayList<>();
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchmate.tmdb.rate-limit")
+public class TmdbRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Sustained TMDB requests per second shared by every caller in this instance. */
+    private int requestsPerSecond = 40;
+
+    /** Requests that may be sent at once after an idle period. */
+    private int burst = 40;
+
+    /** Tokens background callers leave for interactive ones; background requests wait while no more are left. */
+    private int backgroundReserve = 10;
+
+    /** Longest an interactive request waits for a token before failing as unavailable. */
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    /** Longest a background request waits for a token before failing as unavailable. */
+    private Duration backgroundMaxWait = Duration.ofSeconds(30);
+
+    /** Retries of a GET answered with 429 or 5xx; 0 disables retrying. */
+    private int maxRetries = 2;
+
+    private Duration initialBackoff = Duration.ofMillis(250);
+
+    /** Upper bound for a retry delay; a longer Retry-After is not waited out and the response is returned as is. */
+    private Duration maxBackoff = Duration.ofSeconds(4);
+}
@@ -0,0 +1,120 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.project.watchmate.common.error.TmdbUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets concurrent identical TMDB lookups share one HTTP exchange within the JVM. The first caller for a
+ * key runs the request; callers arriving while it is in flight wait for it and get the same result or
+ * exception. Nothing is kept once the request finishes, so this only collapses bursts; caching stays
+ * with the TMDB caches. Waiters give up after {@link #WAIT_TIMEOUT} with a {@link TmdbUnavailableException},
+ * so a stuck request ties up only its own caller.
+ *
+ * <p>Unlike the cache tier's {@code SingleFlightLoader}, this also applies when caching or cache
+ * single-flight is disabled. Every lookup is counted in {@value #REQUESTS_METRIC}, tagged
+ * {@code outcome=sent} or {@code outcome=coalesced}; the coalesced count is the number of TMDB calls saved.
+ */
+@Component
+public class TmdbRequestCoalescer {
+
+    static final String REQUESTS_METRIC = "watchmate.tmdb.requests";
+
+    /** A little over the TMDB WebClient's connect plus response timeouts (5 s + 8 s). */
+    static final Duration WAIT_TIMEOUT = Duration.ofSeconds(15);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration waitTimeout;
+
+    public TmdbRequestCoalescer() {
+        this((MeterRegistry) null);
+    }
+
+    @Autowired
+    public TmdbRequestCoalescer(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable());
+    }
+
+    TmdbRequestCoalescer(MeterRegistry meterRegistry) {
+        this(meterRegistry, WAIT_TIMEOUT);
+    }
+
+    TmdbRequestCoalescer(MeterRegistry meterRegistry, Duration waitTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * @param cacheName the TMDB cache the lookup belongs to, used as the metric tag and key namespace
+     * @param key the lookup's TMDB cache key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String cacheName, String key, Supplier<T> request) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            count(cacheName, "coalesced");
+            return (T) join(existing, waitTimeout);
+        }
+
+        count(cacheName, "sent");
+        try {
+            T value = request.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            // Errors too, or the callers waiting on this flight would only be released by their timeout.
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private void count(String cacheName, String outcome) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder(REQUESTS_METRIC)
+            .tags("cache", cacheName, "outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static Object join(CompletableFuture<Object> flight, Duration waitTimeout) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new TmdbUnavailableException(TmdbErrors.TMDB_UNAVAILABLE_MESSAGE, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight TMDB request", ex);
+        }
+    }
+}
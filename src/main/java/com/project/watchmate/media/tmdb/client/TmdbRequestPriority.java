@@ -0,0 +1,69 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.util.function.Supplier;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Priority of the TMDB requests made by the current thread. Requests are {@link #INTERACTIVE} unless made
+ * inside a {@link #background()} scope, so only scheduled sync and job processing need to opt in.
+ *
+ * <p>{@link TmdbRequestThrottle} reads the priority from the request's Reactor {@code Context} when one was
+ * written with {@link #captureContext()}, and from the subscribing thread otherwise. Reactive requests
+ * capture it when they are assembled, since they may be subscribed on a Redis or timer thread; code that
+ * hands work to such a thread, like the cache's async loader, carries it over with {@link #propagate}.
+ */
+public enum TmdbRequestPriority {
+
+    INTERACTIVE,
+
+    BACKGROUND;
+
+    private static final ThreadLocal<TmdbRequestPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    private static final String CONTEXT_KEY = TmdbRequestPriority.class.getName();
+
+    public static TmdbRequestPriority current() {
+        return CURRENT.get();
+    }
+
+    /** This thread's priority as a Reactor {@code Context}, for {@code contextWrite} on a TMDB request. */
+    public static Context captureContext() {
+        return Context.of(CONTEXT_KEY, current());
+    }
+
+    /** The priority written to {@code context}, or this thread's when none was. */
+    static TmdbRequestPriority from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, current());
+    }
+
+    /** Wraps {@code task} so it runs with this thread's priority on whichever thread later calls it. */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        TmdbRequestPriority priority = current();
+        return () -> {
+            try (Scope scope = enter(priority)) {
+                return task.get();
+            }
+        };
+    }
+
+    /** Marks this thread's TMDB requests as background work until the returned scope is closed. */
+    public static Scope background() {
+        return enter(BACKGROUND);
+    }
+
+    /** Sets this thread's priority until the scope is closed, e.g. to carry a caller's priority onto a pool thread. */
+    public static Scope enter(TmdbRequestPriority priority) {
+        TmdbRequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        return () -> CURRENT.set(previous);
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.watchmate.media.tmdb.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbound budget and retry policy for every request on the TMDB {@code WebClient}, shared by the
+ * blocking and reactive clients.
+ *
+ * <p>All requests draw from one Bucket4j token bucket. {@link TmdbRequestPriority#BACKGROUND} requests
+ * only take a token while more than the configured reserve is left, so a discovery sync or a tracking
+ * job cannot starve page loads. The priority comes from the request's Reactor {@code Context}, or from
+ * the subscribing thread when the caller wrote none. A request that cannot get a token within its max wait fails with a
+ * {@link TimeoutException}, which the clients report as TMDB being unavailable. Waiting is done with
+ * {@link Mono#delay}, never by blocking a thread.
+ *
+ * <p>GETs answered with 429 or 5xx are retried with jittered exponential backoff, waiting at least as
+ * long as the response's {@code Retry-After}. Each retry takes a token of its own. When TMDB asks for a
+ * longer pause than the max backoff, the response is returned unchanged instead.
+ *
+ * <p>Like {@code AuthRateLimitFilter}, the bucket is per instance.
+ */
+@Component
+@Slf4j
+public class TmdbRequestThrottle implements ExchangeFilterFunction {
+
+    private final TmdbRateLimitProperties properties;
+
+    private final Bucket bucket;
+
+    public TmdbRequestThrottle(TmdbRateLimitProperties properties) {
+        this.properties = properties;
+        this.bucket = Bucket.builder()
+            .addLimit(Bandwidth.builder()
+                .capacity(properties.getBurst())
+                .refillGreedy(properties.getRequestsPerSecond(), Duration.ofSeconds(1))
+                .build())
+            .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        // Read once per request; retries run on timer threads, which carry no priority of their own.
+        int maxRetries = HttpMethod.GET.equals(request.method()) ? properties.getMaxRetries() : 0;
+        return Mono.deferContextual(context -> exchange(request, next, TmdbRequestPriority.from(context), 0, maxRetries));
+    }
+
+    private Mono<ClientResponse> exchange(
+        ClientRequest request,
+        ExchangeFunction next,
+        TmdbRequestPriority priority,
+        int attempt,
+        int maxRetries
+    ) {
+        Duration maxWait = priority == TmdbRequestPriority.BACKGROUND ? properties.getBackgroundMaxWait() : properties.getMaxWait();
+        return acquire(priority, System.nanoTime() + maxWait.toNanos())
+            .then(Mono.defer(() -> next.exchange(request)))
+            .flatMap(response -> {
+                if (attempt >= maxRetries || !isRetryable(response.statusCode())) {
+                    return Mono.just(response);
+                }
+                Duration delay = retryDelay(attempt, retryAfter(response.headers().asHttpHeaders(), Instant.now()));
+                if (delay == null) {
+                    return Mono.just(response);
+                }
+
+                log.warn("TMDB request retrying path={} status={} attempt={} delayMs={}",
+                    request.url().getPath(), response.statusCode().value(), attempt + 1, delay.toMillis());
+                return response.releaseBody()
+                    .then(Mono.delay(delay))
+                    .then(Mono.defer(() -> exchange(request, next, priority, attempt + 1, maxRetries)));
+            });
+    }
+
+    private Mono<Void> acquire(TmdbRequestPriority priority, long deadlineNanos) {
+        return Mono.defer(() -> {
+            long waitNanos = tryAcquire(priority);
+            if (waitNanos == 0) {
+                return Mono.empty();
+            }
+            if (System.nanoTime() + waitNanos > deadlineNanos) {
+                log.warn("TMDB request budget exhausted priority={}", priority);
+                return Mono.error(new TimeoutException("Timed out waiting for the TMDB request budget."));
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(acquire(priority, deadlineNanos));
+        });
+    }
+
+    /** Takes a token and returns 0, or returns how long to wait before trying again. */
+    long tryAcquire(TmdbRequestPriority priority) {
+        if (priority == TmdbRequestPriority.BACKGROUND) {
+            long reserve = Math.min(properties.getBackgroundReserve(), properties.getBurst() - 1L);
+            if (reserve > 0) {
+                EstimationProbe estimate = bucket.estimateAbilityToConsume(reserve + 1);
+                if (!estimate.canBeConsumed()) {
+                    return Math.max(estimate.getNanosToWaitForRefill(), 1L);
+                }
+            }
+        }
+
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        return probe.isConsumed() ? 0L : Math.max(probe.getNanosToWaitForRefill(), 1L);
+    }
+
+    /**
+     * Jittered exponential backoff, at least {@code retryAfter} when TMDB sent one. Returns {@code null}
+     * when {@code retryAfter} is longer than the max backoff.
+     */
+    Duration retryDelay(int attempt, Duration retryAfter) {
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        if (retryAfter != null && retryAfter.toMillis() > maxMillis) {
+            return null;
+        }
+
+        long exponentialMillis = Math.min(maxMillis, properties.getInitialBackoff().toMillis() << Math.min(attempt, 20));
+        long jitteredMillis = exponentialMillis / 2 + ThreadLocalRandom.current().nextLong(exponentialMillis / 2 + 1);
+        Duration delay = Duration.ofMillis(jitteredMillis);
+        return retryAfter != null && retryAfter.compareTo(delay) > 0 ? retryAfter : delay;
+    }
+
+    /** {@code Retry-After} as delay-seconds or an HTTP date, or {@code null} when absent or unreadable. */
+    static Duration retryAfter(HttpHeaders headers, Instant now) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Not delay-seconds; try the HTTP-date form below.
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration untilRetry = Duration.between(now, retryAt);
+            return untilRetry.isNegative() ? Duration.ZERO : untilRetry;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+}
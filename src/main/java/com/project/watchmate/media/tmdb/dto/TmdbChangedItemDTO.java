@@ -0,0 +1,15 @@
+package com.project.watchmate.media.tmdb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbChangedItemDTO {
+
+    private Long id;
+
+    private Boolean adult;
+}
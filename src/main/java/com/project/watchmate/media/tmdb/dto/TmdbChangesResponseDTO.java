@@ -0,0 +1,25 @@
+package com.project.watchmate.media.tmdb.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbChangesResponseDTO {
+
+    private List<TmdbChangedItemDTO> results;
+
+    private int page;
+
+    @JsonProperty("total_pages")
+    private int totalPages;
+
+    @JsonProperty("total_results")
+    private int totalResults;
+}
@@ -0,0 +1,33 @@
+package com.project.watchmate.media.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A TMDB details response requested with {@code append_to_response=credits,videos,watch/providers}.
+ * The details are the top-level fields ({@link TmdbMovieDTO} for movies, {@link TmdbTvDetailsDTO} for
+ * shows); each appended part arrives under its own key, in the same shape as its standalone endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbDetailsBundleDTO<T> {
+
+    @JsonUnwrapped
+    private T details;
+
+    private TmdbCreditsDTO credits;
+
+    private TmdbVideosResponseDTO videos;
+
+    @JsonProperty("watch/providers")
+    private TmdbWatchProvidersResponseDTO watchProviders;
+}
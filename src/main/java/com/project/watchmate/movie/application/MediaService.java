@@ -18,6 +18,9 @@ import com.project.watchmate.common.mapper.WatchMateMapper;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.extras.application.MediaExtrasService;
+import com.project.watchmate.media.tmdb.application.TmdbDetailsBundleService;
+import com.project.watchmate.media.tmdb.client.TmdbCircuitBreaker;
+import com.project.watchmate.media.tmdb.client.TmdbEndpointFamily;
 import com.project.watchmate.media.extras.dto.MediaExtrasDTO;
 import com.project.watchmate.review.domain.Review;
 import com.project.watchmate.user.domain.Users;
@@ -54,8 +57,13 @@ public class MediaService {
 
     private final MediaExtrasService mediaExtrasService;
 
+    private final TmdbDetailsBundleService tmdbDetailsBundleService;
+
+    private final TmdbCircuitBreaker tmdbCircuitBreaker;
+
     @Transactional
     public MovieDetailsDTO getMovieDetails(Long tmdbId, Users userParam){
+        tmdbDetailsBundleService.prefetchDetailPage(tmdbId, MediaType.MOVIE);
         Media media = userParam == null
             ? mediaRepository.findByTmdbIdAndType(tmdbId, MediaType.MOVIE).orElse(null)
             : mediaResolutionService.resolveMediaByTmdbId(tmdbId, MediaType.MOVIE);
@@ -65,7 +73,10 @@ public class MediaService {
         UserContext userContext = resolveUserContext(userParam, media);
         MediaExtrasDTO extras = mediaExtrasService.getExtras(tmdbId, MediaType.MOVIE);
 
-        return toMovieDetailsDTO(publicBase, reviews, userContext.isFavourited(), userContext.watchStatus(), extras);
+        MovieDetailsDTO movieDetails = toMovieDetailsDTO(publicBase, reviews, userContext.isFavourited(), userContext.watchStatus(), extras);
+        // The base is served from the stored snapshot; while TMDB details are failing it cannot be refreshed.
+        movieDetails.setPossiblyStale(tmdbCircuitBreaker.isOpen(TmdbEndpointFamily.DETAILS));
+        return movieDetails;
     }
 
     public Page<Media> getMoviesWatchedPage(Users user){
@@ -28,7 +28,7 @@ public class PublicMediaDetailBaseCacheService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.PUBLIC_MEDIA_DETAIL_BASE,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).media(#type, #tmdbId)",
-        unless = "#result == null"
+        sync = true
     )
     public PublicMovieDetailBaseDTO getMovieBase(Long tmdbId, MediaType type) {
         Media media = mediaRepository.findByTmdbIdAndType(tmdbId, type)
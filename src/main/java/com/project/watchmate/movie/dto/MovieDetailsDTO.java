@@ -69,6 +69,9 @@ public class MovieDetailsDTO {
 
     @Schema(description = "Streaming, rental, purchase, ad-supported, and free provider availability for the configured region.")
     private WatchProvidersDTO watchProviders;
+
+    @Schema(description = "True when TMDB is currently unavailable and movie metadata comes from the last stored snapshot.")
+    private boolean possiblyStale;
 }
 
 
@@ -54,7 +54,7 @@ public class ReviewService {
         .datePosted(LocalDateTime.now())
         .dateLastModified(LocalDateTime.now())
         .build()));
-        cacheEvictionService.evictWatchlistSummaryPages();
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(media.getType(), media.getTmdbId());
         return watchMateMapper.mapToReviewResponseDTO(review);
     }
 
@@ -67,7 +67,7 @@ public class ReviewService {
         review.setComment(updateReviewRequest.getComment());
         review.setDateLastModified(LocalDateTime.now());
         reviewRepository.save(review);
-        cacheEvictionService.evictWatchlistSummaryPages();
+        evictWatchlistPagesShowing(review);
         return watchMateMapper.mapToReviewResponseDTO(review);
     }
 
@@ -77,7 +77,7 @@ public class ReviewService {
             throw new UnauthorizedReviewAccessException("You do not own this review");
         }
         reviewRepository.delete(review);
-        cacheEvictionService.evictWatchlistSummaryPages();
+        evictWatchlistPagesShowing(review);
         return;
     }
 
@@ -106,6 +106,15 @@ public class ReviewService {
         return reviewRepository.findAllByUser(user, pageable).map(watchMateMapper::mapToReviewResponseDTO);
     }
 
+    private void evictWatchlistPagesShowing(Review review) {
+        Media media = review.getMedia();
+        if (media == null) {
+            cacheEvictionService.evictWatchlistSummaryPages();
+            return;
+        }
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(media.getType(), media.getTmdbId());
+    }
+
     private boolean canDeleteReview(Users user, Review review) {
         return review.getUser().getId().equals(user.getId())
             || user.getRole() == Role.MODERATOR
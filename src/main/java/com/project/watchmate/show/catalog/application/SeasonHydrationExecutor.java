@@ -0,0 +1,43 @@
+package com.project.watchmate.show.catalog.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared pool for background season fetches. Its size is the global cap on concurrent season requests
+ * across all jobs; callers bound their own share with a per-show semaphore before submitting, so the
+ * queue never holds more than a few tasks per running job.
+ */
+@Component
+public class SeasonHydrationExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor fetchExecutor;
+
+    public SeasonHydrationExecutor(ShowHydrationProperties showHydrationProperties) {
+        int threads = Math.max(1, showHydrationProperties.getMaxConcurrentRequests());
+        this.fetchExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new CustomizableThreadFactory("season-hydration-")
+        );
+        this.fetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, fetchExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        fetchExecutor.shutdownNow();
+    }
+}
@@ -8,9 +8,16 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import org.springframework.stereotype.Service;
@@ -19,6 +26,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
+import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbTvEpisodeDTO;
@@ -58,6 +67,10 @@ public class ShowCatalogService {
 
     private final WatchMateCacheEvictionService cacheEvictionService;
 
+    private final ShowHydrationProperties showHydrationProperties;
+
+    private final SeasonHydrationExecutor seasonHydrationExecutor;
+
     public MediaType validateShowType(MediaType mediaType) {
         if (mediaType == null) {
             throw new IllegalArgumentException("Media type is required.");
@@ -106,6 +119,18 @@ public class ShowCatalogService {
         return showEpisodeRepository.findAllByMediaIdOrderBySeasonNumberAscEpisodeNumberAsc(mediaId);
     }
 
+    @Transactional(readOnly = true)
+    public List<ShowSeason> getCachedSeasons(Long mediaId) {
+        return showSeasonRepository.findAllByMediaIdOrderBySeasonNumberAsc(mediaId);
+    }
+
+    /** The stored season and its episodes, however old, without calling TMDB. */
+    @Transactional(readOnly = true)
+    public Optional<CachedSeasonData> findCachedSeason(Long mediaId, Integer seasonNumber) {
+        CachedSeasonData cachedData = getCachedSeasonData(mediaId, seasonNumber);
+        return cachedData.season() == null ? Optional.empty() : Optional.of(cachedData);
+    }
+
     @Transactional(readOnly = true)
     public boolean isAiredMetadataAvailable(Media media, TmdbTvDetailsDTO tvDetails) {
         return areRequiredSeasonsCached(media, requiredAiredSeasonNumbers(tvDetails));
@@ -171,19 +196,67 @@ public class ShowCatalogService {
 
         int hydratedEpisodes = 0;
         List<Integer> hydratedSeasons = new ArrayList<>();
-        for (Integer seasonNumber : missingSeasonNumbers) {
-            TmdbTvSeasonDTO seasonDetails = tmdbService.fetchTvSeasonDetails(tmdbId, seasonNumber);
-            int episodeCount = seasonDetails.getEpisodes() == null ? 0 : seasonDetails.getEpisodes().size();
-            if (hydratedEpisodes + episodeCount > maxEpisodes) {
-                throw new ShowMetadataSyncRequiredException("Missing episode count exceeds synchronous hydration limit.");
+        for (List<Integer> chunk : seasonChunks(missingSeasonNumbers)) {
+            for (Map.Entry<Integer, TmdbTvSeasonDTO> fetched : fetchSeasonChunk(tmdbId, chunk).entrySet()) {
+                TmdbTvSeasonDTO seasonDetails = fetched.getValue();
+                int episodeCount = seasonDetails.getEpisodes() == null ? 0 : seasonDetails.getEpisodes().size();
+                if (hydratedEpisodes + episodeCount > maxEpisodes) {
+                    throw new ShowMetadataSyncRequiredException("Missing episode count exceeds synchronous hydration limit.");
+                }
+                cacheSeasonDetails(media, fetched.getKey(), seasonDetails);
+                hydratedEpisodes += episodeCount;
+                hydratedSeasons.add(fetched.getKey());
             }
-            cacheSeasonDetails(media, seasonNumber, seasonDetails);
-            hydratedEpisodes += episodeCount;
-            hydratedSeasons.add(seasonNumber);
         }
         return hydratedSeasons;
     }
 
+    /**
+     * Fetches and caches the given seasons, reporting the number cached so far after each one.
+     * Seasons are requested {@code seasonsPerRequest} at a time through the show's
+     * {@code append_to_response}, and up to {@code maxConcurrentRequestsPerShow} of those requests run at
+     * once on the shared {@link SeasonHydrationExecutor}. Each season is cached as soon as its request
+     * returns. If any season fails, the others are still cached and the first failure is rethrown at the end.
+     */
+    public void hydrateSeasons(Media media, Long tmdbId, List<Integer> seasonNumbers, IntConsumer onSeasonCached) {
+        hydrateSeasons(media, tmdbId, seasonNumbers, onSeasonCached, (seasonNumber, ex) -> { });
+    }
+
+    /**
+     * Same as {@link #hydrateSeasons(Media, Long, List, IntConsumer)}, also reporting each season that
+     * could not be fetched or cached. Callbacks run on pool threads but never concurrently.
+     */
+    public void hydrateSeasons(
+        Media media,
+        Long tmdbId,
+        List<Integer> seasonNumbers,
+        IntConsumer onSeasonCached,
+        BiConsumer<Integer, RuntimeException> onSeasonFailed
+    ) {
+        if (seasonNumbers.isEmpty()) {
+            return;
+        }
+
+        HydrationProgress progress = new HydrationProgress(onSeasonCached, onSeasonFailed);
+        Semaphore showPermits = new Semaphore(Math.max(1, showHydrationProperties.getMaxConcurrentRequestsPerShow()));
+        TmdbRequestPriority priority = TmdbRequestPriority.current();
+        int seasonsPerRequest = Math.clamp(showHydrationProperties.getSeasonsPerRequest(), 1, TmdbClient.MAX_APPENDED_SEASONS);
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (List<Integer> chunk : seasonChunks(seasonNumbers, seasonsPerRequest)) {
+            showPermits.acquireUninterruptibly();
+            requests.add(seasonHydrationExecutor.submit(() -> {
+                try (TmdbRequestPriority.Scope scope = TmdbRequestPriority.enter(priority)) {
+                    hydrateChunk(media, tmdbId, chunk, progress);
+                } finally {
+                    showPermits.release();
+                }
+            }));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        progress.throwIfFailed();
+    }
+
     @Transactional(readOnly = true)
     public List<ShowEpisode> requireAiredEligibleEpisodesFromCache(Media media, TmdbTvDetailsDTO tvDetails) {
         return requireEligibleEpisodesFromCache(
@@ -267,11 +340,15 @@ public class ShowCatalogService {
     }
 
     public boolean isEndedShow(TmdbTvDetailsDTO tvDetails) {
-        if (tvDetails.getStatus() == null) {
+        return isEndedStatus(tvDetails.getStatus());
+    }
+
+    public static boolean isEndedStatus(String tmdbShowStatus) {
+        if (tmdbShowStatus == null) {
             return false;
         }
 
-        String normalized = tvDetails.getStatus().trim().toUpperCase();
+        String normalized = tmdbShowStatus.trim().toUpperCase();
         return normalized.equals("ENDED")
             || normalized.equals("CANCELED")
             || normalized.equals("CANCELLED");
@@ -365,6 +442,59 @@ public class ShowCatalogService {
             );
     }
 
+    private List<List<Integer>> seasonChunks(List<Integer> seasonNumbers) {
+        return seasonChunks(seasonNumbers, TmdbClient.MAX_APPENDED_SEASONS);
+    }
+
+    private List<List<Integer>> seasonChunks(List<Integer> seasonNumbers, int chunkSize) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < seasonNumbers.size(); from += chunkSize) {
+            chunks.add(seasonNumbers.subList(from, Math.min(from + chunkSize, seasonNumbers.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Fetches one chunk and caches each season as it is read. A season the batch response lacks is
+     * fetched on its own, and a failure only affects the seasons it covers.
+     */
+    private void hydrateChunk(Media media, Long tmdbId, List<Integer> chunk, HydrationProgress progress) {
+        Map<Integer, TmdbTvSeasonDTO> batch;
+        try {
+            batch = chunk.size() > 1 ? tmdbService.fetchTvSeasonDetailsBatch(tmdbId, chunk) : Map.of();
+        } catch (RuntimeException ex) {
+            chunk.forEach(seasonNumber -> progress.seasonFailed(seasonNumber, ex));
+            return;
+        }
+
+        for (Integer seasonNumber : chunk) {
+            try {
+                TmdbTvSeasonDTO seasonDetails = batch.get(seasonNumber);
+                cacheSeasonDetails(media, seasonNumber, seasonDetails != null ? seasonDetails : tmdbService.fetchTvSeasonDetails(tmdbId, seasonNumber));
+                progress.seasonCached();
+            } catch (RuntimeException ex) {
+                progress.seasonFailed(seasonNumber, ex);
+            }
+        }
+    }
+
+    /**
+     * Season details for every season in the chunk, in chunk order. A lone season uses the cached
+     * single-season lookup, and a season missing from the batch response is fetched on its own so
+     * TMDB's not-found error for it still surfaces.
+     */
+    private Map<Integer, TmdbTvSeasonDTO> fetchSeasonChunk(Long tmdbId, List<Integer> chunk) {
+        Map<Integer, TmdbTvSeasonDTO> batch = chunk.size() > 1
+            ? tmdbService.fetchTvSeasonDetailsBatch(tmdbId, chunk)
+            : Map.of();
+        Map<Integer, TmdbTvSeasonDTO> seasons = new LinkedHashMap<>();
+        for (Integer seasonNumber : chunk) {
+            TmdbTvSeasonDTO seasonDetails = batch.get(seasonNumber);
+            seasons.put(seasonNumber, seasonDetails != null ? seasonDetails : tmdbService.fetchTvSeasonDetails(tmdbId, seasonNumber));
+        }
+        return seasons;
+    }
+
     private CachedSeasonData getCachedSeasonData(Long mediaId, Integer seasonNumber) {
         return new CachedSeasonData(
             showSeasonRepository.findByMediaIdAndSeasonNumber(mediaId, seasonNumber).orElse(null),
@@ -418,6 +548,40 @@ public class ShowCatalogService {
         return Integer.compare(leftEpisode, rightEpisode);
     }
 
+    /** Serializes progress callbacks from concurrent season requests and keeps the first failure. */
+    private static final class HydrationProgress {
+
+        private final IntConsumer onSeasonCached;
+
+        private final BiConsumer<Integer, RuntimeException> onSeasonFailed;
+
+        private int cached;
+
+        private RuntimeException firstFailure;
+
+        private HydrationProgress(IntConsumer onSeasonCached, BiConsumer<Integer, RuntimeException> onSeasonFailed) {
+            this.onSeasonCached = onSeasonCached;
+            this.onSeasonFailed = onSeasonFailed;
+        }
+
+        synchronized void seasonCached() {
+            onSeasonCached.accept(++cached);
+        }
+
+        synchronized void seasonFailed(Integer seasonNumber, RuntimeException ex) {
+            if (firstFailure == null) {
+                firstFailure = ex;
+            }
+            onSeasonFailed.accept(seasonNumber, ex);
+        }
+
+        synchronized void throwIfFailed() {
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+        }
+    }
+
     public record CachedSeasonData(ShowSeason season, List<ShowEpisode> episodes) {
     }
 }
@@ -17,5 +17,12 @@ public class ShowHydrationProperties {
     private int maxSynchronousEpisodes = 100;
 
     private int batchSize = 1;
+
+    /** Seasons per TMDB request when a background job hydrates a show; smaller requests can run concurrently. */
+    private int seasonsPerRequest = 5;
+
+    private int maxConcurrentRequestsPerShow = 3;
+
+    private int maxConcurrentRequests = 8;
 }
 
@@ -1,5 +1,6 @@
 package com.project.watchmate.show.jobs.api;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -7,11 +8,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.project.watchmate.common.error.ApiError;
 import com.project.watchmate.show.jobs.dto.ShowTrackingJobDTO;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
 import com.project.watchmate.common.security.auth.UserPrincipal;
 import com.project.watchmate.user.domain.Users;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobEventHub;
 import com.project.watchmate.show.jobs.application.ShowTrackingJobService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,11 +33,13 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/show-tracking-jobs")
 @Validated
 @RequiredArgsConstructor
-@Tag(name = "Show Tracking Jobs", description = "Background job polling endpoints for asynchronous show catalog hydration and tracking backfill.")
+@Tag(name = "Show Tracking Jobs", description = "Background job polling and event stream endpoints for asynchronous show catalog hydration and tracking backfill.")
 public class ShowTrackingJobController {
 
     private final ShowTrackingJobService showTrackingJobService;
 
+    private final ShowTrackingJobEventHub showTrackingJobEventHub;
+
     @GetMapping("/{jobId}")
     @Operation(summary = "Get show tracking job status", description = "Returns the authenticated user's background show tracking job. 200 means the job exists and is visible to the caller, while 404 is returned for missing jobs and jobs owned by another user.")
     @SecurityRequirement(name = "bearerAuth")
@@ -50,9 +56,21 @@ public class ShowTrackingJobController {
         Users user = userPrincipal.getUser();
         return ResponseEntity.ok(showTrackingJobService.getUserJob(user, jobId));
     }
-}
-
-
-
-
 
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream show tracking job progress", description = "Opens a Server-Sent Events stream for the authenticated user's background show tracking job. The first `job` event carries the full job, each later `progress` event carries the job's season progress, status and error, and the stream ends after the job completes or fails. 404 is returned for missing jobs and jobs owned by another user.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Event stream opened. The first event is named `" + ShowTrackingJobEventHub.SNAPSHOT_EVENT + "` and its data is a ShowTrackingJobDTO; every later event is named `" + ShowTrackingJobEventHub.PROGRESS_EVENT + "` and its data is a ShowTrackingJobProgressDTO.", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(oneOf = {ShowTrackingJobDTO.class, ShowTrackingJobProgressDTO.class}))),
+        @ApiResponse(responseCode = "401", description = "Authentication failed", content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "404", description = "Show tracking job not found", content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public SseEmitter streamJobEvents(
+        @PathVariable @Min(1) Long jobId,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        Users user = userPrincipal.getUser();
+        return showTrackingJobEventHub.subscribe(jobId, () -> showTrackingJobService.getUserJob(user, jobId));
+    }
+}
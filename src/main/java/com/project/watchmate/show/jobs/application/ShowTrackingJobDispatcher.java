@@ -0,0 +1,148 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides when {@link ShowTrackingJobService#pollPendingJobs} runs. A newly enqueued job wakes the
+ * dispatcher as soon as its transaction commits, on this node directly and on other nodes through
+ * {@link ShowTrackingJobWakeupBroadcaster}. Polling on a timer remains as the safety net for lost
+ * wakeups, requeued jobs and stale-job recovery: it runs every {@code pollDelayMs} while there is work
+ * and doubles up to {@code maxPollDelayMs} while idle, so idle nodes rarely query the job table.
+ */
+@Component
+@Slf4j
+public class ShowTrackingJobDispatcher implements DisposableBean {
+
+    private final ShowTrackingJobService showTrackingJobService;
+
+    private final ShowTrackingJobProperties showTrackingJobProperties;
+
+    private final ShowTrackingJobWorkerPool showTrackingJobWorkerPool;
+
+    private final ObjectProvider<ShowTrackingJobWakeupBroadcaster> wakeupBroadcaster;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition wakeupSignal = lock.newCondition();
+
+    private boolean wakeupPending;
+
+    private volatile Thread dispatcherThread;
+
+    public ShowTrackingJobDispatcher(
+        ShowTrackingJobService showTrackingJobService,
+        ShowTrackingJobProperties showTrackingJobProperties,
+        ShowTrackingJobWorkerPool showTrackingJobWorkerPool,
+        ObjectProvider<ShowTrackingJobWakeupBroadcaster> wakeupBroadcaster
+    ) {
+        this.showTrackingJobService = showTrackingJobService;
+        this.showTrackingJobProperties = showTrackingJobProperties;
+        this.showTrackingJobWorkerPool = showTrackingJobWorkerPool;
+        this.wakeupBroadcaster = wakeupBroadcaster;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!showTrackingJobProperties.isEnabled() || dispatcherThread != null) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("show-jobs-dispatcher-");
+        threadFactory.setDaemon(true);
+        dispatcherThread = threadFactory.newThread(this::dispatchLoop);
+        dispatcherThread.start();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobEnqueued(ShowTrackingJobEnqueuedEvent event) {
+        if (!showTrackingJobProperties.getWakeup().isEnabled()) {
+            return;
+        }
+        wakeup();
+        ShowTrackingJobWakeupBroadcaster broadcaster = wakeupBroadcaster.getIfAvailable();
+        if (broadcaster != null) {
+            broadcaster.publishWakeup();
+        }
+    }
+
+    /**
+     * Makes the dispatcher poll now, or right after the poll in progress; wakeups meanwhile coalesce. A poll
+     * in progress that is waiting on busy workers is woken too, so it claims the new job if a worker is idle.
+     */
+    public void wakeup() {
+        lock.lock();
+        try {
+            wakeupPending = true;
+            wakeupSignal.signal();
+        } finally {
+            lock.unlock();
+        }
+        showTrackingJobWorkerPool.wakeup();
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = dispatcherThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void dispatchLoop() {
+        long delayMs = showTrackingJobProperties.getPollDelayMs();
+        while (!Thread.currentThread().isInterrupted()) {
+            boolean woken;
+            try {
+                woken = awaitWakeup(delayMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            int processed = 0;
+            try {
+                processed = showTrackingJobService.pollPendingJobs();
+            } catch (RuntimeException ex) {
+                log.error("Show tracking job poll failed", ex);
+            }
+            delayMs = nextDelayMs(delayMs, woken || processed > 0);
+        }
+    }
+
+    /** Waits up to {@code delayMs} for a wakeup; returns whether one arrived. */
+    boolean awaitWakeup(long delayMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(delayMs);
+            while (!wakeupPending && remainingNanos > 0) {
+                remainingNanos = wakeupSignal.awaitNanos(remainingNanos);
+            }
+            boolean woken = wakeupPending;
+            wakeupPending = false;
+            return woken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long nextDelayMs(long currentDelayMs, boolean active) {
+        long minDelayMs = Math.max(1L, showTrackingJobProperties.getPollDelayMs());
+        long maxDelayMs = Math.max(minDelayMs, showTrackingJobProperties.getMaxPollDelayMs());
+        if (active) {
+            return minDelayMs;
+        }
+        return Math.min(maxDelayMs, Math.max(minDelayMs, currentDelayMs) * 2);
+    }
+}
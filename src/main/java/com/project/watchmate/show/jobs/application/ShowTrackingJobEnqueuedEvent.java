@@ -0,0 +1,7 @@
+package com.project.watchmate.show.jobs.application;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+
+/** Published when a new show tracking job is saved as {@code PENDING}. */
+public record ShowTrackingJobEnqueuedEvent(Long jobId, ShowTrackingJobType jobType) {
+}
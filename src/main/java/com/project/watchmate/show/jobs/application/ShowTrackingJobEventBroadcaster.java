@@ -0,0 +1,89 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.project.watchmate.common.cache.RedisCircuitBreaker;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Fans show tracking job progress out to every other node over Redis pub/sub, so a client streaming a
+ * job's events from one node sees the updates written by a worker on another. Messages from this node are
+ * ignored on receipt because local subscribers were already notified in-process. A lost message is
+ * covered by the next update, or by the terminal state the client reads when it reconnects.
+ */
+@Slf4j
+public class ShowTrackingJobEventBroadcaster {
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ChannelTopic topic;
+
+    private final String nodeId;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    private final ObjectMapper objectMapper;
+
+    public ShowTrackingJobEventBroadcaster(
+        StringRedisTemplate redisTemplate,
+        String channel,
+        RedisCircuitBreaker circuitBreaker,
+        ObjectMapper objectMapper
+    ) {
+        this(redisTemplate, channel, UUID.randomUUID().toString(), circuitBreaker, objectMapper);
+    }
+
+    ShowTrackingJobEventBroadcaster(
+        StringRedisTemplate redisTemplate,
+        String channel,
+        String nodeId,
+        RedisCircuitBreaker circuitBreaker,
+        ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.nodeId = nodeId;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+    }
+
+    public ChannelTopic topic() {
+        return topic;
+    }
+
+    public void publish(ShowTrackingJobProgressDTO progress) {
+        if (circuitBreaker != null && !circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), nodeId + SEPARATOR + objectMapper.writeValueAsString(progress));
+        } catch (RuntimeException ex) {
+            log.warn("Show tracking job event publish failed channel={} jobId={}", topic.getTopic(), progress.getJobId(), ex);
+        }
+    }
+
+    public MessageListener listenerFor(Consumer<ShowTrackingJobProgressDTO> delivery) {
+        return (message, pattern) -> {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+            if (parts.length < 2 || nodeId.equals(parts[0])) {
+                return;
+            }
+            try {
+                delivery.accept(objectMapper.readValue(parts[1], ShowTrackingJobProgressDTO.class));
+            } catch (RuntimeException ex) {
+                log.warn("Show tracking job event could not be delivered channel={}", topic.getTopic(), ex);
+            }
+        };
+    }
+}
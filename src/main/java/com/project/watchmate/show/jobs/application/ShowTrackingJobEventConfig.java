@@ -0,0 +1,48 @@
+package com.project.watchmate.show.jobs.application;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.project.watchmate.common.cache.RedisCircuitBreaker;
+
+import tools.jackson.databind.ObjectMapper;
+
+@Configuration
+@ConditionalOnProperty(name = "watchmate.show-jobs.events.broadcast-enabled", havingValue = "true", matchIfMissing = true)
+public class ShowTrackingJobEventConfig {
+
+    @Bean
+    public ShowTrackingJobEventBroadcaster showTrackingJobEventBroadcaster(
+        RedisConnectionFactory redisConnectionFactory,
+        ShowTrackingJobProperties showTrackingJobProperties,
+        ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker,
+        ObjectMapper objectMapper
+    ) {
+        return new ShowTrackingJobEventBroadcaster(
+            new StringRedisTemplate(redisConnectionFactory),
+            showTrackingJobProperties.getEvents().getChannel(),
+            redisCircuitBreaker.getIfAvailable(),
+            objectMapper
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer showTrackingJobEventListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        ShowTrackingJobEventBroadcaster showTrackingJobEventBroadcaster,
+        ShowTrackingJobEventHub showTrackingJobEventHub
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+            showTrackingJobEventBroadcaster.listenerFor(showTrackingJobEventHub::deliver),
+            showTrackingJobEventBroadcaster.topic()
+        );
+        return container;
+    }
+}
@@ -0,0 +1,267 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobStatus;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobDTO;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the open Server-Sent Events streams per show tracking job and pushes each progress update to
+ * them, so clients watching a job no longer poll its status. Updates are published after the state they
+ * describe is committed, and fanned out to other nodes through {@link ShowTrackingJobEventBroadcaster}
+ * when it is configured.
+ *
+ * <p>A stream starts with a {@value #SNAPSHOT_EVENT} event carrying the full job, followed by
+ * {@value #PROGRESS_EVENT} events, and is completed after the job reaches a terminal status.
+ *
+ * <p>Publishing never writes to a client: it only hands the update to each stream, which sends it on a
+ * small bounded delivery pool. A stream whose client is still busy with an earlier send keeps only the
+ * latest update, and a stream that cannot be queued because the pool is saturated is closed, so a slow
+ * client costs itself updates instead of stalling job workers or the Redis listener.
+ */
+@Component
+@Slf4j
+public class ShowTrackingJobEventHub implements DisposableBean {
+
+    public static final String SNAPSHOT_EVENT = "job";
+
+    public static final String PROGRESS_EVENT = "progress";
+
+    private final ShowTrackingJobProperties showTrackingJobProperties;
+
+    private final ObjectProvider<ShowTrackingJobEventBroadcaster> showTrackingJobEventBroadcaster;
+
+    private final Executor deliveryExecutor;
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ShowTrackingJobEventHub(
+        ShowTrackingJobProperties showTrackingJobProperties,
+        ObjectProvider<ShowTrackingJobEventBroadcaster> showTrackingJobEventBroadcaster
+    ) {
+        this(showTrackingJobProperties, showTrackingJobEventBroadcaster, createDeliveryExecutor(showTrackingJobProperties.getEvents()));
+    }
+
+    ShowTrackingJobEventHub(
+        ShowTrackingJobProperties showTrackingJobProperties,
+        ObjectProvider<ShowTrackingJobEventBroadcaster> showTrackingJobEventBroadcaster,
+        Executor deliveryExecutor
+    ) {
+        this.showTrackingJobProperties = showTrackingJobProperties;
+        this.showTrackingJobEventBroadcaster = showTrackingJobEventBroadcaster;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Opens a stream for the job. The stream is registered before {@code snapshot} is read, so no update
+     * committed after the read is missed; if the read fails, for example because the job is not visible to
+     * the caller, the stream is dropped and the exception propagates before anything was sent.
+     */
+    public SseEmitter subscribe(Long jobId, Supplier<ShowTrackingJobDTO> snapshot) {
+        Subscription subscription = new Subscription(jobId, new SseEmitter(showTrackingJobProperties.getEvents().getTimeoutMs()));
+        subscriptions.compute(jobId, (id, jobSubscriptions) -> {
+            Set<Subscription> registered = jobSubscriptions == null ? ConcurrentHashMap.newKeySet() : jobSubscriptions;
+            registered.add(subscription);
+            return registered;
+        });
+
+        ShowTrackingJobDTO current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException ex) {
+            unregister(subscription);
+            throw ex;
+        }
+        subscription.start(current);
+        return subscription.emitter;
+    }
+
+    /** Pushes the update to this node's streams and, when configured, to the other nodes. */
+    public void publish(ShowTrackingJobProgressDTO progress) {
+        deliver(progress);
+        ShowTrackingJobEventBroadcaster broadcaster = showTrackingJobEventBroadcaster.getIfAvailable();
+        if (broadcaster != null) {
+            broadcaster.publish(progress);
+        }
+    }
+
+    void deliver(ShowTrackingJobProgressDTO progress) {
+        Set<Subscription> jobSubscriptions = subscriptions.get(progress.getJobId());
+        if (jobSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : jobSubscriptions) {
+            subscription.deliver(progress);
+        }
+    }
+
+    int subscriberCount(Long jobId) {
+        Set<Subscription> jobSubscriptions = subscriptions.get(jobId);
+        return jobSubscriptions == null ? 0 : jobSubscriptions.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(jobSubscriptions -> jobSubscriptions.forEach(subscription -> subscription.emitter.complete()));
+        subscriptions.clear();
+        if (deliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolExecutor createDeliveryExecutor(ShowTrackingJobProperties.Events events) {
+        int threads = Math.max(1, events.getDeliveryThreads());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, events.getDeliveryQueueCapacity())),
+            new CustomizableThreadFactory("show-job-events-")
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void unregister(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.jobId, (jobId, jobSubscriptions) -> {
+            jobSubscriptions.remove(subscription);
+            return jobSubscriptions.isEmpty() ? null : jobSubscriptions;
+        });
+    }
+
+    private static boolean isTerminal(ShowTrackingJobStatus status) {
+        return status == ShowTrackingJobStatus.COMPLETED || status == ShowTrackingJobStatus.FAILED;
+    }
+
+    /**
+     * One client's stream. Updates arriving before the snapshot was sent are held back, and updates
+     * arriving while a send is in flight replace each other, so only the latest is sent next. At most one
+     * drain per stream is queued on the delivery pool, which keeps a stream's events in order.
+     */
+    private final class Subscription {
+
+        private final Long jobId;
+
+        private final SseEmitter emitter;
+
+        private boolean started;
+
+        private boolean scheduled;
+
+        private volatile boolean closed;
+
+        private ShowTrackingJobProgressDTO pending;
+
+        private Subscription(Long jobId, SseEmitter emitter) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+            emitter.onTimeout(emitter::complete);
+            emitter.onError(ex -> unregister(this));
+            emitter.onCompletion(() -> unregister(this));
+        }
+
+        /** Sends the snapshot on the subscribing thread; no drain can be queued until it is marked started. */
+        private void start(ShowTrackingJobDTO snapshot) {
+            if (!send(SNAPSHOT_EVENT, snapshot)) {
+                return;
+            }
+            boolean drain;
+            synchronized (this) {
+                started = true;
+                drain = pending != null;
+                scheduled = drain;
+            }
+            if (drain) {
+                schedule();
+            } else if (isTerminal(snapshot.getStatus())) {
+                close();
+            }
+        }
+
+        private void deliver(ShowTrackingJobProgressDTO progress) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                pending = progress;
+                if (!started || scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                log.warn("Show tracking job event delivery is saturated; closing stream jobId={}", jobId);
+                close();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                ShowTrackingJobProgressDTO progress;
+                synchronized (this) {
+                    progress = pending;
+                    pending = null;
+                    if (progress == null || closed) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                if (!send(PROGRESS_EVENT, progress)) {
+                    return;
+                }
+                if (isTerminal(progress.getStatus())) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private boolean send(String eventName, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; the container completes the emitter and runs the callbacks.
+                log.debug("Show tracking job event stream closed jobId={}", jobId, ex);
+                closed = true;
+                unregister(this);
+                return false;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            unregister(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one job's season progress in memory and writes it at most every {@code flushIntervalMs} or
+ * every {@code flushSeasons} seasons, whichever comes first, instead of after every season. The caller
+ * must {@link #flush()} when hydration ends, successfully or not, so the stored count is exact then.
+ */
+final class ShowTrackingJobProgress {
+
+    @FunctionalInterface
+    interface Writer {
+
+        void write(Long jobId, Integer totalSeasons, Integer completedSeasons);
+    }
+
+    private final Long jobId;
+
+    private final int totalSeasons;
+
+    private final long flushIntervalNanos;
+
+    private final int flushSeasons;
+
+    private final Writer writer;
+
+    private final LongSupplier nanoTime;
+
+    private int completedSeasons;
+
+    private int flushedSeasons = -1;
+
+    private long lastFlushNanos;
+
+    ShowTrackingJobProgress(Long jobId, int totalSeasons, long flushIntervalMs, int flushSeasons, Writer writer) {
+        this(jobId, totalSeasons, flushIntervalMs, flushSeasons, writer, System::nanoTime);
+    }
+
+    ShowTrackingJobProgress(Long jobId, int totalSeasons, long flushIntervalMs, int flushSeasons, Writer writer, LongSupplier nanoTime) {
+        this.jobId = jobId;
+        this.totalSeasons = totalSeasons;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, flushIntervalMs));
+        this.flushSeasons = Math.max(1, flushSeasons);
+        this.writer = writer;
+        this.nanoTime = nanoTime;
+    }
+
+    synchronized void seasonsCompleted(int completed) {
+        completedSeasons = completed;
+        if (completedSeasons - flushedSeasons >= flushSeasons || nanoTime.getAsLong() - lastFlushNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+
+    /** Writes the current count unless it is already stored. */
+    synchronized void flush() {
+        if (completedSeasons == flushedSeasons) {
+            return;
+        }
+        writer.write(jobId, totalSeasons, completedSeasons);
+        flushedSeasons = completedSeasons;
+        lastFlushNanos = nanoTime.getAsLong();
+    }
+}
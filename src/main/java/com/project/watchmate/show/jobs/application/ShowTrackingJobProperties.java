@@ -1,8 +1,13 @@
 package com.project.watchmate.show.jobs.application;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,12 +19,57 @@ public class ShowTrackingJobProperties {
 
     private boolean enabled = true;
 
+    /** Delay between polls while jobs keep arriving; idle polling backs off from here to {@code maxPollDelayMs}. */
     private long pollDelayMs = 5000L;
 
-    private int maxJobsPerPoll = 3;
+    private long maxPollDelayMs = 60000L;
+
+    private int maxJobsPerPoll = 4;
+
+    private int workerThreads = 4;
+
+    /**
+     * Most jobs of one type running at once on a node, enforced by {@link ShowTrackingJobWorkerPool}; types
+     * without an entry are only capped by {@code workerThreads}.
+     */
+    private Map<ShowTrackingJobType, Integer> typeParallelism = new EnumMap<>(ShowTrackingJobType.class);
 
     private int staleRunningMinutes = 15;
 
     private int maxAttempts = 3;
-}
 
+    private long progressFlushIntervalMs = 1000L;
+
+    private int progressFlushSeasons = 5;
+
+    private Wakeup wakeup = new Wakeup();
+
+    private Events events = new Events();
+
+    @Getter
+    @Setter
+    public static class Wakeup {
+
+        private boolean enabled = true;
+
+        private String channel = "watchmate:show-jobs:wakeup";
+    }
+
+    @Getter
+    @Setter
+    public static class Events {
+
+        /** How long a job's event stream stays open; clients reconnect and get a fresh snapshot after it. */
+        private long timeoutMs = 900000L;
+
+        private boolean broadcastEnabled = true;
+
+        private String channel = "watchmate:show-jobs:events";
+
+        /** Threads that write progress to event streams, so publishers never wait on a client. */
+        private int deliveryThreads = 2;
+
+        /** Streams that can wait for a delivery thread; a stream that does not fit is closed. */
+        private int deliveryQueueCapacity = 1000;
+    }
+}
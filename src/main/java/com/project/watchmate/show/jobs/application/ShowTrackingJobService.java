@@ -1,18 +1,26 @@
 package com.project.watchmate.show.jobs.application;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.project.watchmate.media.tmdb.client.TmdbRequestPriority;
 import com.project.watchmate.show.jobs.dto.ShowTrackingJobDTO;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
 import com.project.watchmate.common.error.ShowTrackingJobNotFoundException;
 import com.project.watchmate.media.catalog.domain.Media;
@@ -29,6 +37,7 @@ import com.project.watchmate.show.tracking.persistence.UserShowTrackingRepositor
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
 
 @Service
 @Slf4j
@@ -47,6 +56,16 @@ public class ShowTrackingJobService {
 
     private final PlatformTransactionManager transactionManager;
 
+    private final ShowTrackingJobWorkerPool showTrackingJobWorkerPool;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ShowTrackingJobEventHub showTrackingJobEventHub;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicInteger nextTypeOffset = new AtomicInteger();
+
     public ShowTrackingJobDTO createOrReuseMarkWatchedJob(Users user, Media media, Integer totalSeasons) {
         return createOrReuseJob(
             user,
@@ -96,36 +115,90 @@ public class ShowTrackingJobService {
         return toDto(job);
     }
 
-    @Scheduled(fixedDelayString = "${watchmate.show-jobs.poll-delay-ms:5000}")
-    public void pollPendingJobs() {
+    /**
+     * Claims pending jobs whenever a worker is idle and hands each one to the worker pool as soon as it is
+     * claimed, so a long job never holds up the others. Returns once nothing is pending and every job it
+     * started has finished. Driven by {@link ShowTrackingJobDispatcher}; returns the number of jobs run.
+     */
+    public int pollPendingJobs() {
         if (!showTrackingJobProperties.isEnabled()) {
-            return;
+            return 0;
         }
 
         recoverStaleRunningJobs();
-        List<ShowTrackingJob> candidates = showTrackingJobRepository.findByStatusOrderByCreatedAtAsc(
-            ShowTrackingJobStatus.PENDING,
-            PageRequest.of(0, showTrackingJobProperties.getMaxJobsPerPoll())
-        );
+        long start = System.nanoTime();
+        int processed = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ClaimedJob> claimedJobs = showTrackingJobWorkerPool.hasIdleWorker() ? claimForIdleWorkers() : List.of();
+            for (ClaimedJob claimedJob : claimedJobs) {
+                showTrackingJobWorkerPool.submit(claimedJob.jobType(), () -> processClaimedJob(claimedJob.jobId()));
+            }
+            processed += claimedJobs.size();
 
-        for (ShowTrackingJob candidate : candidates) {
-            if (claimPendingJob(candidate.getId())) {
-                processClaimedJob(candidate.getId());
+            if (claimedJobs.isEmpty() && showTrackingJobWorkerPool.runningJobs() == 0) {
+                break;
             }
+            if (claimedJobs.isEmpty() || !showTrackingJobWorkerPool.hasIdleWorker()) {
+                try {
+                    showTrackingJobWorkerPool.awaitChange(showTrackingJobProperties.getPollDelayMs());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        if (processed > 0) {
+            log.info("Show tracking jobs processed count={} elapsedMs={}",
+                processed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         }
+        return processed;
     }
 
-    public boolean claimPendingJob(Long jobId) {
-        return new TransactionTemplate(transactionManager).execute(status -> {
-            LocalDateTime now = LocalDateTime.now();
-            return showTrackingJobRepository.claimPendingJob(
-                jobId,
-                ShowTrackingJobStatus.PENDING,
-                ShowTrackingJobStatus.RUNNING,
-                now,
-                now
-            ) == 1;
-        });
+    /**
+     * Claims up to {@code maxJobsPerPoll} of the oldest pending jobs in one transaction, only as many of each
+     * type as the worker pool has free slots for. Rows locked by another node are skipped rather than waited
+     * on. Types are visited from a rotating start so one busy type cannot take every batch.
+     */
+    private List<ClaimedJob> claimForIdleWorkers() {
+        Map<ShowTrackingJobType, Integer> reserved = new EnumMap<>(ShowTrackingJobType.class);
+        List<ClaimedJob> claimedJobs;
+        try {
+            claimedJobs = new TransactionTemplate(transactionManager).execute(status -> {
+                ShowTrackingJobType[] jobTypes = ShowTrackingJobType.values();
+                int offset = Math.floorMod(nextTypeOffset.getAndIncrement(), jobTypes.length);
+                int remaining = showTrackingJobProperties.getMaxJobsPerPoll();
+                List<ClaimedJob> lockedJobs = new ArrayList<>();
+                for (int i = 0; i < jobTypes.length && remaining > 0; i++) {
+                    ShowTrackingJobType jobType = jobTypes[(offset + i) % jobTypes.length];
+                    int limit = showTrackingJobWorkerPool.reserve(jobType, remaining);
+                    if (limit <= 0) {
+                        continue;
+                    }
+                    List<Long> jobIds = showTrackingJobRepository.lockPendingJobIds(jobType.name(), limit);
+                    showTrackingJobWorkerPool.release(jobType, limit - jobIds.size());
+                    reserved.merge(jobType, jobIds.size(), Integer::sum);
+                    jobIds.forEach(jobId -> lockedJobs.add(new ClaimedJob(jobId, jobType)));
+                    remaining -= jobIds.size();
+                }
+                if (lockedJobs.isEmpty()) {
+                    return lockedJobs;
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                showTrackingJobRepository.claimPendingJobs(
+                    lockedJobs.stream().map(ClaimedJob::jobId).toList(),
+                    ShowTrackingJobStatus.PENDING,
+                    ShowTrackingJobStatus.RUNNING,
+                    now,
+                    now
+                );
+                return lockedJobs;
+            });
+        } catch (RuntimeException ex) {
+            reserved.forEach(showTrackingJobWorkerPool::release);
+            throw ex;
+        }
+        return claimedJobs == null ? List.of() : claimedJobs;
     }
 
     private ShowTrackingJobDTO createOrReuseJob(
@@ -162,6 +235,7 @@ public class ShowTrackingJobService {
             .totalSeasons(totalSeasons)
             .completedSeasons(0)
             .build());
+        applicationEventPublisher.publishEvent(new ShowTrackingJobEnqueuedEvent(job.getId(), jobType));
         return toDto(job);
     }
 
@@ -177,7 +251,7 @@ public class ShowTrackingJobService {
         );
         for (ShowTrackingJob job : staleJobs) {
             if (job.getAttemptCount() != null && job.getAttemptCount() >= showTrackingJobProperties.getMaxAttempts()) {
-                failJob(job.getId(), "JOB_RETRY_EXHAUSTED", "Show tracking job exceeded the maximum retry limit.");
+                failJob(job.getId(), "JOB_RETRY_EXHAUSTED", "Show tracking job exceeded the maximum retry limit.", List.of());
                 continue;
             }
             requeueJob(job.getId());
@@ -187,29 +261,31 @@ public class ShowTrackingJobService {
     private void processClaimedJob(Long jobId) {
         ShowTrackingJob job = showTrackingJobRepository.findById(jobId)
             .orElseThrow(() -> new ShowTrackingJobNotFoundException("Show tracking job not found."));
+        showTrackingJobEventHub.publish(toProgress(job, null));
 
-        try {
+        Map<Integer, FailedSeason> failedSeasons = new TreeMap<>();
+        try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
             switch (job.getJobType()) {
-                case HYDRATE_SHOW_CATALOG -> processHydrateCatalogJob(job);
-                case MARK_SHOW_WATCHED -> processMarkWatchedJob(job);
-                case MARK_SHOW_UP_TO_DATE -> processMarkUpToDateJob(job);
-                case SET_SHOW_PROGRESS -> processSetShowProgressJob(job);
+                case HYDRATE_SHOW_CATALOG -> processHydrateCatalogJob(job, failedSeasons);
+                case MARK_SHOW_WATCHED -> processMarkWatchedJob(job, failedSeasons);
+                case MARK_SHOW_UP_TO_DATE -> processMarkUpToDateJob(job, failedSeasons);
+                case SET_SHOW_PROGRESS -> processSetShowProgressJob(job, failedSeasons);
             }
             completeJob(jobId);
         } catch (RuntimeException ex) {
             log.warn("Show tracking job failed id={} type={}", jobId, job.getJobType(), ex);
-            failJob(jobId, resolveErrorCode(ex), trimErrorMessage(ex.getMessage()));
+            failJob(jobId, resolveErrorCode(ex), trimErrorMessage(ex.getMessage()), failedSeasons.values());
         }
     }
 
-    private void processHydrateCatalogJob(ShowTrackingJob job) {
+    private void processHydrateCatalogJob(ShowTrackingJob job, Map<Integer, FailedSeason> failedSeasons) {
         Media media = job.getMedia();
         TmdbTvDetailsDTO tvDetails = showCatalogService.fetchAndRefreshShowDetails(media.getTmdbId(), media);
         List<Integer> requiredSeasons = showCatalogService.getRequiredStandardSeasonNumbers(tvDetails);
-        hydrateRequiredSeasons(job, media, requiredSeasons);
+        hydrateRequiredSeasons(job, media, requiredSeasons, failedSeasons);
     }
 
-    private void processMarkWatchedJob(ShowTrackingJob job) {
+    private void processMarkWatchedJob(ShowTrackingJob job, Map<Integer, FailedSeason> failedSeasons) {
         Media media = job.getMedia();
         TmdbTvDetailsDTO tvDetails = showCatalogService.fetchAndRefreshShowDetails(media.getTmdbId(), media);
         boolean endedShow = showCatalogService.isEndedShow(tvDetails);
@@ -217,7 +293,7 @@ public class ShowTrackingJobService {
             ? showCatalogService.getRequiredStandardSeasonNumbers(tvDetails)
             : showCatalogService.getRequiredAiredSeasonNumbers(tvDetails);
 
-        hydrateRequiredSeasons(job, media, requiredSeasons);
+        hydrateRequiredSeasons(job, media, requiredSeasons, failedSeasons);
 
         List<ShowEpisode> targetEpisodes = endedShow
             ? showCatalogService.requireAllEligibleEpisodesFromCache(media, tvDetails)
@@ -239,12 +315,12 @@ public class ShowTrackingJobService {
         });
     }
 
-    private void processMarkUpToDateJob(ShowTrackingJob job) {
+    private void processMarkUpToDateJob(ShowTrackingJob job, Map<Integer, FailedSeason> failedSeasons) {
         Media media = job.getMedia();
         TmdbTvDetailsDTO tvDetails = showCatalogService.fetchAndRefreshShowDetails(media.getTmdbId(), media);
         List<Integer> requiredSeasons = showCatalogService.getRequiredAiredSeasonNumbers(tvDetails);
 
-        hydrateRequiredSeasons(job, media, requiredSeasons);
+        hydrateRequiredSeasons(job, media, requiredSeasons, failedSeasons);
 
         List<ShowEpisode> targetEpisodes = showCatalogService.requireAiredEligibleEpisodesFromCache(media, tvDetails);
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
@@ -263,12 +339,12 @@ public class ShowTrackingJobService {
         });
     }
 
-    private void processSetShowProgressJob(ShowTrackingJob job) {
+    private void processSetShowProgressJob(ShowTrackingJob job, Map<Integer, FailedSeason> failedSeasons) {
         Media media = job.getMedia();
         TmdbTvDetailsDTO tvDetails = showCatalogService.fetchAndRefreshShowDetails(media.getTmdbId(), media);
         List<Integer> requiredSeasons = showCatalogService.getRequiredSeasonNumbersThroughPointer(tvDetails, job.getTargetSeasonNumber());
 
-        hydrateRequiredSeasons(job, media, requiredSeasons);
+        hydrateRequiredSeasons(job, media, requiredSeasons, failedSeasons);
 
         List<ShowEpisode> targetEpisodes = showCatalogService.requireEligibleEpisodesThroughPointerFromCache(
             media,
@@ -295,15 +371,40 @@ public class ShowTrackingJobService {
         });
     }
 
-    private void hydrateRequiredSeasons(ShowTrackingJob job, Media media, Collection<Integer> requiredSeasons) {
+    /**
+     * Hydrates the missing seasons concurrently. Seasons that could not be fetched are collected into
+     * {@code failedSeasons}, which the failure then writes along with the job's fail transition; the
+     * seasons that did succeed stay cached, so a retry only fetches the failed ones.
+     */
+    private void hydrateRequiredSeasons(
+        ShowTrackingJob job,
+        Media media,
+        Collection<Integer> requiredSeasons,
+        Map<Integer, FailedSeason> failedSeasons
+    ) {
         List<Integer> missingSeasons = showCatalogService.findMissingOrStaleRequiredSeasons(media, requiredSeasons);
-        updateJobTotals(job.getId(), requiredSeasons.size(), 0);
+        ShowTrackingJobProgress progress = new ShowTrackingJobProgress(
+            job.getId(),
+            requiredSeasons.size(),
+            showTrackingJobProperties.getProgressFlushIntervalMs(),
+            showTrackingJobProperties.getProgressFlushSeasons(),
+            this::updateJobTotals
+        );
+        progress.flush();
 
-        int completed = 0;
-        for (Integer seasonNumber : missingSeasons) {
-            showCatalogService.ensureSeasonCached(media, media.getTmdbId(), seasonNumber);
-            completed++;
-            updateJobTotals(job.getId(), requiredSeasons.size(), completed);
+        try {
+            showCatalogService.hydrateSeasons(
+                media,
+                media.getTmdbId(),
+                missingSeasons,
+                progress::seasonsCompleted,
+                (seasonNumber, ex) -> failedSeasons.put(
+                    seasonNumber,
+                    new FailedSeason(seasonNumber, resolveErrorCode(ex), trimErrorMessage(ex.getMessage()))
+                )
+            );
+        } finally {
+            progress.flush();
         }
     }
 
@@ -320,58 +421,71 @@ public class ShowTrackingJobService {
     }
 
     protected void updateJobTotals(Long jobId, Integer totalSeasons, Integer completedSeasons) {
+        LocalDateTime now = LocalDateTime.now();
         new TransactionTemplate(transactionManager).executeWithoutResult(status ->
-            showTrackingJobRepository.findById(jobId).ifPresent(job -> {
-                job.setTotalSeasons(totalSeasons);
-                job.setCompletedSeasons(completedSeasons);
-                job.setUpdatedAt(LocalDateTime.now());
-                showTrackingJobRepository.save(job);
-            })
+            showTrackingJobRepository.updateProgress(jobId, totalSeasons, completedSeasons, now)
         );
+        showTrackingJobEventHub.publish(ShowTrackingJobProgressDTO.builder()
+            .jobId(jobId)
+            .status(ShowTrackingJobStatus.RUNNING)
+            .totalSeasons(totalSeasons)
+            .completedSeasons(completedSeasons)
+            .updatedAt(now)
+            .build());
     }
 
     protected void requeueJob(Long jobId) {
-        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
-            showTrackingJobRepository.findById(jobId).ifPresent(job -> {
+        publishProgress(new TransactionTemplate(transactionManager).execute(status ->
+            showTrackingJobRepository.findById(jobId).map(job -> {
                 job.setStatus(ShowTrackingJobStatus.PENDING);
                 job.setStartedAt(null);
                 job.setUpdatedAt(LocalDateTime.now());
-                showTrackingJobRepository.save(job);
-            })
-        );
+                return toProgress(showTrackingJobRepository.save(job), null);
+            }).orElse(null)
+        ));
     }
 
     protected void completeJob(Long jobId) {
-        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
-            showTrackingJobRepository.findById(jobId).ifPresent(job -> {
+        publishProgress(new TransactionTemplate(transactionManager).execute(status ->
+            showTrackingJobRepository.findById(jobId).map(job -> {
                 job.setStatus(ShowTrackingJobStatus.COMPLETED);
                 job.setCompletedAt(LocalDateTime.now());
                 job.setUpdatedAt(LocalDateTime.now());
-                showTrackingJobRepository.save(job);
-            })
-        );
+                return toProgress(showTrackingJobRepository.save(job), finalStatusFor(job));
+            }).orElse(null)
+        ));
     }
 
-    protected void failJob(Long jobId, String errorCode, String errorMessage) {
-        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
-            showTrackingJobRepository.findById(jobId).ifPresent(job -> {
-                job.setStatus(ShowTrackingJobStatus.FAILED);
-                job.setErrorCode(errorCode);
-                job.setErrorMessage(errorMessage);
-                job.setUpdatedAt(LocalDateTime.now());
-                showTrackingJobRepository.save(job);
-            })
-        );
+    /**
+     * Fails the job and records the seasons that could not be hydrated in one targeted update; the row is
+     * read back afterwards only to publish the final event.
+     */
+    protected void failJob(Long jobId, String errorCode, String errorMessage, Collection<FailedSeason> failedSeasons) {
+        String failedSeasonsJson = failedSeasons.isEmpty() ? null : objectMapper.writeValueAsString(failedSeasons);
+        publishProgress(new TransactionTemplate(transactionManager).execute(status -> {
+            int updated = showTrackingJobRepository.failJob(
+                jobId,
+                ShowTrackingJobStatus.FAILED,
+                errorCode,
+                errorMessage,
+                failedSeasonsJson,
+                LocalDateTime.now()
+            );
+            if (updated == 0) {
+                return null;
+            }
+            return showTrackingJobRepository.findById(jobId).map(job -> toProgress(job, null)).orElse(null);
+        }));
     }
 
-    private ShowTrackingJobDTO toDto(ShowTrackingJob job) {
-        WatchStatus finalStatus = null;
-        if (job.getUser() != null) {
-            finalStatus = userShowTrackingRepository.findByUserAndMedia(job.getUser(), job.getMedia())
-                .map(UserShowTracking::getStatus)
-                .orElse(null);
+    /** Publishes only after the transaction that wrote the state has committed. */
+    private void publishProgress(ShowTrackingJobProgressDTO progress) {
+        if (progress != null) {
+            showTrackingJobEventHub.publish(progress);
         }
+    }
 
+    private ShowTrackingJobDTO toDto(ShowTrackingJob job) {
         return ShowTrackingJobDTO.builder()
             .jobId(job.getId())
             .status(job.getStatus())
@@ -386,7 +500,7 @@ public class ShowTrackingJobService {
             .targetEpisodeNumber(job.getTargetEpisodeNumber())
             .errorCode(job.getErrorCode())
             .errorMessage(job.getErrorMessage())
-            .finalStatus(finalStatus)
+            .finalStatus(finalStatusFor(job))
             .createdAt(job.getCreatedAt())
             .updatedAt(job.getUpdatedAt())
             .startedAt(job.getStartedAt())
@@ -394,6 +508,29 @@ public class ShowTrackingJobService {
             .build();
     }
 
+    private ShowTrackingJobProgressDTO toProgress(ShowTrackingJob job, WatchStatus finalStatus) {
+        return ShowTrackingJobProgressDTO.builder()
+            .jobId(job.getId())
+            .status(job.getStatus())
+            .totalSeasons(job.getTotalSeasons())
+            .completedSeasons(job.getCompletedSeasons())
+            .errorCode(job.getErrorCode())
+            .errorMessage(job.getErrorMessage())
+            .finalStatus(finalStatus)
+            .updatedAt(job.getUpdatedAt())
+            .completedAt(job.getCompletedAt())
+            .build();
+    }
+
+    private WatchStatus finalStatusFor(ShowTrackingJob job) {
+        if (job.getUser() == null) {
+            return null;
+        }
+        return userShowTrackingRepository.findByUserAndMedia(job.getUser(), job.getMedia())
+            .map(UserShowTracking::getStatus)
+            .orElse(null);
+    }
+
     private String messageFor(ShowTrackingJob job) {
         return switch (job.getJobType()) {
             case HYDRATE_SHOW_CATALOG -> "WatchMate is hydrating this show's catalog in the background.";
@@ -422,9 +559,10 @@ public class ShowTrackingJobService {
         }
         return message.length() <= 1000 ? message : message.substring(0, 1000);
     }
-}
-
-
-
 
+    record FailedSeason(Integer seasonNumber, String errorCode, String errorMessage) {
+    }
 
+    private record ClaimedJob(Long jobId, ShowTrackingJobType jobType) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.project.watchmate.common.cache.RedisCircuitBreaker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells every other node over Redis pub/sub that a show tracking job was enqueued, so an idle
+ * dispatcher there can claim it without waiting for its next poll. Messages from this node are ignored
+ * on receipt because the local dispatcher was already woken in-process. A lost message only delays the
+ * job until the next poll.
+ */
+@Slf4j
+public class ShowTrackingJobWakeupBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ChannelTopic topic;
+
+    private final String nodeId;
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public ShowTrackingJobWakeupBroadcaster(StringRedisTemplate redisTemplate, String channel, RedisCircuitBreaker circuitBreaker) {
+        this(redisTemplate, channel, UUID.randomUUID().toString(), circuitBreaker);
+    }
+
+    ShowTrackingJobWakeupBroadcaster(StringRedisTemplate redisTemplate, String channel, String nodeId, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.nodeId = nodeId;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public ChannelTopic topic() {
+        return topic;
+    }
+
+    public void publishWakeup() {
+        if (circuitBreaker != null && !circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), nodeId);
+        } catch (RuntimeException ex) {
+            log.warn("Show tracking job wakeup publish failed channel={}", topic.getTopic(), ex);
+        }
+    }
+
+    public MessageListener listenerFor(Runnable wakeup) {
+        return (message, pattern) -> {
+            if (!nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+                wakeup.run();
+            }
+        };
+    }
+}
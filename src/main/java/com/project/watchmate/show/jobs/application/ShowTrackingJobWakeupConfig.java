@@ -0,0 +1,44 @@
+package com.project.watchmate.show.jobs.application;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.project.watchmate.common.cache.RedisCircuitBreaker;
+
+@Configuration
+@ConditionalOnProperty(name = "watchmate.show-jobs.wakeup.enabled", havingValue = "true", matchIfMissing = true)
+public class ShowTrackingJobWakeupConfig {
+
+    @Bean
+    public ShowTrackingJobWakeupBroadcaster showTrackingJobWakeupBroadcaster(
+        RedisConnectionFactory redisConnectionFactory,
+        ShowTrackingJobProperties showTrackingJobProperties,
+        ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker
+    ) {
+        return new ShowTrackingJobWakeupBroadcaster(
+            new StringRedisTemplate(redisConnectionFactory),
+            showTrackingJobProperties.getWakeup().getChannel(),
+            redisCircuitBreaker.getIfAvailable()
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer showTrackingJobWakeupListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        ShowTrackingJobWakeupBroadcaster showTrackingJobWakeupBroadcaster,
+        ShowTrackingJobDispatcher showTrackingJobDispatcher
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+            showTrackingJobWakeupBroadcaster.listenerFor(showTrackingJobDispatcher::wakeup),
+            showTrackingJobWakeupBroadcaster.topic()
+        );
+        return container;
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.watchmate.show.jobs.application;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fixed pool that runs claimed show tracking jobs concurrently. A slot is {@link #reserve reserved} before
+ * a job is claimed and released when the job finishes, so claimed jobs never sit in {@code RUNNING}
+ * waiting for a thread. Each type also has its own slots, sized by {@code typeParallelism}, which caps how
+ * many jobs of that type run at once on this node. The poller claims again whenever {@link #awaitChange}
+ * reports that a job finished or a wakeup arrived.
+ */
+@Component
+@Slf4j
+public class ShowTrackingJobWorkerPool implements DisposableBean {
+
+    private final ThreadPoolExecutor workerExecutor;
+
+    private final Semaphore idleWorkers;
+
+    private final Map<ShowTrackingJobType, Semaphore> typeSlots = new EnumMap<>(ShowTrackingJobType.class);
+
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changeSignal = lock.newCondition();
+
+    private boolean changePending;
+
+    public ShowTrackingJobWorkerPool(ShowTrackingJobProperties showTrackingJobProperties) {
+        int threads = Math.max(1, showTrackingJobProperties.getWorkerThreads());
+        this.workerExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new CustomizableThreadFactory("show-jobs-")
+        );
+        this.workerExecutor.allowCoreThreadTimeOut(true);
+        this.idleWorkers = new Semaphore(threads);
+        for (ShowTrackingJobType jobType : ShowTrackingJobType.values()) {
+            int parallelism = showTrackingJobProperties.getTypeParallelism().getOrDefault(jobType, threads);
+            typeSlots.put(jobType, new Semaphore(Math.max(0, Math.min(threads, parallelism))));
+        }
+    }
+
+    /** Reserves up to {@code max} slots for jobs of {@code jobType}; returns how many it got. */
+    public int reserve(ShowTrackingJobType jobType, int max) {
+        Semaphore typeSlot = typeSlots.get(jobType);
+        int reserved = 0;
+        while (reserved < max && idleWorkers.tryAcquire()) {
+            if (!typeSlot.tryAcquire()) {
+                idleWorkers.release();
+                break;
+            }
+            reserved++;
+        }
+        return reserved;
+    }
+
+    /** Returns reserved slots that were not used, e.g. because fewer jobs were pending. */
+    public void release(ShowTrackingJobType jobType, int slots) {
+        if (slots <= 0) {
+            return;
+        }
+        typeSlots.get(jobType).release(slots);
+        idleWorkers.release(slots);
+    }
+
+    /** Runs a job in a slot already {@link #reserve reserved} for its type; the slot is freed when it ends. */
+    public void submit(ShowTrackingJobType jobType, Runnable task) {
+        runningJobs.incrementAndGet();
+        try {
+            workerExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    log.error("Show tracking job worker failed", ex);
+                } finally {
+                    finished(jobType);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            finished(jobType);
+            throw ex;
+        }
+    }
+
+    public boolean hasIdleWorker() {
+        return idleWorkers.availablePermits() > 0;
+    }
+
+    public int runningJobs() {
+        return runningJobs.get();
+    }
+
+    /** Wakes a poller waiting in {@link #awaitChange}, e.g. because a job was enqueued. */
+    public void wakeup() {
+        lock.lock();
+        try {
+            changePending = true;
+            changeSignal.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits up to {@code timeoutMs} for a job to finish or a wakeup; returns whether one arrived. */
+    public boolean awaitChange(long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (!changePending && remainingNanos > 0) {
+                remainingNanos = changeSignal.awaitNanos(remainingNanos);
+            }
+            boolean changed = changePending;
+            changePending = false;
+            return changed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        workerExecutor.shutdownNow();
+    }
+
+    private void finished(ShowTrackingJobType jobType) {
+        release(jobType, 1);
+        runningJobs.decrementAndGet();
+        wakeup();
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.watchmate.show.jobs.dto;
+
+import java.time.LocalDateTime;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobStatus;
+import com.project.watchmate.media.catalog.domain.WatchStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ShowTrackingJobProgress", description = "Progress update pushed on a show tracking job's event stream whenever the job's stored state changes.")
+public class ShowTrackingJobProgressDTO {
+
+    private Long jobId;
+
+    private ShowTrackingJobStatus status;
+
+    private Integer totalSeasons;
+
+    private Integer completedSeasons;
+
+    private String errorCode;
+
+    private String errorMessage;
+
+    @Schema(description = "The caller's tracking status for the show, only set once the job has completed.")
+    private WatchStatus finalStatus;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
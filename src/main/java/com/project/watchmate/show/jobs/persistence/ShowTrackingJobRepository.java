@@ -40,13 +40,23 @@ public interface ShowTrackingJobRepository extends JpaRepository<ShowTrackingJob
         Pageable pageable
     );
 
-    List<ShowTrackingJob> findByStatusOrderByCreatedAtAsc(ShowTrackingJobStatus status, Pageable pageable);
-
     List<ShowTrackingJob> findByStatusAndStartedAtBeforeOrderByStartedAtAsc(
         ShowTrackingJobStatus status,
         LocalDateTime startedAtBefore
     );
 
+    /**
+     * Locks the oldest pending jobs of one type, skipping rows another node has already locked, so
+     * concurrent pollers claim disjoint batches without waiting on each other. Only meaningful inside a
+     * transaction that then claims the returned ids.
+     */
+    @Query(value = "select id from show_tracking_job " +
+        "where status = 'PENDING' and job_type = :jobType " +
+        "order by created_at asc, id asc " +
+        "limit :limit " +
+        "for update skip locked", nativeQuery = true)
+    List<Long> lockPendingJobIds(@Param("jobType") String jobType, @Param("limit") int limit);
+
     @Modifying
     @Query("update ShowTrackingJob job " +
         "set job.status = :runningStatus, " +
@@ -54,16 +64,47 @@ public interface ShowTrackingJobRepository extends JpaRepository<ShowTrackingJob
         "job.updatedAt = :updatedAt, " +
         "job.attemptCount = job.attemptCount + 1, " +
         "job.errorCode = null, " +
-        "job.errorMessage = null " +
-        "where job.id = :jobId and job.status = :pendingStatus")
-    int claimPendingJob(
-        @Param("jobId") Long jobId,
+        "job.errorMessage = null, " +
+        "job.failedSeasonsJson = null " +
+        "where job.id in :jobIds and job.status = :pendingStatus")
+    int claimPendingJobs(
+        @Param("jobIds") Collection<Long> jobIds,
         @Param("pendingStatus") ShowTrackingJobStatus pendingStatus,
         @Param("runningStatus") ShowTrackingJobStatus runningStatus,
         @Param("startedAt") LocalDateTime startedAt,
         @Param("updatedAt") LocalDateTime updatedAt
     );
 
+    @Modifying
+    @Query("update ShowTrackingJob job " +
+        "set job.totalSeasons = :totalSeasons, " +
+        "job.completedSeasons = :completedSeasons, " +
+        "job.updatedAt = :updatedAt " +
+        "where job.id = :jobId")
+    int updateProgress(
+        @Param("jobId") Long jobId,
+        @Param("totalSeasons") Integer totalSeasons,
+        @Param("completedSeasons") Integer completedSeasons,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("update ShowTrackingJob job " +
+        "set job.status = :failedStatus, " +
+        "job.errorCode = :errorCode, " +
+        "job.errorMessage = :errorMessage, " +
+        "job.failedSeasonsJson = :failedSeasonsJson, " +
+        "job.updatedAt = :updatedAt " +
+        "where job.id = :jobId")
+    int failJob(
+        @Param("jobId") Long jobId,
+        @Param("failedStatus") ShowTrackingJobStatus failedStatus,
+        @Param("errorCode") String errorCode,
+        @Param("errorMessage") String errorMessage,
+        @Param("failedSeasonsJson") String failedSeasonsJson,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
     @Query("select job from ShowTrackingJob job where job.id = :jobId and job.user = :user")
     Optional<ShowTrackingJob> findVisibleUserJob(@Param("jobId") Long jobId, @Param("user") Users user);
 }
@@ -3,11 +3,13 @@ package com.project.watchmate.show.metadata.application;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import com.project.watchmate.common.cache.WatchMateCacheNames;
+import com.project.watchmate.media.catalog.domain.Genre;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.catalog.domain.ShowEpisode;
@@ -36,7 +38,7 @@ public class PublicShowMetadataCacheService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.PUBLIC_SHOW_METADATA,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).show(#tmdbId)",
-        unless = "#result == null"
+        sync = true
     )
     public PublicShowMetadataDTO getShowMetadata(Long tmdbId) {
         TmdbTvDetailsDTO tvDetails = tmdbService.fetchTvDetails(tmdbId);
@@ -50,7 +52,7 @@ public class PublicShowMetadataCacheService {
     @Cacheable(
         cacheNames = WatchMateCacheNames.PUBLIC_SEASON_METADATA,
         key = "T(com.project.watchmate.common.cache.WatchMateCacheKeys).season(#tmdbId, #seasonNumber)",
-        unless = "#result == null"
+        sync = true
     )
     public PublicShowSeasonMetadataDTO getSeasonMetadata(Long tmdbId, Integer seasonNumber) {
         var media = showCatalogService.ensureBasicShowImported(tmdbId);
@@ -58,6 +60,51 @@ public class PublicShowMetadataCacheService {
         return toPublicSeasonMetadata(tmdbId, cachedSeason.season(), cachedSeason.episodes());
     }
 
+    /**
+     * Show metadata rebuilt from the stored snapshot and season rows, for when TMDB is unavailable.
+     * Not cached, so the next request after TMDB recovers gets fresh data.
+     */
+    public Optional<PublicShowMetadataDTO> getStoredShowMetadata(Media show) {
+        if (show == null) {
+            return Optional.empty();
+        }
+        return Optional.of(PublicShowMetadataDTO.builder()
+            .tmdbId(show.getTmdbId())
+            .type(MediaType.SHOW)
+            .title(show.getTitle())
+            .overview(show.getOverview())
+            .posterPath(show.getPosterPath())
+            .backdropPath(show.getBackdropPath())
+            .firstAirDate(show.getReleaseDate())
+            .rating(show.getRating())
+            .genres(show.getGenres().stream().map(Genre::getName).toList())
+            .numberOfSeasons(show.getNumberOfSeasons())
+            .numberOfEpisodes(show.getNumberOfEpisodes())
+            .lastAirDate(show.getLastAirDate())
+            .tmdbShowStatus(show.getTmdbShowStatus())
+            .nextEpisodeAirDate(show.getNextEpisodeAirDate())
+            .nextEpisodeSeasonNumber(show.getNextEpisodeSeasonNumber())
+            .nextEpisodeEpisodeNumber(show.getNextEpisodeEpisodeNumber())
+            .nextEpisodeName(show.getNextEpisodeName())
+            .lastEpisodeToAirSeasonNumber(show.getLastEpisodeToAirSeasonNumber())
+            .lastEpisodeToAirEpisodeNumber(show.getLastEpisodeToAirEpisodeNumber())
+            .lastEpisodeToAirName(show.getLastEpisodeToAirName())
+            .seasons(showCatalogService.getCachedSeasons(show.getId()).stream()
+                .map(this::mapStoredSeasonSummary)
+                .toList())
+            .build());
+    }
+
+    /** Season metadata from the stored season rows, however old, for when TMDB is unavailable. Not cached. */
+    public Optional<PublicShowSeasonMetadataDTO> getStoredSeasonMetadata(Long tmdbId, Integer seasonNumber) {
+        Media show = showCatalogService.findImportedShow(tmdbId);
+        if (show == null) {
+            return Optional.empty();
+        }
+        return showCatalogService.findCachedSeason(show.getId(), seasonNumber)
+            .map(cachedSeason -> toPublicSeasonMetadata(tmdbId, cachedSeason.season(), cachedSeason.episodes()));
+    }
+
     private PublicShowMetadataDTO toPublicShowMetadata(TmdbTvDetailsDTO tvDetails) {
         return PublicShowMetadataDTO.builder()
             .tmdbId(tvDetails.getId())
@@ -122,6 +169,17 @@ public class PublicShowMetadataCacheService {
             .toList();
     }
 
+    private ShowSeasonSummaryDTO mapStoredSeasonSummary(ShowSeason season) {
+        return ShowSeasonSummaryDTO.builder()
+            .seasonNumber(season.getSeasonNumber())
+            .name(season.getName())
+            .overview(season.getOverview())
+            .airDate(season.getAirDate())
+            .episodeCount(season.getEpisodeCount())
+            .posterPath(season.getPosterPath())
+            .build();
+    }
+
     private ShowSeasonSummaryDTO mapSeasonSummary(TmdbTvSeasonSummaryDTO seasonSummary) {
         return ShowSeasonSummaryDTO.builder()
             .tmdbSeasonId(seasonSummary.getId())
@@ -0,0 +1,161 @@
+package com.project.watchmate.show.metadata.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.project.watchmate.common.cache.CacheTtlPolicy;
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.common.cache.WatchMateCacheNames;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
+import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.project.watchmate.show.metadata.dto.PublicShowEpisodeMetadataDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowMetadataDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
+
+/**
+ * Sets show and season cache TTLs from where the show is in its lifecycle.
+ *
+ * <ul>
+ *   <li>Ended or cancelled shows never change, so they are kept for weeks.</li>
+ *   <li>Shows and seasons with an announced episode expire the day after it airs, so the new
+ *       episode shows up without waiting out the full TTL.</li>
+ *   <li>Seasons whose episodes all aired more than a month ago are kept for weeks.</li>
+ * </ul>
+ *
+ * Results are never shorter than {@link #MIN_TTL}, and only ended or settled content is kept past the
+ * configured TTL. Air dates carry no time of day, so "after it airs" is the start of the following UTC day.
+ */
+@Component
+public class ShowLifecycleCacheTtlPolicy implements CacheTtlPolicy {
+
+    static final Duration ENDED_SHOW_TTL = Duration.ofDays(21);
+
+    static final Duration SETTLED_SEASON_TTL = Duration.ofDays(14);
+
+    static final Duration MIN_TTL = Duration.ofMinutes(30);
+
+    /** A season counts as settled once its last episode is this old; late corrections are rare after that. */
+    private static final Duration SEASON_SETTLE_PERIOD = Duration.ofDays(30);
+
+    private static final Set<String> SHOW_CACHES = Set.of(
+        TmdbCacheNames.TMDB_SHOW_DETAILS,
+        WatchMateCacheNames.PUBLIC_SHOW_METADATA
+    );
+
+    private static final Set<String> SEASON_CACHES = Set.of(
+        TmdbCacheNames.TMDB_SEASON_DETAILS,
+        WatchMateCacheNames.PUBLIC_SEASON_METADATA
+    );
+
+    private final Clock clock;
+
+    public ShowLifecycleCacheTtlPolicy() {
+        this(Clock.systemUTC());
+    }
+
+    ShowLifecycleCacheTtlPolicy(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration timeToLive(String cacheName, Object value, Duration ttl) {
+        if (SHOW_CACHES.contains(cacheName)) {
+            if (value instanceof TmdbTvDetailsDTO tvDetails) {
+                return showTtl(
+                    tvDetails.getStatus(),
+                    tvDetails.getNextEpisodeToAir() == null
+                        ? null
+                        : TmdbMovieDTO.parseDate(tvDetails.getNextEpisodeToAir().getAirDate()).orElse(null),
+                    ttl
+                );
+            }
+            if (value instanceof PublicShowMetadataDTO metadata) {
+                return showTtl(metadata.getTmdbShowStatus(), metadata.getNextEpisodeAirDate(), ttl);
+            }
+        }
+
+        if (SEASON_CACHES.contains(cacheName)) {
+            if (value instanceof TmdbTvSeasonDTO season) {
+                return seasonTtl(
+                    airDates(season.getEpisodes(), episode -> TmdbMovieDTO.parseDate(episode.getAirDate()).orElse(null)),
+                    ttl
+                );
+            }
+            if (value instanceof PublicShowSeasonMetadataDTO season) {
+                return seasonTtl(airDates(season.getEpisodes(), PublicShowEpisodeMetadataDTO::getAirDate), ttl);
+            }
+        }
+
+        return ttl;
+    }
+
+    private Duration showTtl(String tmdbShowStatus, LocalDate nextEpisodeAirDate, Duration ttl) {
+        if (ShowCatalogService.isEndedStatus(tmdbShowStatus)) {
+            return max(ttl, ENDED_SHOW_TTL);
+        }
+        if (nextEpisodeAirDate != null) {
+            return untilAired(nextEpisodeAirDate, ttl);
+        }
+        return ttl;
+    }
+
+    /**
+     * @param airDates every episode's air date, with {@code null} for an episode without one; an
+     *                 empty list or any missing date keeps the configured TTL
+     */
+    private Duration seasonTtl(List<LocalDate> airDates, Duration ttl) {
+        if (airDates.isEmpty() || airDates.stream().anyMatch(Objects::isNull)) {
+            return ttl;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate nextAirDate = airDates.stream()
+            .filter(airDate -> !airDate.isBefore(today))
+            .min(LocalDate::compareTo)
+            .orElse(null);
+        if (nextAirDate != null) {
+            return untilAired(nextAirDate, ttl);
+        }
+
+        LocalDate lastAirDate = airDates.stream().max(LocalDate::compareTo).orElseThrow();
+        if (lastAirDate.plusDays(SEASON_SETTLE_PERIOD.toDays()).isBefore(today)) {
+            return max(ttl, SETTLED_SEASON_TTL);
+        }
+        return ttl;
+    }
+
+    private Duration untilAired(LocalDate airDate, Duration ttl) {
+        Instant afterAiring = airDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Duration untilAfterAiring = Duration.between(clock.instant(), afterAiring);
+        return max(MIN_TTL, min(ttl, untilAfterAiring));
+    }
+
+    private static <T> List<LocalDate> airDates(List<T> episodes, Function<T, LocalDate> airDate) {
+        if (episodes == null) {
+            return List.of();
+        }
+        return episodes.stream()
+            .filter(Objects::nonNull)
+            .map(airDate)
+            .toList();
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
@@ -3,6 +3,7 @@ package com.project.watchmate.show.metadata.application;
 import com.project.watchmate.media.tmdb.application.TmdbService;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,6 +20,7 @@ import com.project.watchmate.show.metadata.dto.PublicShowMetadataDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
 import com.project.watchmate.show.metadata.dto.ShowDetailsDTO;
 import com.project.watchmate.show.metadata.dto.ShowEpisodeDetailsDTO;
+import com.project.watchmate.common.error.TmdbUnavailableException;
 import com.project.watchmate.common.error.UserNotFoundException;
 import com.project.watchmate.common.mapper.WatchMateMapper;
 import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
@@ -26,6 +28,7 @@ import com.project.watchmate.show.metadata.mapper.ShowMetadataMapper;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.extras.application.MediaExtrasService;
+import com.project.watchmate.media.tmdb.application.TmdbDetailsBundleService;
 import com.project.watchmate.media.extras.dto.MediaExtrasDTO;
 import com.project.watchmate.review.domain.Review;
 import com.project.watchmate.show.tracking.domain.UserShowTracking;
@@ -59,10 +62,19 @@ public class ShowMetadataService {
 
     private final MediaExtrasService mediaExtrasService;
 
+    private final TmdbDetailsBundleService tmdbDetailsBundleService;
+
     @Transactional
     public NextEpisodeAiringDTO getNextEpisode(Long tmdbId, MediaType mediaType) {
         showCatalogService.validateShowType(mediaType);
-        TmdbTvDetailsDTO tvDetails = tmdbService.fetchTvDetails(tmdbId);
+        TmdbTvDetailsDTO tvDetails;
+        try {
+            tvDetails = tmdbService.fetchTvDetails(tmdbId);
+        } catch (TmdbUnavailableException ex) {
+            return Optional.ofNullable(showCatalogService.findImportedShow(tmdbId))
+                .map(showMetadataMapper::mapToStoredNextEpisodeDto)
+                .orElseThrow(() -> ex);
+        }
 
         Media importedShow = showCatalogService.findImportedShow(tmdbId);
         if (importedShow != null) {
@@ -76,24 +88,42 @@ public class ShowMetadataService {
     public ShowDetailsDTO getShowDetails(Long tmdbId, MediaType mediaType, Users userParam) {
         showCatalogService.validateShowType(mediaType);
 
+        tmdbDetailsBundleService.prefetchDetailPage(tmdbId, MediaType.SHOW);
         Media importedShow = showCatalogService.findImportedShow(tmdbId);
         List<Review> reviews = importedShow == null ? List.of() : reviewRepository.findByMedia(importedShow);
         UserContext userContext = resolveUserContext(userParam, importedShow);
 
-        PublicShowMetadataDTO publicMetadata = publicShowMetadataCacheService.getShowMetadata(tmdbId);
+        PublicShowMetadataDTO publicMetadata;
+        boolean possiblyStale = false;
+        try {
+            publicMetadata = publicShowMetadataCacheService.getShowMetadata(tmdbId);
+        } catch (TmdbUnavailableException ex) {
+            publicMetadata = publicShowMetadataCacheService.getStoredShowMetadata(importedShow).orElseThrow(() -> ex);
+            possiblyStale = true;
+        }
         MediaExtrasDTO extras = mediaExtrasService.getExtras(tmdbId, MediaType.SHOW);
-        return toShowDetailsDTO(publicMetadata, reviews, userContext.isFavourited(), userContext.watchStatus(), extras);
+        ShowDetailsDTO showDetails = toShowDetailsDTO(publicMetadata, reviews, userContext.isFavourited(), userContext.watchStatus(), extras);
+        showDetails.setPossiblyStale(possiblyStale);
+        return showDetails;
     }
 
     @Transactional
     public Page<ShowEpisodeDetailsDTO> getShowSeasonDetails(Long tmdbId, Integer seasonNumber, MediaType mediaType, Users user, int page, int size) {
         showCatalogService.validateShowType(mediaType);
-        PublicShowSeasonMetadataDTO publicSeason = publicShowMetadataCacheService.getSeasonMetadata(tmdbId, seasonNumber);
+        PublicShowSeasonMetadataDTO publicSeason;
+        boolean possiblyStale = false;
+        try {
+            publicSeason = publicShowMetadataCacheService.getSeasonMetadata(tmdbId, seasonNumber);
+        } catch (TmdbUnavailableException ex) {
+            publicSeason = publicShowMetadataCacheService.getStoredSeasonMetadata(tmdbId, seasonNumber).orElseThrow(() -> ex);
+            possiblyStale = true;
+        }
         Media media = user == null ? null : showCatalogService.findImportedShow(tmdbId);
         Set<String> watchedKeys = resolveWatchedEpisodeKeys(user, media);
 
+        boolean staleSeason = possiblyStale;
         List<ShowEpisodeDetailsDTO> allEpisodes = publicSeason.getEpisodes().stream()
-            .map(ep -> toShowEpisodeDetailsDTO(ep, watchedKeys))
+            .map(ep -> toShowEpisodeDetailsDTO(ep, watchedKeys, staleSeason))
             .toList();
 
         int from = page * size;
@@ -174,7 +204,7 @@ public class ShowMetadataService {
             .build();
     }
 
-    private ShowEpisodeDetailsDTO toShowEpisodeDetailsDTO(PublicShowEpisodeMetadataDTO episode, Set<String> watchedEpisodeKeys) {
+    private ShowEpisodeDetailsDTO toShowEpisodeDetailsDTO(PublicShowEpisodeMetadataDTO episode, Set<String> watchedEpisodeKeys, boolean possiblyStale) {
         return ShowEpisodeDetailsDTO.builder()
             .tmdbEpisodeId(episode.getTmdbEpisodeId())
             .seasonNumber(episode.getSeasonNumber())
@@ -186,6 +216,7 @@ public class ShowMetadataService {
             .stillPath(episode.getStillPath())
             .isAired(episode.getIsAired())
             .watched(watchedEpisodeKeys.contains(episode.getSeasonNumber() + ":" + episode.getEpisodeNumber()))
+            .possiblyStale(possiblyStale)
             .build();
     }
 }
@@ -30,6 +30,9 @@ public class NextEpisodeAiringDTO {
     private Integer lastEpisodeToAirEpisodeNumber;
 
     private String lastEpisodeToAirName;
+
+    @Schema(description = "True when TMDB was unavailable and this was built from the last stored snapshot.")
+    private boolean possiblyStale;
 }
 
 
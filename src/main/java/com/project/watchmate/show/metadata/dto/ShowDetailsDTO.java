@@ -105,6 +105,9 @@ public class ShowDetailsDTO {
 
     @Schema(description = "Streaming, rental, purchase, ad-supported, and free provider availability for the configured region.")
     private WatchProvidersDTO watchProviders;
+
+    @Schema(description = "True when TMDB was unavailable and show metadata came from the last stored snapshot.")
+    private boolean possiblyStale;
 }
 
 
@@ -34,6 +34,9 @@ public class ShowEpisodeDetailsDTO {
     private Boolean isAired;
 
     private Boolean watched;
+
+    @Schema(description = "True when TMDB was unavailable and this episode came from the last stored season data.")
+    private boolean possiblyStale;
 }
 
 
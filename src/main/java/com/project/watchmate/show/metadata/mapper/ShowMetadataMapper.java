@@ -47,6 +47,21 @@ public class ShowMetadataMapper {
             .build();
     }
 
+    /** Next-episode data from the stored show snapshot, for when TMDB is unavailable. */
+    public NextEpisodeAiringDTO mapToStoredNextEpisodeDto(Media show) {
+        return NextEpisodeAiringDTO.builder()
+            .tmdbId(show.getTmdbId())
+            .nextEpisodeAirDate(show.getNextEpisodeAirDate())
+            .seasonNumber(show.getNextEpisodeSeasonNumber())
+            .episodeNumber(show.getNextEpisodeEpisodeNumber())
+            .episodeName(show.getNextEpisodeName())
+            .lastEpisodeToAirSeasonNumber(show.getLastEpisodeToAirSeasonNumber())
+            .lastEpisodeToAirEpisodeNumber(show.getLastEpisodeToAirEpisodeNumber())
+            .lastEpisodeToAirName(show.getLastEpisodeToAirName())
+            .possiblyStale(true)
+            .build();
+    }
+
     public ShowDetailsDTO mapToShowDetailsDTO(
         TmdbTvDetailsDTO tvDetails,
         List<Review> reviews,
@@ -1,5 +1,11 @@
 package com.project.watchmate.watchlist.application;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -7,9 +13,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
+import com.project.watchmate.common.cache.WatchMateCacheKeys;
 import com.project.watchmate.common.cache.WatchMateCacheNames;
 import com.project.watchmate.user.domain.Users;
 import com.project.watchmate.watchlist.domain.WatchList;
+import com.project.watchmate.watchlist.dto.WatchListDTO;
 import com.project.watchmate.watchlist.dto.WatchListPageCacheDTO;
 import com.project.watchmate.watchlist.persistence.WatchListRepository;
 
@@ -23,6 +32,8 @@ public class WatchListPageCacheService {
 
     private final WatchListDtoAssembler watchListDtoAssembler;
 
+    private final WatchMateCacheEvictionService cacheEvictionService;
+
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES,
@@ -33,11 +44,27 @@ public class WatchListPageCacheService {
         var pageable = PageRequest.of(page, size, Sort.by("id").ascending());
         Page<WatchList> watchLists = watchListRepository.findAllByUser(user, pageable);
 
+        List<WatchListDTO> content = watchListDtoAssembler.mapWatchLists(user, watchLists.getContent());
+        // Reviews are embedded in the page, so index its media to let review changes evict just this user's pages.
+        // This runs before @Cacheable stores the page; a review change evicting in between leaves this page
+        // stale until its TTL (see registerWatchlistPageMedia).
+        cacheEvictionService.registerWatchlistPageMedia(user.getId(), mediaIndexKeys(content));
+
         return WatchListPageCacheDTO.builder()
-            .content(watchListDtoAssembler.mapWatchLists(user, watchLists.getContent()))
+            .content(content)
             .page(page)
             .size(size)
             .totalElements(watchLists.getTotalElements())
             .build();
     }
+
+    private Set<String> mediaIndexKeys(List<WatchListDTO> watchLists) {
+        return watchLists.stream()
+            .map(WatchListDTO::getMedia)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .filter(media -> media != null && media.getTmdbId() != null)
+            .map(media -> WatchMateCacheKeys.mediaIndex(media.getType(), media.getTmdbId()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 }
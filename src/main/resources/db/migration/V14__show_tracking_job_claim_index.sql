@@ -0,0 +1 @@
+create index idx_show_tracking_job_claim on show_tracking_job (status, job_type, created_at, id);
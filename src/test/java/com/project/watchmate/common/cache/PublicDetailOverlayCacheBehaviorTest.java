@@ -35,9 +35,12 @@ import com.project.watchmate.media.catalog.domain.ShowSeason;
 import com.project.watchmate.media.catalog.domain.WatchStatus;
 import com.project.watchmate.media.catalog.persistence.MediaRepository;
 import com.project.watchmate.media.extras.application.MediaExtrasService;
+import com.project.watchmate.media.tmdb.application.TmdbDetailsBundleService;
 import com.project.watchmate.media.extras.dto.MediaExtrasDTO;
 import com.project.watchmate.media.extras.dto.WatchProvidersDTO;
 import com.project.watchmate.media.tmdb.application.TmdbService;
+import com.project.watchmate.media.tmdb.client.TmdbCircuitBreaker;
+import com.project.watchmate.media.tmdb.client.TmdbCircuitBreakerProperties;
 import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
 import com.project.watchmate.movie.application.MediaService;
 import com.project.watchmate.movie.application.PublicMediaDetailBaseCacheService;
@@ -316,6 +319,11 @@ class PublicDetailOverlayCacheBehaviorTest {
             return org.mockito.Mockito.mock(MediaExtrasService.class);
         }
 
+        @Bean
+        TmdbDetailsBundleService tmdbDetailsBundleService() {
+            return org.mockito.Mockito.mock(TmdbDetailsBundleService.class);
+        }
+
         @Bean
         ShowMetadataMapper showMetadataMapper() {
             return org.mockito.Mockito.mock(ShowMetadataMapper.class);
@@ -353,7 +361,8 @@ class PublicDetailOverlayCacheBehaviorTest {
             UserShowTrackingRepository userShowTrackingRepository,
             UserWatchStatusResolver userWatchStatusResolver,
             PublicMediaDetailBaseCacheService publicMediaDetailBaseCacheService,
-            MediaExtrasService mediaExtrasService
+            MediaExtrasService mediaExtrasService,
+            TmdbDetailsBundleService tmdbDetailsBundleService
         ) {
             return new MediaService(
                 mediaResolutionService,
@@ -365,7 +374,9 @@ class PublicDetailOverlayCacheBehaviorTest {
                 userShowTrackingRepository,
                 userWatchStatusResolver,
                 publicMediaDetailBaseCacheService,
-                mediaExtrasService
+                mediaExtrasService,
+                tmdbDetailsBundleService,
+                new TmdbCircuitBreaker(new TmdbCircuitBreakerProperties())
             );
         }
 
@@ -379,7 +390,8 @@ class PublicDetailOverlayCacheBehaviorTest {
             ReviewRepository reviewRepository,
             UserShowTrackingRepository userShowTrackingRepository,
             PublicShowMetadataCacheService publicShowMetadataCacheService,
-            MediaExtrasService mediaExtrasService
+            MediaExtrasService mediaExtrasService,
+            TmdbDetailsBundleService tmdbDetailsBundleService
         ) {
             return new ShowMetadataService(
                 showCatalogService,
@@ -390,7 +402,8 @@ class PublicDetailOverlayCacheBehaviorTest {
                 reviewRepository,
                 userShowTrackingRepository,
                 publicShowMetadataCacheService,
-                mediaExtrasService
+                mediaExtrasService,
+                tmdbDetailsBundleService
             );
         }
     }
@@ -2,19 +2,27 @@ package com.project.watchmate.common.cache;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
@@ -24,9 +32,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
@@ -37,6 +47,7 @@ import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.tmdb.client.TmdbClient;
 import com.project.watchmate.media.tmdb.client.TmdbClientImpl;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
@@ -44,11 +55,17 @@ import com.project.watchmate.media.tmdb.dto.TmdbResponseDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowEpisodeMetadataDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
 
+import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 import tools.jackson.databind.ObjectMapper;
 
+@Slf4j
 @Testcontainers
 @SpringJUnitConfig(RedisCacheRoundTripTest.TestConfig.class)
+@TestPropertySource(properties = {
+    "watchmate.cache.near-cache.enabled=false",
+    "watchmate.cache.generations.check-interval=0s"
+})
 class RedisCacheRoundTripTest {
 
     @Container
@@ -116,7 +133,8 @@ class RedisCacheRoundTripTest {
                 .filter(key -> key.endsWith(WatchMateCacheKeys.season(200L, 1)))
                 .findFirst()
                 .orElse(null);
-        String rawValue = cacheKey == null ? null : stringRedisTemplate.opsForValue().get(cacheKey);
+        byte[] rawValue = cacheKey == null ? null : stringRedisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands().get(cacheKey.getBytes(StandardCharsets.UTF_8)));
 
         assertNotNull(first);
         assertNotNull(second);
@@ -127,18 +145,18 @@ class RedisCacheRoundTripTest {
         assertTrue(cacheKeys.stream().anyMatch(key -> key.contains(WatchMateCacheNames.PUBLIC_SEASON_METADATA)));
         assertEquals(2101L, second.getEpisodes().get(0).getTmdbEpisodeId());
         assertNull(second.getEpisodes().get(1).getTmdbEpisodeId());
-        assertTrue(rawValue.contains("\"tmdbEpisodeId\":2101"));
+        assertTrue(VersionedCacheValueSerializer.hasHeader(rawValue));
     }
 
     /**
-     * Verifies that SCAN-based eviction deletes all Redis keys belonging to the target
+     * Verifies that index-based eviction deletes all Redis keys belonging to the target
      * user and leaves a different user's keys intact.
      *
      * <p>This is the end-to-end proof that:
      * <ul>
-     *   <li>The eviction pattern {@code watchmate::watchlistSummaryPages::user:{id}:*}
-     *       actually matches the Redis keys written by Spring Cache.</li>
-     *   <li>SCAN correctly iterates and deletes only matching keys.</li>
+     *   <li>Every page Spring Cache writes is registered in the user's index set
+     *       {@code watchmate::watchlistSummaryPages::index:user:{id}}.</li>
+     *   <li>Eviction deletes exactly the indexed keys and the index itself.</li>
      *   <li>Keys for another user are not touched.</li>
      * </ul>
      */
@@ -149,18 +167,28 @@ class RedisCacheRoundTripTest {
         watchlistPageCacheProbe.getPage(2L, 0, 20);
         assertEquals(2, watchlistPageCacheProbe.invocationCount(), "Both calls should be cache misses initially");
 
-        String user1Key = WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX + WatchMateCacheKeys.watchlistPage(1L, 0, 20);
-        String user2Key = WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX + WatchMateCacheKeys.watchlistPage(2L, 0, 20);
+        String user1Key = watchlistPageRedisKey(1L, 0, 20);
+        String user2Key = watchlistPageRedisKey(2L, 0, 20);
+        assertEquals(WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX + "g0::" + WatchMateCacheKeys.watchlistPage(1L, 0, 20),
+            user1Key, "Watchlist pages are written under the cache's current generation");
 
-        // Both keys exist before eviction.
+        // Both keys exist and are indexed under their own user before eviction.
         assertNotNull(stringRedisTemplate.opsForValue().get(user1Key), "User 1 key must exist before eviction");
         assertNotNull(stringRedisTemplate.opsForValue().get(user2Key), "User 2 key must exist before eviction");
+        assertEquals(Set.of(user1Key),
+            stringRedisTemplate.opsForSet().members(WatchMateCacheEvictionService.buildWatchlistIndexKey(1L)));
+        assertEquals(Set.of(user2Key),
+            stringRedisTemplate.opsForSet().members(WatchMateCacheEvictionService.buildWatchlistIndexKey(2L)));
+        assertTrue(stringRedisTemplate.getExpire(WatchMateCacheEvictionService.buildWatchlistIndexKey(1L)) > 0,
+            "The index must expire with the entries it lists");
 
         // Evict only user 1's entries.
         cacheEvictionService.evictWatchlistSummaryPagesForUser(1L);
 
-        // User 1's key is gone; user 2's key survives.
+        // User 1's key and index are gone; user 2's key survives.
         assertNull(stringRedisTemplate.opsForValue().get(user1Key), "User 1 key must be deleted after eviction");
+        assertFalse(stringRedisTemplate.hasKey(WatchMateCacheEvictionService.buildWatchlistIndexKey(1L)),
+            "User 1 index must be deleted after eviction");
         assertNotNull(stringRedisTemplate.opsForValue().get(user2Key), "User 2 key must survive user 1 eviction");
 
         // Next call for user 1 is a cache miss → probe invoked again.
@@ -173,7 +201,7 @@ class RedisCacheRoundTripTest {
     }
 
     /**
-     * Verifies that SCAN on an empty Redis keyspace does not throw, does not call the
+     * Verifies that eviction for a user without an index does not throw, does not call the
      * cache probe, and produces no error log.
      */
     @Test
@@ -184,6 +212,178 @@ class RedisCacheRoundTripTest {
             "No cache population occurred so probe invocation count must be 0");
     }
 
+    /**
+     * Verifies that a media-scoped eviction (as issued for review changes) removes the
+     * cached pages of only the users who registered that media, and leaves every
+     * other user's pages cached.
+     */
+    @Test
+    void evictWatchlistSummaryPagesForMedia_evictsOnlyUsersWhosePagesContainThatMedia() {
+        watchlistPageCacheProbe.getPage(1L, 0, 20);
+        watchlistPageCacheProbe.getPage(1L, 1, 20);
+        watchlistPageCacheProbe.getPage(2L, 0, 20);
+        cacheEvictionService.registerWatchlistPageMedia(1L, Set.of(
+            WatchMateCacheKeys.mediaIndex(MediaType.MOVIE, 550L)));
+        cacheEvictionService.registerWatchlistPageMedia(2L, Set.of(
+            WatchMateCacheKeys.mediaIndex(MediaType.MOVIE, 680L)));
+        assertEquals(3, watchlistPageCacheProbe.invocationCount());
+
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(MediaType.MOVIE, 550L);
+
+        watchlistPageCacheProbe.getPage(1L, 0, 20);
+        watchlistPageCacheProbe.getPage(1L, 1, 20);
+        assertEquals(5, watchlistPageCacheProbe.invocationCount(), "Both of user 1's pages must be evicted");
+        watchlistPageCacheProbe.getPage(2L, 0, 20);
+        assertEquals(5, watchlistPageCacheProbe.invocationCount(), "User 2's page must still be a cache hit");
+        assertFalse(stringRedisTemplate.hasKey(WatchMateCacheEvictionService.buildWatchlistMediaIndexKey(
+            MediaType.MOVIE, 550L)), "Media index must be consumed");
+        assertTrue(stringRedisTemplate.getExpire(WatchMateCacheEvictionService.buildWatchlistMediaIndexKey(
+            MediaType.MOVIE, 680L)) > 0, "Media index must expire");
+    }
+
+    /**
+     * Verifies that a media item listed on more users' pages than one eviction batch holds
+     * still has every one of those users' pages evicted.
+     */
+    @Test
+    void evictWatchlistSummaryPagesForMedia_whenUsersSpanSeveralBatches_evictsEveryUser() {
+        long users = WatchMateCacheEvictionService.MEDIA_USER_BATCH_SIZE * 2L + 1;
+        for (long userId = 1; userId <= users; userId++) {
+            watchlistPageCacheProbe.getPage(userId, 0, 20);
+            cacheEvictionService.registerWatchlistPageMedia(userId, Set.of(
+                WatchMateCacheKeys.mediaIndex(MediaType.SHOW, 1399L)));
+        }
+
+        cacheEvictionService.evictWatchlistSummaryPagesForMedia(MediaType.SHOW, 1399L);
+
+        for (long userId = 1; userId <= users; userId++) {
+            assertNull(stringRedisTemplate.opsForValue().get(watchlistPageRedisKey(userId, 0, 20)),
+                "User " + userId + "'s page must be evicted");
+        }
+        assertFalse(stringRedisTemplate.hasKey(WatchMateCacheEvictionService.buildWatchlistMediaIndexKey(
+            MediaType.SHOW, 1399L)), "Media index must be consumed");
+    }
+
+    /**
+     * Verifies that clearing a generational cache is a single counter bump: the next
+     * read misses, while the previous generation's entry is left for its TTL rather
+     * than being scanned for and deleted.
+     */
+    @Test
+    void evictWatchlistSummaryPages_advancesGenerationInsteadOfDeletingKeys() {
+        watchlistPageCacheProbe.getPage(1L, 0, 20);
+        String firstGenerationKey = watchlistPageRedisKey(1L, 0, 20);
+
+        cacheEvictionService.evictWatchlistSummaryPages();
+
+        watchlistPageCacheProbe.getPage(1L, 0, 20);
+        assertEquals(2, watchlistPageCacheProbe.invocationCount(), "Read after a clear must be a cache miss");
+        assertEquals("1", stringRedisTemplate.opsForValue().get(
+            CacheGenerations.GENERATION_KEY_PREFIX + WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES));
+        assertNotNull(stringRedisTemplate.opsForValue().get(firstGenerationKey),
+            "Previous generation entry ages out by TTL instead of being deleted");
+        assertEquals(
+            WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX + "g1::" + WatchMateCacheKeys.watchlistPage(1L, 0, 20),
+            watchlistPageRedisKey(1L, 0, 20)
+        );
+
+        // Index-based eviction still reaches entries written under the new generation.
+        cacheEvictionService.evictWatchlistSummaryPagesForUser(1L);
+        watchlistPageCacheProbe.getPage(1L, 0, 20);
+        assertEquals(3, watchlistPageCacheProbe.invocationCount());
+    }
+
+    /**
+     * Eviction removes exactly the user's pages and index, however many unrelated keys share the
+     * keyspace.
+     */
+    @Test
+    void evictWatchlistSummaryPagesForUser_removesOnlyTheUsersPagesAmongOtherKeys() {
+        int pagesPerUser = 20;
+        fillKeyspace(1_000);
+
+        long sizeBefore = dbSize();
+        populatePages(1L, pagesPerUser);
+        assertEquals(sizeBefore + pagesPerUser + 1, dbSize(), "Pages plus one index key");
+        cacheEvictionService.evictWatchlistSummaryPagesForUser(1L);
+        assertEquals(sizeBefore, dbSize(), "Eviction must remove exactly the user's pages and index");
+    }
+
+    /**
+     * Benchmark: eviction cost must track the user's own entries, not the keyspace.
+     *
+     * <p>Times user-scoped eviction of a fixed number of pages with an otherwise empty Redis and again
+     * after filling it with unrelated keys (one million by default, override with
+     * {@code -Dwatchmate.cache.benchmark.keyspace}), and logs both medians. Opt-in:
+     * {@code -Dwatchmate.benchmarks=true}.
+     */
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "watchmate.benchmarks", matches = "true")
+    void benchmark_evictWatchlistSummaryPagesForUser_latencyStaysFlatAsKeyspaceGrows() {
+        int keyspace = Integer.getInteger("watchmate.cache.benchmark.keyspace", 1_000_000);
+        int pagesPerUser = 20;
+        int rounds = 25;
+
+        long emptyKeyspaceNanos = medianEvictionNanos(pagesPerUser, rounds);
+        fillKeyspace(keyspace);
+        long fullKeyspaceNanos = medianEvictionNanos(pagesPerUser, rounds);
+
+        log.info("Watchlist eviction benchmark: {} pages, median {} us with empty keyspace, {} us with {} other keys",
+            pagesPerUser, emptyKeyspaceNanos / 1_000, fullKeyspaceNanos / 1_000, keyspace);
+    }
+
+    /** Resolves the Redis key of a cached watchlist page, whatever generation it was written under, through the user's index. */
+    private String watchlistPageRedisKey(Long userId, int page, int size) {
+        String pageKey = WatchMateCacheKeys.watchlistPage(userId, page, size);
+        Set<String> indexed = stringRedisTemplate.opsForSet().members(WatchMateCacheEvictionService.buildWatchlistIndexKey(userId));
+        return indexed == null
+            ? null
+            : indexed.stream()
+                .filter(key -> key.endsWith("::" + pageKey))
+                .max(String::compareTo)
+                .orElse(null);
+    }
+
+    private long medianEvictionNanos(int pagesPerUser, int rounds) {
+        long[] samples = new long[rounds];
+        for (int round = 0; round < rounds; round++) {
+            populatePages(1L, pagesPerUser);
+            long start = System.nanoTime();
+            cacheEvictionService.evictWatchlistSummaryPagesForUser(1L);
+            samples[round] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[rounds / 2];
+    }
+
+    private void populatePages(Long userId, int pages) {
+        for (int page = 0; page < pages; page++) {
+            watchlistPageCacheProbe.getPage(userId, page, 20);
+        }
+    }
+
+    private void fillKeyspace(int keys) {
+        int batchSize = 10_000;
+        for (int offset = 0; offset < keys; offset += batchSize) {
+            int from = offset;
+            int to = Math.min(keys, offset + batchSize);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Map<byte[], byte[]> batch = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    batch.put(("watchmate::benchmark::filler:" + i).getBytes(StandardCharsets.UTF_8), new byte[] {1});
+                }
+                connection.stringCommands().mSet(batch);
+                return null;
+            });
+        }
+    }
+
+    private long dbSize() {
+        Long size = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        return size == null ? 0L : size;
+    }
+
     private void flushRedis() {
         RedisConnectionFactory connectionFactory = stringRedisTemplate.getConnectionFactory();
         if (connectionFactory != null) {
@@ -241,8 +441,11 @@ class RedisCacheRoundTripTest {
         }
 
         @Bean
-        WatchMateCacheEvictionService cacheEvictionService(StringRedisTemplate stringRedisTemplate) {
-            return new WatchMateCacheEvictionService(stringRedisTemplate);
+        WatchMateCacheEvictionService cacheEvictionService(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker
+        ) {
+            return new WatchMateCacheEvictionService(stringRedisTemplate, redisCircuitBreaker);
         }
     }
 
@@ -0,0 +1,167 @@
+package com.project.watchmate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.dao.QueryTimeoutException;
+
+class RedisCircuitBreakerTest {
+
+    private MutableClock clock;
+
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        circuitBreaker = new RedisCircuitBreaker(true, 3, Duration.ofMillis(500), Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void execute_whenConsecutiveFailuresReachThreshold_opensAndSkipsRedis() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(QueryTimeoutException.class, () -> circuitBreaker.execute(this::timeout, () -> "bypassed"));
+        }
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals("bypassed", circuitBreaker.execute(() -> "redis", () -> "bypassed"));
+    }
+
+    @Test
+    void execute_whenSuccessBreaksFailureRun_staysClosed() {
+        assertThrows(QueryTimeoutException.class, () -> circuitBreaker.execute(this::timeout, () -> null));
+        assertThrows(QueryTimeoutException.class, () -> circuitBreaker.execute(this::timeout, () -> null));
+        circuitBreaker.execute(() -> "ok", () -> null);
+        assertThrows(QueryTimeoutException.class, () -> circuitBreaker.execute(this::timeout, () -> null));
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void onSuccess_whenCallsAreSlow_countsThemAsFailures() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onSuccess(Duration.ofSeconds(2).toNanos());
+        }
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_afterOpenDuration_letsOneProbeThroughAndClosesOnSuccess() {
+        open();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess(0);
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals("redis", circuitBreaker.execute(() -> "redis", () -> "bypassed"));
+    }
+
+    @Test
+    void execute_whenProbeFails_reopensForAnotherOpenDuration() {
+        open();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThrows(QueryTimeoutException.class, () -> circuitBreaker.execute(this::timeout, () -> null));
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        clock.advance(Duration.ofSeconds(9));
+        assertEquals("bypassed", circuitBreaker.execute(() -> "redis", () -> "bypassed"));
+    }
+
+    @Test
+    void execute_whenNonRedisExceptionThrown_doesNotCountAsFailure() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalArgumentException.class, () -> circuitBreaker.execute(() -> {
+                throw new IllegalArgumentException("bad value");
+            }, () -> null));
+        }
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void circuitBreakingCache_whenOpen_missesAndDropsWritesWithoutTouchingRedis() {
+        Cache redisCache = mock(Cache.class);
+        when(redisCache.get(any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        doThrow(new QueryTimeoutException("Redis command timed out")).when(redisCache).put(any(), any());
+        Cache cache = new CircuitBreakingCache(redisCache, circuitBreaker);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(QueryTimeoutException.class, () -> cache.get("key"));
+        }
+
+        assertNull(cache.get("key"));
+        cache.put("key", "value");
+        cache.evict("key");
+        assertEquals("loaded", cache.get("key", () -> "loaded"));
+
+        verify(redisCache, times(3)).get("key");
+        verify(redisCache, times(0)).put(any(), any());
+        verify(redisCache, times(0)).evict(any());
+    }
+
+    @Test
+    void execute_whenDisabled_neverOpens() {
+        RedisCircuitBreaker disabled = new RedisCircuitBreaker(false, 1, Duration.ofMillis(500), Duration.ofSeconds(10), clock);
+
+        assertThrows(QueryTimeoutException.class, () -> disabled.execute(this::timeout, () -> null));
+        assertThrows(QueryTimeoutException.class, () -> disabled.execute(this::timeout, () -> null));
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, disabled.getState());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private String timeout() {
+        throw new QueryTimeoutException("Redis command timed out");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
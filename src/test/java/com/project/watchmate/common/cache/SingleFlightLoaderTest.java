@@ -0,0 +1,200 @@
+package com.project.watchmate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightLoaderTest {
+
+    @Test
+    void load_whenConcurrentMissesOnSameNode_runsLoaderOnce() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightLoader loader = new SingleFlightLoader(
+            null, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(10), new CacheTierMetrics(meterRegistry));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> leader = executor.submit(() -> loader.load("tmdbShowDetails", "1", () -> null, () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                releaseLeader.await(5, TimeUnit.SECONDS);
+                return "show";
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+            Future<Object> follower = executor.submit(() -> loader.load("tmdbShowDetails", "1", () -> null, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }));
+            Thread.sleep(50);
+            releaseLeader.countDown();
+
+            assertEquals("show", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("show", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertEquals(1.0, meterRegistry.counter(SingleFlightLoader.LOADS_METRIC,
+                "cache", "tmdbShowDetails", "role", "coalesced_local").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_whenAnotherNodeHoldsLock_waitsForItsValueInsteadOfLoading() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        SingleFlightLoader loader = new SingleFlightLoader(
+            redisTemplate, Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofMillis(5), CacheTierMetrics.noop());
+        AtomicInteger polls = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+
+        Object value = loader.load(
+            "publicShowMetadata",
+            "show:1",
+            () -> polls.incrementAndGet() >= 3 ? "from-leader" : null,
+            () -> {
+                loads.incrementAndGet();
+                return "local";
+            }
+        );
+
+        assertEquals("from-leader", value);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_whenLockAcquired_loadsAndReleasesOwnToken() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        AtomicReference<String> token = new AtomicReference<>();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("watchmate::lock::publicShowMetadata::show:1"), anyString(), any(Duration.class)))
+            .thenAnswer(invocation -> {
+                token.set(invocation.getArgument(1));
+                return true;
+            });
+        SingleFlightLoader loader = new SingleFlightLoader(
+            redisTemplate, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(5), CacheTierMetrics.noop());
+
+        Object value = loader.load("publicShowMetadata", "show:1", () -> null, () -> "loaded");
+
+        assertEquals("loaded", value);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(token.get()));
+    }
+
+    @Test
+    void load_whenRedisUnavailable_loadsWithoutCoordination() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+        SingleFlightLoader loader = new SingleFlightLoader(
+            redisTemplate, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(5), CacheTierMetrics.noop());
+
+        assertEquals("loaded", loader.load("publicShowMetadata", "show:1", () -> null, () -> "loaded"));
+    }
+
+    @Test
+    void load_whenLoaderFails_propagatesToCaller() {
+        SingleFlightLoader loader = new SingleFlightLoader(
+            null, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(5), CacheTierMetrics.noop());
+
+        assertThrows(IllegalArgumentException.class, () -> loader.load("publicShowMetadata", "show:1", () -> null, () -> {
+            throw new IllegalArgumentException("boom");
+        }));
+    }
+
+    @Test
+    void load_whenLeaderThrowsAnError_releasesLocalWaitersWithIt() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightLoader loader = new SingleFlightLoader(
+            null, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMillis(10), new CacheTierMetrics(meterRegistry));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> leader = executor.submit(() -> loader.load("tmdbShowDetails", "1", () -> null, () -> {
+                leaderStarted.countDown();
+                releaseLeader.await(5, TimeUnit.SECONDS);
+                throw new OutOfMemoryError("Java heap space");
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+            Future<Object> follower = executor.submit(() -> loader.load("tmdbShowDetails", "1", () -> null, () -> "duplicate"));
+            awaitCount(meterRegistry, "coalesced_local", 1.0);
+            releaseLeader.countDown();
+
+            for (Future<Object> result : List.of(leader, follower)) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void load_whenLocalLeaderOutlastsTheWaitTimeout_loadsOnItsOwn() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightLoader loader = new SingleFlightLoader(
+            null, Duration.ofSeconds(1), Duration.ofMillis(50), Duration.ofMillis(10), new CacheTierMetrics(meterRegistry));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Object> leader = executor.submit(() -> loader.load("tmdbShowDetails", "1", () -> null, () -> {
+                leaderStarted.countDown();
+                releaseLeader.await(5, TimeUnit.SECONDS);
+                return "show";
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+
+            assertEquals("own", loader.load("tmdbShowDetails", "1", () -> null, () -> "own"));
+            assertEquals(1.0, meterRegistry.counter(SingleFlightLoader.LOADS_METRIC,
+                "cache", "tmdbShowDetails", "role", "wait_timeout").count());
+
+            releaseLeader.countDown();
+            assertEquals("show", leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitCount(SimpleMeterRegistry meterRegistry, String role, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter(SingleFlightLoader.LOADS_METRIC, "cache", "tmdbShowDetails", "role", role).count() < expected
+            && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
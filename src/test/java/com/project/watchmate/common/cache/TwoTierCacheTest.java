@@ -0,0 +1,375 @@
+package com.project.watchmate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.media.catalog.domain.MediaType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TwoTierCacheManager cacheManager;
+
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new CacheInvalidationBroadcaster(redisTemplate, "test-channel", "node-a");
+        cacheManager = new TwoTierCacheManager(
+            remoteCacheManager,
+            new WatchMateCacheProperties(),
+            broadcaster,
+            new CacheTierMetrics(meterRegistry)
+        );
+    }
+
+    @Test
+    void get_whenNearCacheHoldsValue_skipsRemoteTier() {
+        Cache cache = cacheManager.getCache(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS);
+        cache.put(WatchMateCacheKeys.HOME_DEFAULT, "home");
+        remoteCacheManager.getCache(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS).clear();
+
+        assertEquals("home", cache.get(WatchMateCacheKeys.HOME_DEFAULT).get());
+        assertEquals(1.0, gets(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS, "near", "hit"));
+        assertEquals(0.0, gets(WatchMateCacheNames.DISCOVERY_HOMEPAGE_SECTIONS, "remote", "hit"));
+    }
+
+    @Test
+    void get_whenOnlyRemoteHoldsValue_promotesIntoNearCache() {
+        remoteCacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS).put(TmdbCacheKeys.show(1L), "show");
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS);
+
+        assertEquals("show", cache.get(TmdbCacheKeys.show(1L)).get());
+        remoteCacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS).clear();
+        assertEquals("show", cache.get(TmdbCacheKeys.show(1L)).get());
+
+        assertEquals(1.0, gets(TmdbCacheNames.TMDB_SHOW_DETAILS, "remote", "hit"));
+        assertEquals(1.0, gets(TmdbCacheNames.TMDB_SHOW_DETAILS, "near", "hit"));
+    }
+
+    @Test
+    void userScopedCache_hasNoNearTier() {
+        Cache cache = cacheManager.getCache(WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES);
+        cache.put(WatchMateCacheKeys.watchlistPage(1L, 0, 20), "page");
+        remoteCacheManager.getCache(WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES).clear();
+
+        assertNull(cache.get(WatchMateCacheKeys.watchlistPage(1L, 0, 20)));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void evict_publishesInvalidationForOtherNodes() {
+        Cache cache = cacheManager.getCache(WatchMateCacheNames.PUBLIC_SHOW_METADATA);
+
+        cache.evict(WatchMateCacheKeys.show(10L));
+
+        verify(redisTemplate).convertAndSend("test-channel", "EVICT\nnode-a\npublicShowMetadata\nshow:10");
+    }
+
+    @Test
+    void remoteInvalidation_fromOtherNode_dropsNearCopy() {
+        Cache cache = cacheManager.getCache(WatchMateCacheNames.PUBLIC_SHOW_METADATA);
+        cache.put(WatchMateCacheKeys.show(10L), "stale");
+        remoteCacheManager.getCache(WatchMateCacheNames.PUBLIC_SHOW_METADATA).put(WatchMateCacheKeys.show(10L), "fresh");
+
+        broadcaster.listenerFor(cacheManager).onMessage(message("EVICT\nnode-b\npublicShowMetadata\nshow:10"), null);
+
+        assertEquals("fresh", cache.get(WatchMateCacheKeys.show(10L)).get());
+    }
+
+    @Test
+    void remoteInvalidation_fromSameNode_isIgnored() {
+        Cache cache = cacheManager.getCache(WatchMateCacheNames.PUBLIC_SHOW_METADATA);
+        cache.put(WatchMateCacheKeys.show(10L), "local");
+        remoteCacheManager.getCache(WatchMateCacheNames.PUBLIC_SHOW_METADATA).clear();
+
+        broadcaster.listenerFor(cacheManager).onMessage(message("CLEAR\nnode-a\npublicShowMetadata"), null);
+
+        assertEquals("local", cache.get(WatchMateCacheKeys.show(10L)).get());
+    }
+
+    @Test
+    void nearCacheMaxSize_whenOverriddenToZero_disablesNearTier() {
+        WatchMateCacheProperties properties = new WatchMateCacheProperties();
+        WatchMateCacheProperties.CacheSpec spec = new WatchMateCacheProperties.CacheSpec();
+        spec.setNearCacheMaxSize(0L);
+        properties.getCaches().put(TmdbCacheNames.TMDB_SHOW_DETAILS, spec);
+        TwoTierCacheManager manager = new TwoTierCacheManager(remoteCacheManager, properties, broadcaster, CacheTierMetrics.noop());
+
+        TwoTierCache cache = assertInstanceOf(TwoTierCache.class, manager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS));
+
+        assertFalse(cache.hasNearCache());
+    }
+
+    @Test
+    void getWithLoader_whenEntryPastRefreshPoint_returnsStaleValueAndReloadsInBackground() {
+        MutableClock clock = new MutableClock();
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        TwoTierCache cache = refreshAheadCache(clock, scheduledRefreshes::add);
+        cache.put(TmdbCacheKeys.show(1L), "v1");
+
+        clock.advance(Duration.ofMinutes(11));
+        String served = cache.get(TmdbCacheKeys.show(1L), () -> "v2");
+
+        assertEquals("v1", served);
+        assertEquals(1, scheduledRefreshes.size());
+        scheduledRefreshes.get(0).run();
+        assertEquals("v2", cache.get(TmdbCacheKeys.show(1L), () -> "unused"));
+    }
+
+    @Test
+    void getWithLoader_whenRefreshFails_keepsServingStaleValue() {
+        MutableClock clock = new MutableClock();
+        TwoTierCache cache = refreshAheadCache(clock, Runnable::run);
+        cache.put(TmdbCacheKeys.show(1L), "v1");
+
+        clock.advance(Duration.ofMinutes(11));
+        String served = cache.get(TmdbCacheKeys.show(1L), () -> {
+            throw new IllegalStateException("TMDB down");
+        });
+
+        assertEquals("v1", served);
+        assertEquals("v1", cache.get(TmdbCacheKeys.show(1L)).get());
+    }
+
+    @Test
+    void getWithLoader_whenEntryFresh_doesNotReload() {
+        MutableClock clock = new MutableClock();
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        TwoTierCache cache = refreshAheadCache(clock, scheduledRefreshes::add);
+        cache.put(TmdbCacheKeys.show(1L), "v1");
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertEquals("v1", cache.get(TmdbCacheKeys.show(1L), () -> "v2"));
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void getWithLoader_whenLoaderFails_wrapsInValueRetrievalException() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS);
+
+        Cache.ValueRetrievalException ex = assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get(TmdbCacheKeys.show(404L), () -> {
+                throw new IllegalStateException("not found");
+            }));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void getWithLoader_whenLoaderReportsNotFound_replaysItWithoutCallingLoaderAgain() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS);
+        String key = TmdbCacheKeys.media(MediaType.MOVIE, 404L);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            // The caching interceptor hands the loader's exception over wrapped.
+            throw new IllegalStateException(new MediaNotFoundException("TMDB media not found for ID: 404"));
+        };
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(key, loader));
+        Cache.ValueRetrievalException replayed = assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(key, loader));
+
+        MediaNotFoundException notFound = assertInstanceOf(MediaNotFoundException.class, replayed.getCause());
+        assertEquals("TMDB media not found for ID: 404", notFound.getMessage());
+        assertEquals(1, loads.get());
+        assertNull(cache.get(key));
+        assertTrue(((TwoTierCache) cache).isTombstoned(key));
+        assertFalse(((TwoTierCache) cache).isTombstoned(TmdbCacheKeys.media(MediaType.MOVIE, 550L)));
+        assertInstanceOf(NotFoundTombstone.class, remoteCacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS).get(key).get());
+    }
+
+    @Test
+    void getWithLoader_whenLoaderFailsForOtherReasons_doesNotStoreTombstone() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS);
+
+        assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get(TmdbCacheKeys.media(MediaType.MOVIE, 1L), () -> {
+                throw new IllegalStateException("TMDB down");
+            }));
+
+        assertEquals("movie", cache.get(TmdbCacheKeys.media(MediaType.MOVIE, 1L), () -> "movie"));
+    }
+
+    @Test
+    void getWithLoader_whenNegativeCacheDisabled_callsLoaderEveryTime() {
+        WatchMateCacheProperties properties = new WatchMateCacheProperties();
+        properties.getNegativeCache().setEnabled(false);
+        Cache cache = new TwoTierCacheManager(remoteCacheManager, properties, broadcaster, CacheTierMetrics.noop())
+            .getCache(TmdbCacheNames.TMDB_SHOW_DETAILS);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(TmdbCacheKeys.show(404L), () -> {
+                loads.incrementAndGet();
+                throw new MediaNotFoundException("TMDB show not found for ID: 404");
+            }));
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void retrieveWithLoader_whenMissing_loadsOnceAndServesLaterReadsFromCache() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> loader = () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("show");
+        };
+
+        assertEquals("show", cache.retrieve(TmdbCacheKeys.show(1L), loader).join());
+        assertEquals("show", cache.retrieve(TmdbCacheKeys.show(1L), loader).join());
+
+        assertEquals(1, loads.get());
+        assertEquals("show", remoteCacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS).get(TmdbCacheKeys.show(1L)).get());
+        assertEquals(1.0, gets(TmdbCacheNames.TMDB_SHOW_DETAILS, "near", "hit"));
+    }
+
+    @Test
+    void retrieveWithLoader_whenLoaderReportsNotFound_replaysItWithoutCallingLoaderAgain() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS);
+        String key = TmdbCacheKeys.media(MediaType.MOVIE, 404L);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> loader = () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new MediaNotFoundException("TMDB media not found for ID: 404"));
+        };
+
+        CompletionException first = assertThrows(CompletionException.class, () -> cache.retrieve(key, loader).join());
+        CompletionException replayed = assertThrows(CompletionException.class, () -> cache.retrieve(key, loader).join());
+
+        assertInstanceOf(MediaNotFoundException.class, first.getCause());
+        assertEquals("TMDB media not found for ID: 404", assertInstanceOf(MediaNotFoundException.class, replayed.getCause()).getMessage());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void retrieveWithLoader_whenLoaderFailsForOtherReasons_propagatesFailureWithoutCaching() {
+        Cache cache = cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS);
+        String key = TmdbCacheKeys.media(MediaType.MOVIE, 1L);
+
+        CompletionException ex = assertThrows(CompletionException.class,
+            () -> cache.retrieve(key, () -> CompletableFuture.failedFuture(new IllegalStateException("TMDB down"))).join());
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals("movie", cache.retrieve(key, () -> CompletableFuture.completedFuture("movie")).join());
+    }
+
+    @Test
+    void retrieveWithLoader_whenEntryPastRefreshPoint_returnsStaleValueAndReloadsInBackground() {
+        MutableClock clock = new MutableClock();
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        TwoTierCache cache = refreshAheadCache(clock, scheduledRefreshes::add);
+        cache.put(TmdbCacheKeys.show(1L), "v1");
+
+        clock.advance(Duration.ofMinutes(11));
+        String served = cache.retrieve(TmdbCacheKeys.show(1L), () -> CompletableFuture.completedFuture("v2")).join();
+
+        assertEquals("v1", served);
+        assertEquals(1, scheduledRefreshes.size());
+        scheduledRefreshes.get(0).run();
+        assertEquals("v2", cache.get(TmdbCacheKeys.show(1L)).get());
+    }
+
+    @Test
+    void retrieveWithLoader_whenRedisFails_servesLoaderResult() {
+        Cache remote = mock(Cache.class);
+        when(remote.getName()).thenReturn(TmdbCacheNames.TMDB_SHOW_DETAILS);
+        when(remote.retrieve(any(), ArgumentMatchers.<Supplier<CompletableFuture<Object>>>any()))
+            .thenReturn(CompletableFuture.failedFuture(new QueryTimeoutException("Redis timed out")));
+        TwoTierCache cache = TwoTierCache.builder().remoteCache(remote).build();
+
+        assertEquals("show", cache.retrieve(TmdbCacheKeys.show(1L), () -> CompletableFuture.completedFuture("show")).join());
+    }
+
+    private TwoTierCache refreshAheadCache(Clock clock, Executor refreshExecutor) {
+        return TwoTierCache.builder()
+            .remoteCache(remoteCacheManager.getCache(TmdbCacheNames.TMDB_SHOW_DETAILS))
+            .refreshAfter(Duration.ofMinutes(10))
+            .refreshExecutor(refreshExecutor)
+            .clock(clock)
+            .build();
+    }
+
+    private double gets(String cacheName, String tier, String result) {
+        io.micrometer.core.instrument.Counter counter = meterRegistry.find(CacheTierMetrics.GETS_METRIC)
+            .tags("cache", cacheName, "tier", tier, "result", result)
+            .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("test-channel".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
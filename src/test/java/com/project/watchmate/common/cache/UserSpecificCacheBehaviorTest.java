@@ -2,9 +2,10 @@ package com.project.watchmate.common.cache;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -17,6 +18,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -26,6 +28,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
@@ -180,12 +183,12 @@ class UserSpecificCacheBehaviorTest {
     }
 
     /**
-     * Verifies that user-scoped watchlist eviction uses Redis SCAN (via {@code execute})
-     * rather than the blocking {@code KEYS} command, and that it does not touch other
-     * users' in-memory cache entries.
+     * Verifies that user-scoped watchlist eviction runs the index script against the
+     * user's index set rather than scanning the keyspace, and that it does not touch
+     * other users' in-memory cache entries.
      *
      * <p>This test uses {@link ConcurrentMapCacheManager} for Spring Cache (not real
-     * Redis), so the SCAN callback is invoked against the mock {@code StringRedisTemplate}
+     * Redis), so the script is executed against the mock {@code StringRedisTemplate}
      * which returns {@code null} by default.  The mock returning {@code null} means no
      * actual deletion happens in-memory — exactly what we want: user two's
      * {@code ConcurrentMapCache} entry is preserved, proving cross-user isolation.
@@ -194,7 +197,8 @@ class UserSpecificCacheBehaviorTest {
      * separately in {@code RedisCacheRoundTripTest.evictWatchlistSummaryPagesForUser_*}.
      */
     @Test
-    void watchlistPages_userScopedEviction_usesScanNotKeysAndLeavesOtherUsersCacheIntact() {
+    @SuppressWarnings("unchecked")
+    void watchlistPages_userScopedEviction_usesUserIndexNotKeyspaceScanAndLeavesOtherUsersCacheIntact() {
         WatchList listOne = WatchList.builder().id(1L).name("One").user(userOne).items(new ArrayList<>()).build();
         WatchList listTwo = WatchList.builder().id(2L).name("Two").user(userTwo).items(new ArrayList<>()).build();
         WatchListDTO dtoOne = WatchListDTO.builder().id(1L).name("One").media(List.of()).build();
@@ -211,11 +215,18 @@ class UserSpecificCacheBehaviorTest {
         watchListPageCacheService.getAllWatchLists(userOne, 0, 20);
         watchListPageCacheService.getAllWatchLists(userTwo, 0, 20);
 
+        SetOperations<String, String> setOperations = mock();
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        String indexKey = WatchMateCacheEvictionService.buildWatchlistIndexKey(1L);
+        when(setOperations.members(indexKey)).thenReturn(Set.of(
+            WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX + "g0::" + WatchMateCacheKeys.watchlistPage(1L, 0, 20)));
+
         // Trigger user-scoped eviction for user one.
         cacheEvictionService.evictWatchlistSummaryPagesForUser(1L);
 
-        // Eviction must use SCAN (execute) — never the blocking KEYS command.
-        verify(stringRedisTemplate).execute(org.mockito.ArgumentMatchers.<RedisCallback<Long>>any());
+        // Eviction reads only user one's index — never SCAN or the blocking KEYS command.
+        verify(setOperations).members(indexKey);
+        verify(stringRedisTemplate).executePipelined(org.mockito.ArgumentMatchers.<RedisCallback<Object>>any());
         verify(stringRedisTemplate, never()).keys(org.mockito.ArgumentMatchers.anyString());
 
         // User two's in-memory cache entry is unaffected — no second DB call.
@@ -224,41 +235,40 @@ class UserSpecificCacheBehaviorTest {
     }
 
     /**
-     * Pure function test: confirms the Redis SCAN glob pattern built by
-     * {@link WatchMateCacheEvictionService#buildWatchlistEvictionPattern} matches
-     * the exact key format Spring Cache writes to Redis for watchlist summary pages,
-     * and does not match keys belonging to a different user.
+     * Pure function test: confirms the index key read by
+     * {@link WatchMateCacheEvictionService#buildWatchlistIndexKey} is the same one
+     * {@link UserIndexedRedisCache} writes for the exact key format Spring Cache uses
+     * for watchlist summary pages, and differs between users.
      *
-     * <p>This test exercises key-pattern correctness without requiring a running Redis
-     * instance. The end-to-end proof that SCAN actually deletes the right keys is in
+     * <p>This test exercises key correctness without requiring a running Redis
+     * instance. The end-to-end proof that the index deletes the right keys is in
      * {@code RedisCacheRoundTripTest}.
      */
     @Test
-    void evictionPattern_matchesActualSpringCacheKeyFormatAndNotOtherUsers() {
-        // Reconstruct the exact Redis key Spring Cache would write:
-        //   prefixCacheNameWith("watchmate::") + cacheName + "::" + watchlistPage(...)
-        String user1Key = "watchmate::"
-            + WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES
-            + "::"
-            + WatchMateCacheKeys.watchlistPage(1L, 0, 20);
-        String user2Key = "watchmate::"
-            + WatchMateCacheNames.WATCHLIST_SUMMARY_PAGES
-            + "::"
-            + WatchMateCacheKeys.watchlistPage(2L, 0, 20);
-
-        String pattern = WatchMateCacheEvictionService.buildWatchlistEvictionPattern(1L);
-
-        // Verify the literal pattern string.
-        assertEquals("watchmate::watchlistSummaryPages::user:1:*", pattern);
-
-        // The user-1 key must start with the pattern prefix (pattern without the glob).
-        String patternPrefix = pattern.substring(0, pattern.length() - 1); // strip trailing "*"
-        assertTrue(user1Key.startsWith(patternPrefix),
-            "Pattern '" + pattern + "' must match user-1 key '" + user1Key + "'");
-
-        // The user-2 key must NOT start with user-1's pattern prefix.
-        assertFalse(user2Key.startsWith(patternPrefix),
-            "Pattern for user 1 must NOT match user 2's key '" + user2Key + "'");
+    void watchlistIndexKey_matchesIndexWrittenForActualSpringCacheKeysAndNotOtherUsers() {
+        String user1PageKey = WatchMateCacheKeys.watchlistPage(1L, 0, 20);
+        String user1OtherPageKey = WatchMateCacheKeys.watchlistPage(1L, 3, 50);
+        String user2PageKey = WatchMateCacheKeys.watchlistPage(2L, 0, 20);
+
+        String indexKey = WatchMateCacheEvictionService.buildWatchlistIndexKey(1L);
+
+        // Verify the literal index key string, and that media-scoped eviction derives the same key.
+        assertEquals("watchmate::watchlistSummaryPages::index:user:1", indexKey);
+        assertEquals(indexKey, WatchMateCacheEvictionService.WATCHLIST_USER_INDEX_KEY_PREFIX + 1L);
+
+        // Every page variant for user 1 is registered in that index.
+        assertEquals(indexKey, WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX
+            + UserIndexedRedisCache.userIndexKey(user1PageKey));
+        assertEquals(indexKey, WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX
+            + UserIndexedRedisCache.userIndexKey(user1OtherPageKey));
+
+        // User 2's pages go to a different index.
+        assertFalse(indexKey.equals(WatchMateCacheEvictionService.WATCHLIST_PAGE_KEY_PREFIX
+            + UserIndexedRedisCache.userIndexKey(user2PageKey)),
+            "User 2's page must not be indexed under user 1");
+
+        // Keys that are not user-scoped are never indexed.
+        assertNull(UserIndexedRedisCache.userIndexKey(WatchMateCacheKeys.HOME_DEFAULT));
     }
 
     private Media media(Long tmdbId, String title) {
@@ -326,9 +336,10 @@ class UserSpecificCacheBehaviorTest {
         @Bean
         WatchListPageCacheService watchListPageCacheService(
             WatchListRepository watchListRepository,
-            WatchListDtoAssembler watchListDtoAssembler
+            WatchListDtoAssembler watchListDtoAssembler,
+            WatchMateCacheEvictionService watchMateCacheEvictionService
         ) {
-            return new WatchListPageCacheService(watchListRepository, watchListDtoAssembler);
+            return new WatchListPageCacheService(watchListRepository, watchListDtoAssembler, watchMateCacheEvictionService);
         }
 
         @Bean
@@ -337,8 +348,11 @@ class UserSpecificCacheBehaviorTest {
         }
 
         @Bean
-        WatchMateCacheEvictionService watchMateCacheEvictionService(StringRedisTemplate stringRedisTemplate) {
-            return new WatchMateCacheEvictionService(stringRedisTemplate);
+        WatchMateCacheEvictionService watchMateCacheEvictionService(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker
+        ) {
+            return new WatchMateCacheEvictionService(stringRedisTemplate, redisCircuitBreaker);
         }
     }
 }
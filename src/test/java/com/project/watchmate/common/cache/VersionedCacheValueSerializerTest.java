@@ -0,0 +1,160 @@
+package com.project.watchmate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.project.watchmate.show.metadata.dto.PublicShowEpisodeMetadataDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+@Slf4j
+class VersionedCacheValueSerializerTest {
+
+    private static final int BENCHMARK_ITERATIONS = 2_000;
+
+    private final GenericJacksonJsonRedisSerializer jsonSerializer = CacheValueSerializers.json(new ObjectMapper());
+
+    private final GenericJacksonJsonRedisSerializer smileSerializer = CacheValueSerializers.smile();
+
+    @Test
+    void serialize_whenSmileFormat_roundTripsConcreteDtos() {
+        RedisSerializer<Object> serializer = versioned(CacheValueFormat.SMILE, 1024);
+
+        byte[] bytes = serializer.serialize(seasonMetadata(3));
+        Object value = serializer.deserialize(bytes);
+
+        assertTrue(VersionedCacheValueSerializer.hasHeader(bytes));
+        PublicShowSeasonMetadataDTO season = assertInstanceOf(PublicShowSeasonMetadataDTO.class, value);
+        assertEquals(3, season.getEpisodes().size());
+        assertEquals(2101L, season.getEpisodes().get(0).getTmdbEpisodeId());
+        assertEquals(LocalDate.of(2020, 1, 1), season.getAirDate());
+    }
+
+    @Test
+    void deserialize_whenLegacyJsonEntry_readsWithoutHeader() {
+        byte[] legacyBytes = jsonSerializer.serialize(seasonMetadata(2));
+
+        Object value = versioned(CacheValueFormat.SMILE, 1024).deserialize(legacyBytes);
+
+        assertFalse(VersionedCacheValueSerializer.hasHeader(legacyBytes));
+        assertEquals(2, assertInstanceOf(PublicShowSeasonMetadataDTO.class, value).getEpisodes().size());
+    }
+
+    @Test
+    void deserialize_whenWrittenByOtherFormat_stillDecodes() {
+        byte[] jsonBytes = versioned(CacheValueFormat.JSON, 0).serialize(seasonMetadata(2));
+
+        Object value = versioned(CacheValueFormat.SMILE, 1024).deserialize(jsonBytes);
+
+        assertEquals(2, assertInstanceOf(PublicShowSeasonMetadataDTO.class, value).getEpisodes().size());
+    }
+
+    @Test
+    void serialize_whenAboveThreshold_compressesAndRoundTrips() {
+        PublicShowSeasonMetadataDTO season = seasonMetadata(40);
+        byte[] uncompressed = versioned(CacheValueFormat.SMILE, 0).serialize(season);
+        byte[] compressed = versioned(CacheValueFormat.SMILE, 256).serialize(season);
+
+        assertTrue(compressed.length < uncompressed.length);
+        assertEquals(40, assertInstanceOf(PublicShowSeasonMetadataDTO.class,
+            versioned(CacheValueFormat.SMILE, 256).deserialize(compressed)).getEpisodes().size());
+    }
+
+    @Test
+    void serialize_largeSeasonEntry_isUnderHalfTheLegacyJsonSize() {
+        PublicShowSeasonMetadataDTO season = seasonMetadata(60);
+        RedisSerializer<Object> binary = versioned(CacheValueFormat.SMILE, 1024);
+
+        byte[] json = jsonSerializer.serialize(season);
+        byte[] smileCompressed = binary.serialize(season);
+
+        assertTrue(smileCompressed.length * 2 < json.length,
+            "binary compressed entry should be under half the JSON size, was " + smileCompressed.length + " vs " + json.length);
+        assertEquals(60, assertInstanceOf(PublicShowSeasonMetadataDTO.class, binary.deserialize(smileCompressed)).getEpisodes().size());
+    }
+
+    /**
+     * Encode/decode cost against the previous plain JSON serializer for a large season payload, the
+     * entry type that motivated the binary codec. Opt-in: {@code -Dwatchmate.benchmarks=true}.
+     */
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "watchmate.benchmarks", matches = "true")
+    void benchmark_largeSeasonEntry_encodeAndDecodeCost() {
+        PublicShowSeasonMetadataDTO season = seasonMetadata(60);
+
+        CodecResult json = measure(jsonSerializer, season);
+        CodecResult smileCompressed = measure(versioned(CacheValueFormat.SMILE, 1024), season);
+
+        log.info("Cache codec benchmark season(60 episodes): json={} bytes encode={}us decode={}us | smile+deflate={} bytes encode={}us decode={}us",
+            json.bytes(), json.encodeMicros(), json.decodeMicros(),
+            smileCompressed.bytes(), smileCompressed.encodeMicros(), smileCompressed.decodeMicros());
+    }
+
+    private CodecResult measure(RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        return new CodecResult(bytes.length, encodeNanos / BENCHMARK_ITERATIONS / 1_000, decodeNanos / BENCHMARK_ITERATIONS / 1_000);
+    }
+
+    private RedisSerializer<Object> versioned(CacheValueFormat format, int compressionThresholdBytes) {
+        return CacheValueSerializers.versioned(format, jsonSerializer, smileSerializer, compressionThresholdBytes);
+    }
+
+    private static PublicShowSeasonMetadataDTO seasonMetadata(int episodeCount) {
+        List<PublicShowEpisodeMetadataDTO> episodes = IntStream.rangeClosed(1, episodeCount)
+            .mapToObj(episodeNumber -> PublicShowEpisodeMetadataDTO.builder()
+                .tmdbEpisodeId(2100L + episodeNumber)
+                .seasonNumber(1)
+                .episodeNumber(episodeNumber)
+                .name("Episode " + episodeNumber)
+                .overview("The crew faces another week of trouble aboard the station in episode " + episodeNumber + ".")
+                .airDate(LocalDate.of(2020, 1, 1).plusWeeks(episodeNumber))
+                .runtime(42)
+                .stillPath("/still-" + episodeNumber + ".jpg")
+                .isAired(Boolean.TRUE)
+                .build())
+            .toList();
+
+        return PublicShowSeasonMetadataDTO.builder()
+            .tmdbId(200L)
+            .seasonNumber(1)
+            .name("Season 1")
+            .airDate(LocalDate.of(2020, 1, 1))
+            .episodeCount(episodeCount)
+            .episodes(episodes)
+            .build();
+    }
+
+    private record CodecResult(int bytes, long encodeMicros, long decodeMicros) {
+    }
+}
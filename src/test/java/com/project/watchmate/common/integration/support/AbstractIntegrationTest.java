@@ -18,6 +18,7 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.project.watchmate.media.tmdb.client.ReactiveTmdbClient;
 import com.project.watchmate.media.tmdb.client.TmdbClient;
 import com.project.watchmate.auth.dto.LoginRequestDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbResponseDTO;
@@ -47,6 +48,7 @@ import com.project.watchmate.watchlist.persistence.WatchListRepository;
 import com.project.watchmate.common.security.jwt.JwtService;
 import com.project.watchmate.show.jobs.application.ShowTrackingJobService;
 
+import reactor.core.publisher.Mono;
 import tools.jackson.databind.ObjectMapper;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.SendEmailRequest;
@@ -77,7 +79,11 @@ import static org.mockito.Mockito.mock;
 	"management.health.redis.enabled=false",
 	"watchmate.discovery.sync.startup-enabled=false",
 	"watchmate.show-jobs.poll-delay-ms=3600000",
-	"watchmate.rate-limit.enabled=false"
+	"watchmate.show-jobs.wakeup.enabled=false",
+	"watchmate.show-jobs.events.broadcast-enabled=false",
+	"watchmate.rate-limit.enabled=false",
+	"watchmate.tmdb.http.warmup-enabled=false",
+	"watchmate.catalog.change-sync.enabled=false"
 })
 public abstract class AbstractIntegrationTest {
 
@@ -149,6 +155,9 @@ public abstract class AbstractIntegrationTest {
 	@Autowired
 	protected TmdbClient tmdbClient;
 
+	@Autowired
+	protected ReactiveTmdbClient reactiveTmdbClient;
+
 	@Autowired
 	protected ObjectMapper objectMapper;
 
@@ -166,6 +175,7 @@ public abstract class AbstractIntegrationTest {
 	void cleanDatabase() {
 		reset(sesClient);
 		reset(tmdbClient);
+		reset(reactiveTmdbClient);
 		when(sesClient.sendEmail(any(SendEmailRequest.class)))
 			.thenReturn(SendEmailResponse.builder().messageId("test-message-id").build());
 		when(tmdbClient.fetchGenres(anyString())).thenReturn(List.of());
@@ -179,6 +189,12 @@ public abstract class AbstractIntegrationTest {
 		when(tmdbClient.fetchWatchProviders(anyLong(), any())).thenReturn(TmdbWatchProvidersResponseDTO.builder().results(java.util.Map.of()).build());
 		when(tmdbClient.searchMulti(anyString(), anyInt())).thenReturn(new TmdbResponseDTO(List.of(), 1, 0, 0));
 		when(tmdbClient.discoverByGenre(anyString(), anyLong(), anyInt())).thenReturn(new TmdbResponseDTO(List.of(), 1, 0, 0));
+		when(reactiveTmdbClient.fetchGenres(anyString())).thenReturn(Mono.just(List.of()));
+		when(reactiveTmdbClient.fetchPopular(anyString())).thenReturn(Mono.just(List.of()));
+		when(reactiveTmdbClient.fetchTrending(anyString())).thenReturn(Mono.just(List.of()));
+		when(reactiveTmdbClient.fetchUpcomingMovies()).thenReturn(Mono.just(List.of()));
+		when(reactiveTmdbClient.fetchAiringToday()).thenReturn(Mono.just(List.of()));
+		when(reactiveTmdbClient.fetchOnTheAir()).thenReturn(Mono.just(List.of()));
 		jdbcTemplate.update("delete from user_following");
 		jdbcTemplate.update("delete from blocked_users");
 		jdbcTemplate.update("delete from user_favorites");
@@ -255,6 +271,15 @@ public abstract class AbstractIntegrationTest {
 				default -> null;
 			});
 		}
+
+		@Bean
+		@Primary
+		ReactiveTmdbClient reactiveTmdbClient() {
+			return mock(ReactiveTmdbClient.class, invocation -> switch (invocation.getMethod().getName()) {
+				case "fetchGenres", "fetchPopular", "fetchTrending", "fetchUpcomingMovies", "fetchAiringToday", "fetchOnTheAir" -> Mono.just(List.of());
+				default -> null;
+			});
+		}
 	}
 }
 
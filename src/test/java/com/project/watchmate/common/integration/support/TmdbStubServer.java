@@ -0,0 +1,291 @@
+package com.project.watchmate.common.integration.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Local stand-in for the TMDB API that serves JSON fixtures in TMDB's full response shape, so TMDB-dependent
+ * paths can be tested and load-tested without the real, rate-limited API.
+ *
+ * <p>A request for {@code /3/tv/1399/season/2} is answered from {@code tmdb-stub/tv/1399/season/2.json}.
+ * When no recording exists for those ids, numeric segments are replaced by {@code _id} and the template
+ * {@code tv/_id/season/_id.json} is used, with {@code {{id}}} and {@code {{season}}} filled in from the
+ * path, so any id works. {@code append_to_response} parts are looked up the same way and added under their
+ * own keys, as TMDB does. Fixtures in {@link #setFixtureDirectory a directory} take precedence over the
+ * ones on the classpath; anything not found is a TMDB-style 404.
+ *
+ * <p>Latency, 5xx and 429 responses can be injected at configurable rates. Random choices use a fixed
+ * seed, so a run can be reproduced.
+ *
+ * <p>Run {@link #main} to use it outside tests and point the application at it with
+ * {@code TMDB_BASE_URL=http://localhost:8089/3}.
+ */
+public final class TmdbStubServer implements AutoCloseable {
+
+    private static final String FIXTURE_ROOT = "tmdb-stub";
+
+    private static final String NOT_FOUND_BODY = "{\"success\":false,\"status_code\":34,\"status_message\":\"The resource you requested could not be found.\"}";
+
+    private static final String SERVER_ERROR_BODY = "{\"success\":false,\"status_code\":11,\"status_message\":\"Internal error: Something went wrong, contact TMDB.\"}";
+
+    private static final String RATE_LIMITED_BODY = "{\"success\":false,\"status_code\":25,\"status_message\":\"Your request count is over the allowed limit.\"}";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, Optional<String>> fixtures = new ConcurrentHashMap<>();
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private final Random random;
+
+    private volatile Path fixtureDirectory;
+
+    private volatile Duration latency = Duration.ZERO;
+
+    private volatile Duration latencyJitter = Duration.ZERO;
+
+    private volatile double errorRate;
+
+    private volatile double rateLimitRate;
+
+    private TmdbStubServer(int port, long seed) throws IOException {
+        this.random = new Random(seed);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /** Starts on a free port. */
+    public static TmdbStubServer start() {
+        return start(0, 42L);
+    }
+
+    public static TmdbStubServer start(int port, long seed) {
+        try {
+            TmdbStubServer stub = new TmdbStubServer(port, seed);
+            stub.server.start();
+            return stub;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start the TMDB stub on port " + port, ex);
+        }
+    }
+
+    /** The value for {@code tmdb.base-url}, including TMDB's {@code /3} version segment. */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/3";
+    }
+
+    /** Paths requested so far, without the version segment and query, e.g. {@code /movie/550}. */
+    public List<String> requests() {
+        return List.copyOf(requests);
+    }
+
+    public void setFixtureDirectory(Path fixtureDirectory) {
+        this.fixtureDirectory = fixtureDirectory;
+        fixtures.clear();
+    }
+
+    /** Delay before every response: {@code latency} plus up to {@code jitter}, picked at random. */
+    public void setLatency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.latencyJitter = jitter;
+    }
+
+    /** Share of requests answered with a 500 instead of their fixture. */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /** Share of requests answered with a 429 and {@code Retry-After: 1} instead of their fixture. */
+    public void setRateLimitRate(double rateLimitRate) {
+        this.rateLimitRate = rateLimitRate;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = normalize(exchange.getRequestURI().getPath());
+            requests.add(path);
+            sleep(nextLatency());
+
+            double roll = nextDouble();
+            if (roll < errorRate) {
+                respond(exchange, 500, SERVER_ERROR_BODY);
+            } else if (roll < errorRate + rateLimitRate) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, RATE_LIMITED_BODY);
+            } else {
+                Optional<String> body = resolve(path, appendedParts(exchange.getRequestURI().getRawQuery()));
+                respond(exchange, body.isPresent() ? 200 : 404, body.orElse(NOT_FOUND_BODY));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Optional<String> resolve(String path, List<String> appendedParts) {
+        Optional<String> body = fixture(path);
+        if (body.isEmpty() || appendedParts.isEmpty()) {
+            return body;
+        }
+
+        ObjectNode response = (ObjectNode) JSON_MAPPER.readTree(body.get());
+        for (String part : appendedParts) {
+            fixture(path + "/" + part).ifPresent(partBody -> response.set(part, JSON_MAPPER.readTree(partBody)));
+        }
+        return Optional.of(JSON_MAPPER.writeValueAsString(response));
+    }
+
+    /** The recording for {@code path}, or the {@code _id} template with the path's ids filled in. */
+    private Optional<String> fixture(String path) {
+        Optional<String> recorded = fixtures.computeIfAbsent(path, this::load);
+        if (recorded.isPresent()) {
+            return recorded;
+        }
+
+        List<String> ids = new ArrayList<>();
+        StringBuilder template = new StringBuilder();
+        for (String segment : path.substring(1).split("/")) {
+            boolean numeric = !segment.isEmpty() && segment.chars().allMatch(Character::isDigit);
+            if (numeric) {
+                ids.add(segment);
+            }
+            template.append('/').append(numeric ? "_id" : segment);
+        }
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        return fixtures.computeIfAbsent(template.toString(), this::load)
+            .map(body -> body
+                .replace("{{id}}", ids.get(0))
+                .replace("{{season}}", ids.size() > 1 ? ids.get(1) : "1"));
+    }
+
+    private Optional<String> load(String path) {
+        String relative = FIXTURE_ROOT + path + ".json";
+        try {
+            Path directory = fixtureDirectory;
+            if (directory != null) {
+                Path file = directory.resolve(path.substring(1) + ".json");
+                if (Files.isRegularFile(file)) {
+                    return Optional.of(Files.readString(file));
+                }
+            }
+            try (InputStream in = TmdbStubServer.class.getClassLoader().getResourceAsStream(relative)) {
+                return in == null ? Optional.empty() : Optional.of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read TMDB fixture " + relative, ex);
+        }
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.startsWith("/3/") ? path.substring(2) : path;
+        return normalized.length() > 1 && normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    private static List<String> appendedParts(String rawQuery) {
+        if (rawQuery == null) {
+            return List.of();
+        }
+        for (String param : rawQuery.split("&")) {
+            if (param.startsWith("append_to_response=")) {
+                String value = URLDecoder.decode(param.substring("append_to_response=".length()), StandardCharsets.UTF_8);
+                return List.of(value.split(","));
+            }
+        }
+        return List.of();
+    }
+
+    private Duration nextLatency() {
+        long jitterMillis = latencyJitter.toMillis();
+        if (jitterMillis <= 0) {
+            return latency;
+        }
+        synchronized (random) {
+            return latency.plusMillis(random.nextLong(jitterMillis + 1));
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Runs the stub until the process is stopped. Configured with system properties:
+     * {@code tmdb.stub.port} (default 8089), {@code tmdb.stub.fixtures} (a directory of recordings),
+     * {@code tmdb.stub.latency-ms}, {@code tmdb.stub.latency-jitter-ms}, {@code tmdb.stub.error-rate},
+     * {@code tmdb.stub.rate-limit-rate} and {@code tmdb.stub.seed}.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        TmdbStubServer stub = start(Integer.getInteger("tmdb.stub.port", 8089), Long.getLong("tmdb.stub.seed", 42L));
+        String fixtures = System.getProperty("tmdb.stub.fixtures");
+        if (fixtures != null) {
+            stub.setFixtureDirectory(Path.of(fixtures));
+        }
+        stub.setLatency(
+            Duration.ofMillis(Long.getLong("tmdb.stub.latency-ms", 0L)),
+            Duration.ofMillis(Long.getLong("tmdb.stub.latency-jitter-ms", 0L)));
+        stub.setErrorRate(Double.parseDouble(System.getProperty("tmdb.stub.error-rate", "0")));
+        stub.setRateLimitRate(Double.parseDouble(System.getProperty("tmdb.stub.rate-limit-rate", "0")));
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+
+        System.out.println("TMDB stub listening, set TMDB_BASE_URL=" + stub.baseUrl());
+        new CountDownLatch(1).await();
+    }
+}
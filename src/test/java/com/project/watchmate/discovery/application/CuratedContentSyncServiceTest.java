@@ -38,7 +38,7 @@ import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
-import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.client.ReactiveTmdbClient;
 import com.project.watchmate.media.tmdb.dto.TmdbGenreDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
 import com.project.watchmate.discovery.domain.ContentSyncStatus;
@@ -51,11 +51,13 @@ import com.project.watchmate.discovery.persistence.ContentSyncStatusRepository;
 import com.project.watchmate.discovery.persistence.CuratedContentRepository;
 import com.project.watchmate.media.catalog.persistence.GenreRepository;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class CuratedContentSyncServiceTest {
 
     @Mock
-    private TmdbClient tmdbClient;
+    private ReactiveTmdbClient tmdbClient;
 
     @Mock
     private TmdbService tmdbService;
@@ -90,7 +92,7 @@ class CuratedContentSyncServiceTest {
     @Test
     void syncDiscoveryContent_whenRemoteFetchFails_doesNotReplaceBuckets() {
         when(contentSyncStatusRepository.findById(CuratedContentSyncService.STATUS_KEY)).thenReturn(Optional.empty());
-        when(tmdbClient.fetchGenres("movie")).thenThrow(new IllegalStateException("TMDB unavailable"));
+        stubRemoteFetchFailure();
 
         curatedContentSyncService.syncDiscoveryContent("test");
 
@@ -266,7 +268,7 @@ class CuratedContentSyncServiceTest {
     void syncDiscoveryContent_whenSyncFails_setsLastFailedAtToLastAttemptedAt() {
         List<ContentSyncStatus> savedStatuses = captureSavedStatuses();
         when(contentSyncStatusRepository.findById(CuratedContentSyncService.STATUS_KEY)).thenReturn(Optional.empty());
-        when(tmdbClient.fetchGenres("movie")).thenThrow(new IllegalStateException("TMDB unavailable"));
+        stubRemoteFetchFailure();
 
         curatedContentSyncService.syncDiscoveryContent("test");
 
@@ -296,7 +298,7 @@ class CuratedContentSyncServiceTest {
             .statusKey(CuratedContentSyncService.STATUS_KEY)
             .build();
         when(contentSyncStatusRepository.findById(CuratedContentSyncService.STATUS_KEY)).thenReturn(Optional.of(existingStatus));
-        when(tmdbClient.fetchGenres("movie")).thenThrow(new IllegalStateException("TMDB unavailable"));
+        stubRemoteFetchFailure();
 
         curatedContentSyncService.syncDiscoveryContent("test");
 
@@ -307,6 +309,16 @@ class CuratedContentSyncServiceTest {
         );
     }
 
+    private void stubRemoteFetchFailure() {
+        lenient().when(tmdbClient.fetchGenres(any())).thenReturn(Mono.just(List.of()));
+        lenient().when(tmdbClient.fetchTrending(any())).thenReturn(Mono.just(List.of()));
+        lenient().when(tmdbClient.fetchPopular(any())).thenReturn(Mono.just(List.of()));
+        lenient().when(tmdbClient.fetchAiringToday()).thenReturn(Mono.just(List.of()));
+        lenient().when(tmdbClient.fetchUpcomingMovies()).thenReturn(Mono.just(List.of()));
+        lenient().when(tmdbClient.fetchOnTheAir()).thenReturn(Mono.just(List.of()));
+        when(tmdbClient.fetchGenres("movie")).thenReturn(Mono.error(new IllegalStateException("TMDB unavailable")));
+    }
+
     private void stubSuccessfulSync(
         List<Media> trendingMovies,
         List<Media> trendingShows,
@@ -339,15 +351,15 @@ class CuratedContentSyncServiceTest {
         List<TmdbMovieDTO> upcomingMovieDtos = toTmdbMovies(upcomingMovies);
         List<TmdbMovieDTO> onTheAirDtos = toTmdbMovies(onTheAir);
 
-        when(tmdbClient.fetchGenres("movie")).thenReturn(movieGenres);
-        when(tmdbClient.fetchGenres("tv")).thenReturn(showGenres);
-        when(tmdbClient.fetchTrending("movie")).thenReturn(trendingMovieDtos);
-        when(tmdbClient.fetchTrending("tv")).thenReturn(trendingShowDtos);
-        when(tmdbClient.fetchPopular("movie")).thenReturn(popularMovieDtos);
-        when(tmdbClient.fetchPopular("tv")).thenReturn(popularShowDtos);
-        when(tmdbClient.fetchAiringToday()).thenReturn(airingTodayDtos);
-        when(tmdbClient.fetchUpcomingMovies()).thenReturn(upcomingMovieDtos);
-        when(tmdbClient.fetchOnTheAir()).thenReturn(onTheAirDtos);
+        when(tmdbClient.fetchGenres("movie")).thenReturn(Mono.just(movieGenres));
+        when(tmdbClient.fetchGenres("tv")).thenReturn(Mono.just(showGenres));
+        when(tmdbClient.fetchTrending("movie")).thenReturn(Mono.just(trendingMovieDtos));
+        when(tmdbClient.fetchTrending("tv")).thenReturn(Mono.just(trendingShowDtos));
+        when(tmdbClient.fetchPopular("movie")).thenReturn(Mono.just(popularMovieDtos));
+        when(tmdbClient.fetchPopular("tv")).thenReturn(Mono.just(popularShowDtos));
+        when(tmdbClient.fetchAiringToday()).thenReturn(Mono.just(airingTodayDtos));
+        when(tmdbClient.fetchUpcomingMovies()).thenReturn(Mono.just(upcomingMovieDtos));
+        when(tmdbClient.fetchOnTheAir()).thenReturn(Mono.just(onTheAirDtos));
 
         when(tmdbService.upsertMediaFromTmdb(trendingMovieDtos, MediaType.MOVIE)).thenReturn(trendingMovies);
         when(tmdbService.upsertMediaFromTmdb(trendingShowDtos, MediaType.SHOW)).thenReturn(trendingShows);
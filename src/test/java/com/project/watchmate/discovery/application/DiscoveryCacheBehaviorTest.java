@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import com.project.watchmate.common.cache.RedisCircuitBreaker;
 import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
 import com.project.watchmate.common.mapper.WatchMateMapper;
 import com.project.watchmate.discovery.domain.CuratedContent;
@@ -116,8 +118,8 @@ class DiscoveryCacheBehaviorTest {
         }
 
         @Bean
-        WatchMateCacheEvictionService watchMateCacheEvictionService() {
-            return new WatchMateCacheEvictionService();
+        WatchMateCacheEvictionService watchMateCacheEvictionService(ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker) {
+            return new WatchMateCacheEvictionService(null, redisCircuitBreaker);
         }
     }
 }
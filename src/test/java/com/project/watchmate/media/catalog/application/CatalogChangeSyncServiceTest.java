@@ -0,0 +1,303 @@
+package com.project.watchmate.media.catalog.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.common.cache.WatchMateCacheEvictionService;
+import com.project.watchmate.discovery.domain.ContentSyncResult;
+import com.project.watchmate.discovery.domain.ContentSyncStatus;
+import com.project.watchmate.discovery.persistence.ContentSyncStatusRepository;
+import com.project.watchmate.media.catalog.domain.Media;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.catalog.domain.ShowSeason;
+import com.project.watchmate.media.catalog.persistence.GenreRepository;
+import com.project.watchmate.media.catalog.persistence.MediaRepository;
+import com.project.watchmate.media.catalog.persistence.ShowSeasonRepository;
+import com.project.watchmate.media.tmdb.application.TmdbService;
+import com.project.watchmate.media.tmdb.client.TmdbClientImpl;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonSummaryDTO;
+import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the sync against a real {@link TmdbClientImpl} talking to a local HTTP stub, so the change-feed
+ * paging, query parameters and decoding are exercised end to end.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeSyncServiceTest {
+
+    @Mock
+    private ShowCatalogService showCatalogService;
+
+    @Mock
+    private MediaRepository mediaRepository;
+
+    @Mock
+    private GenreRepository genreRepository;
+
+    @Mock
+    private ShowSeasonRepository showSeasonRepository;
+
+    @Mock
+    private ContentSyncStatusRepository contentSyncStatusRepository;
+
+    @Mock
+    private WatchMateCacheEvictionService cacheEvictionService;
+
+    private final Map<String, String> routes = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    private final CatalogChangeSyncProperties properties = new CatalogChangeSyncProperties();
+
+    private HttpServer tmdbStub;
+
+    private CatalogChangeSyncService service;
+
+    private Media movie;
+
+    private Media show;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tmdbStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tmdbStub.createContext("/", this::handle);
+        tmdbStub.start();
+
+        TmdbClientImpl tmdbClient = new TmdbClientImpl(WebClient.builder()
+            .baseUrl("http://localhost:" + tmdbStub.getAddress().getPort())
+            .build());
+        TmdbService tmdbService = new TmdbService(tmdbClient, mediaRepository, genreRepository, cacheEvictionService);
+        service = new CatalogChangeSyncService(
+            tmdbClient,
+            tmdbService,
+            showCatalogService,
+            mediaRepository,
+            showSeasonRepository,
+            contentSyncStatusRepository,
+            cacheEvictionService,
+            properties
+        );
+
+        movie = Media.builder().id(1L).tmdbId(550L).type(MediaType.MOVIE).title("Fight Club").build();
+        show = Media.builder().id(2L).tmdbId(1399L).type(MediaType.SHOW).title("Game of Thrones").build();
+
+        routes.put("/movie/changes?page=1", "{\"results\":[{\"id\":550,\"adult\":false},{\"id\":551}],\"page\":1,\"total_pages\":2}");
+        routes.put("/movie/changes?page=2", "{\"results\":[{\"id\":552}],\"page\":2,\"total_pages\":2}");
+        routes.put("/tv/changes?page=1", "{\"results\":[{\"id\":1399},{\"id\":1400}],\"page\":1,\"total_pages\":1}");
+        routes.put("/movie/550", "{\"id\":550,\"title\":\"Fight Club (Restored)\",\"release_date\":\"1999-10-15\"}");
+
+        lenient().when(contentSyncStatusRepository.findById(CatalogChangeSyncService.STATUS_KEY)).thenReturn(Optional.empty());
+        lenient().when(mediaRepository.findAllByTypeAndTmdbIdIn(eq(MediaType.MOVIE), anyCollection())).thenReturn(List.of(movie));
+        lenient().when(mediaRepository.findAllByTypeAndTmdbIdIn(eq(MediaType.SHOW), anyCollection())).thenReturn(List.of(show));
+        lenient().when(mediaRepository.findByTmdbIdAndType(550L, MediaType.MOVIE)).thenReturn(Optional.of(movie));
+        lenient().when(mediaRepository.save(any(Media.class))).then(returnsFirstArg());
+        lenient().when(showSeasonRepository.findAllByMediaIdOrderBySeasonNumberAsc(2L)).thenReturn(List.of(
+            ShowSeason.builder().media(show).seasonNumber(1).build(),
+            ShowSeason.builder().media(show).seasonNumber(2).build(),
+            ShowSeason.builder().media(show).seasonNumber(3).build()
+        ));
+        lenient().when(showCatalogService.fetchAndRefreshShowDetails(1399L, show)).thenReturn(TmdbTvDetailsDTO.builder()
+            .id(1399L)
+            .seasons(List.of(
+                TmdbTvSeasonSummaryDTO.builder().seasonNumber(1).build(),
+                TmdbTvSeasonSummaryDTO.builder().seasonNumber(2).build()
+            ))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tmdbStub.stop(0);
+    }
+
+    @Test
+    void syncChangedMedia_refreshesOnlyStoredTitlesFromBothFeeds() {
+        service.syncChangedMedia("test");
+
+        assertTrue(requests.contains("/movie/changes?page=2"));
+        assertTrue(requests.contains("/movie/550"));
+        assertFalse(requests.contains("/movie/551"));
+        assertFalse(requests.contains("/movie/552"));
+        assertEquals("Fight Club (Restored)", movie.getTitle());
+
+        verify(cacheEvictionService).evictTmdbMediaDetails(MediaType.MOVIE, 550L);
+        verify(cacheEvictionService).evictTmdbShowDetails(1399L);
+        verify(cacheEvictionService).evictTmdbSeasonDetails(1399L, 3);
+        verify(showCatalogService).hydrateSeasons(eq(show), eq(1399L), eq(List.of(1, 2)), any());
+        verify(cacheEvictionService).evictWatchlistSummaryPagesForMedia(MediaType.SHOW, 1399L);
+
+        ContentSyncStatus status = savedStatus();
+        assertEquals(ContentSyncResult.SUCCESS, status.getLastResult());
+        assertEquals(status.getLastAttemptedAt(), status.getLastSuccessfulAt());
+    }
+
+    @Test
+    void syncChangedMedia_resumesFromLastSuccessfulRun() {
+        LocalDateTime lastSuccess = LocalDateTime.now().minusDays(3);
+        when(contentSyncStatusRepository.findById(CatalogChangeSyncService.STATUS_KEY)).thenReturn(Optional.of(ContentSyncStatus.builder()
+            .statusKey(CatalogChangeSyncService.STATUS_KEY)
+            .lastResult(ContentSyncResult.SUCCESS)
+            .lastSuccessfulAt(lastSuccess)
+            .build()));
+
+        service.syncChangedMedia("test");
+
+        String window = "start_date=" + lastSuccess.toLocalDate() + "&end_date=" + LocalDate.now();
+        assertTrue(queries.stream().anyMatch(query -> query.startsWith(window)), queries.toString());
+    }
+
+    @Test
+    void syncChangedMedia_whenLastSuccessIsOlderThanTmdbAllows_clampsWindowToFourteenDays() {
+        when(contentSyncStatusRepository.findById(CatalogChangeSyncService.STATUS_KEY)).thenReturn(Optional.of(ContentSyncStatus.builder()
+            .statusKey(CatalogChangeSyncService.STATUS_KEY)
+            .lastResult(ContentSyncResult.SUCCESS)
+            .lastSuccessfulAt(LocalDateTime.now().minusDays(30))
+            .build()));
+
+        service.syncChangedMedia("test");
+
+        String window = "start_date=" + LocalDate.now().minusDays(14) + "&end_date=" + LocalDate.now();
+        assertTrue(queries.stream().anyMatch(query -> query.startsWith(window)), queries.toString());
+    }
+
+    @Test
+    void syncChangedMedia_pastRefreshLimit_onlyEvictsCaches() {
+        properties.setMaxRefreshesPerRun(0);
+
+        service.syncChangedMedia("test");
+
+        assertFalse(requests.contains("/movie/550"));
+        verify(showCatalogService, never()).fetchAndRefreshShowDetails(any(), any());
+        verify(cacheEvictionService).evictTmdbMediaDetails(MediaType.MOVIE, 550L);
+        verify(cacheEvictionService).evictPublicMediaDetailBase(MediaType.MOVIE, 550L);
+        verify(cacheEvictionService).evictPublicShowMetadata(1399L);
+        verify(cacheEvictionService).evictPublicSeasonMetadata(1399L, 3);
+        assertEquals(ContentSyncResult.SUCCESS, savedStatus().getLastResult());
+    }
+
+    @Test
+    void syncChangedMedia_whenFeedFails_recordsFailureWithoutRefreshingOrAdvancingWindow() {
+        routes.remove("/tv/changes?page=1");
+
+        service.syncChangedMedia("test");
+
+        assertFalse(requests.contains("/movie/550"));
+        verify(showCatalogService, never()).fetchAndRefreshShowDetails(any(), any());
+        ContentSyncStatus status = savedStatus();
+        assertEquals(ContentSyncResult.FAILURE, status.getLastResult());
+        assertNull(status.getLastSuccessfulAt());
+    }
+
+    @Test
+    void syncChangedMedia_whenOneTitleFails_refreshesTheRestAndAdvancesWindow() {
+        failures.put("/movie/550", 500);
+
+        service.syncChangedMedia("test");
+
+        assertTrue(requests.contains("/movie/550"));
+        assertEquals("Fight Club", movie.getTitle());
+        verify(showCatalogService).hydrateSeasons(eq(show), eq(1399L), eq(List.of(1, 2)), any());
+        verify(cacheEvictionService, never()).evictWatchlistSummaryPagesForMedia(MediaType.MOVIE, 550L);
+        verify(cacheEvictionService).evictWatchlistSummaryPagesForMedia(MediaType.SHOW, 1399L);
+
+        ContentSyncStatus status = savedStatus();
+        assertEquals(ContentSyncResult.SUCCESS, status.getLastResult());
+        assertEquals(status.getLastAttemptedAt(), status.getLastSuccessfulAt());
+        assertEquals("1 of 2 changed titles failed to sync", status.getLastErrorMessage());
+    }
+
+    @Test
+    void syncChangedMedia_whenFeedHasMorePagesThanMaxPages_syncsReadPagesWithoutAdvancingWindow() {
+        properties.setMaxPages(1);
+
+        service.syncChangedMedia("test");
+
+        assertFalse(requests.contains("/movie/changes?page=2"));
+        assertTrue(requests.contains("/movie/550"));
+        verify(showCatalogService).hydrateSeasons(eq(show), eq(1399L), eq(List.of(1, 2)), any());
+
+        ContentSyncStatus status = savedStatus();
+        assertEquals(ContentSyncResult.FAILURE, status.getLastResult());
+        assertNull(status.getLastSuccessfulAt());
+        assertEquals(status.getLastAttemptedAt(), status.getLastFailedAt());
+        assertTrue(status.getLastErrorMessage().contains("MOVIE"), status.getLastErrorMessage());
+    }
+
+    private ContentSyncStatus savedStatus() {
+        ArgumentCaptor<ContentSyncStatus> captor = ArgumentCaptor.forClass(ContentSyncStatus.class);
+        verify(contentSyncStatusRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    /**
+     * Answers by path, or by path and {@code page} for the change feeds; a path in {@code failures} answers
+     * with that status, and anything unrouted is a 404.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        String page = query == null ? null : pageParam(query);
+        String key = page == null ? path : path + "?page=" + page;
+        requests.add(key);
+        if (query != null) {
+            queries.add(query);
+        }
+
+        Integer failure = failures.get(key);
+        String body = failure == null ? routes.get(key) : null;
+        byte[] bytes = (body == null ? "{\"status_code\":34}" : body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(failure != null ? failure : body == null ? 404 : 200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String pageParam(String query) {
+        for (String param : query.split("&")) {
+            if (param.startsWith("page=")) {
+                return param.substring("page=".length());
+            }
+        }
+        return null;
+    }
+}
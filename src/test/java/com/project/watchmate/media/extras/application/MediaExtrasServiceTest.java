@@ -3,11 +3,15 @@ package com.project.watchmate.media.extras.application;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +37,8 @@ import com.project.watchmate.media.tmdb.dto.TmdbWatchProviderEntryDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbWatchProviderRegionDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbWatchProvidersResponseDTO;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class MediaExtrasServiceTest {
 
@@ -226,6 +232,64 @@ class MediaExtrasServiceTest {
         assertEquals(List.of(), result.watchProviders().getFlatrate());
     }
 
+    @Test
+    void getExtras_fetchesCreditsVideosAndProvidersConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(tmdbClient.fetchCredits(TMDB_ID, MediaType.MOVIE)).thenAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return TmdbCreditsDTO.builder().cast(List.of(cast(0, "First"))).build();
+        });
+        when(tmdbClient.fetchVideos(TMDB_ID, MediaType.MOVIE)).thenAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return TmdbVideosResponseDTO.builder().results(List.of()).build();
+        });
+        when(tmdbClient.fetchWatchProviders(TMDB_ID, MediaType.MOVIE)).thenAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return TmdbWatchProvidersResponseDTO.builder().results(new HashMap<>()).build();
+        });
+
+        MediaExtrasDTO result = mediaExtrasService.getExtras(TMDB_ID, MediaType.MOVIE);
+
+        assertEquals(List.of("First"), result.cast().stream().map(member -> member.getName()).toList());
+    }
+
+    @Test
+    void getExtras_whenProvidersMissDeadline_returnsOtherExtrasAndEmptyProviders() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        mediaExtrasService = new MediaExtrasService(tmdbClient, meterRegistry, 4);
+        ReflectionTestUtils.setField(mediaExtrasService, "defaultRegion", "US");
+        ReflectionTestUtils.setField(mediaExtrasService, "castLimit", 10);
+        ReflectionTestUtils.setField(mediaExtrasService, "fetchTimeout", Duration.ofMillis(100));
+        CountDownLatch providersReleased = new CountDownLatch(1);
+        when(tmdbClient.fetchCredits(TMDB_ID, MediaType.MOVIE)).thenReturn(TmdbCreditsDTO.builder()
+            .cast(List.of(cast(0, "First")))
+            .build());
+        stubVideosEmpty();
+        when(tmdbClient.fetchWatchProviders(TMDB_ID, MediaType.MOVIE)).thenAnswer(invocation -> {
+            providersReleased.await(5, TimeUnit.SECONDS);
+            return TmdbWatchProvidersResponseDTO.builder().results(new HashMap<>()).build();
+        });
+
+        try {
+            MediaExtrasDTO result = mediaExtrasService.getExtras(TMDB_ID, MediaType.MOVIE);
+
+            assertEquals(List.of("First"), result.cast().stream().map(member -> member.getName()).toList());
+            assertEquals(List.of(), result.watchProviders().getFlatrate());
+            assertEquals(1, meterRegistry.get(MediaExtrasService.FETCH_METRIC)
+                .tags("part", "watch_providers", "outcome", "timeout").timer().count());
+            assertEquals(1, meterRegistry.get(MediaExtrasService.FETCH_METRIC)
+                .tags("part", "credits", "outcome", "success").timer().count());
+        } finally {
+            providersReleased.countDown();
+            mediaExtrasService.destroy();
+        }
+    }
+
+    private static void awaitOthers(CountDownLatch allStarted) throws InterruptedException {
+        allStarted.countDown();
+        assertTrue(allStarted.await(5, TimeUnit.SECONDS), "extras lookups ran one after another");
+    }
+
     private void stubCastEmpty() {
         when(tmdbClient.fetchCredits(TMDB_ID, MediaType.MOVIE)).thenReturn(TmdbCreditsDTO.builder().cast(List.of()).build());
     }
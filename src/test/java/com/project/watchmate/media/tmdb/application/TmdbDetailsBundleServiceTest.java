@@ -0,0 +1,168 @@
+package com.project.watchmate.media.tmdb.application;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import com.project.watchmate.common.cache.TmdbCacheKeys;
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.common.cache.TwoTierCache;
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.tmdb.client.TmdbClient;
+import com.project.watchmate.media.tmdb.dto.TmdbCreditsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbVideosResponseDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbWatchProvidersResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbDetailsBundleServiceTest {
+
+    private static final Long TMDB_ID = 550L;
+
+    @Mock
+    private TmdbClient tmdbClient;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private TmdbDetailsBundleService tmdbDetailsBundleService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        lenient().when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        tmdbDetailsBundleService = new TmdbDetailsBundleService(tmdbClient, cacheManagerProvider);
+    }
+
+    @Test
+    void prefetchDetailPage_whenCacheCold_fansBundleOutIntoEachTmdbCache() {
+        TmdbDetailsBundleDTO<TmdbMovieDTO> bundle = movieBundle();
+        when(tmdbClient.fetchMovieDetailsBundle(TMDB_ID)).thenReturn(bundle);
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        assertSame(bundle.getDetails(), cached(TmdbCacheNames.TMDB_MEDIA_DETAILS, TmdbCacheKeys.media(MediaType.MOVIE, TMDB_ID)));
+        assertSame(bundle.getCredits(), cached(TmdbCacheNames.TMDB_MEDIA_CREDITS, TmdbCacheKeys.credits(MediaType.MOVIE, TMDB_ID)));
+        assertSame(bundle.getVideos(), cached(TmdbCacheNames.TMDB_MEDIA_VIDEOS, TmdbCacheKeys.videos(MediaType.MOVIE, TMDB_ID)));
+        assertSame(bundle.getWatchProviders(),
+            cached(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS, TmdbCacheKeys.watchProviders(MediaType.MOVIE, TMDB_ID)));
+    }
+
+    @Test
+    void prefetchDetailPage_whenShow_cachesDetailsUnderShowDetails() {
+        TmdbDetailsBundleDTO<TmdbTvDetailsDTO> bundle = TmdbDetailsBundleDTO.<TmdbTvDetailsDTO>builder()
+            .details(TmdbTvDetailsDTO.builder().id(TMDB_ID).name("Show").build())
+            .credits(TmdbCreditsDTO.builder().id(TMDB_ID).build())
+            .build();
+        when(tmdbClient.fetchTvDetailsBundle(TMDB_ID)).thenReturn(bundle);
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.SHOW);
+
+        assertSame(bundle.getDetails(), cached(TmdbCacheNames.TMDB_SHOW_DETAILS, TmdbCacheKeys.show(TMDB_ID)));
+        assertSame(bundle.getCredits(), cached(TmdbCacheNames.TMDB_MEDIA_CREDITS, TmdbCacheKeys.credits(MediaType.SHOW, TMDB_ID)));
+        assertNull(cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_VIDEOS).get(TmdbCacheKeys.videos(MediaType.SHOW, TMDB_ID)));
+    }
+
+    @Test
+    void prefetchDetailPage_whenOnlyOnePartMissing_leavesItToItsOwnLookup() {
+        String key = TmdbCacheKeys.media(MediaType.MOVIE, TMDB_ID);
+        cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_CREDITS).put(key, TmdbCreditsDTO.builder().id(TMDB_ID).build());
+        cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_VIDEOS).put(key, TmdbVideosResponseDTO.builder().id(TMDB_ID).build());
+        cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS).put(key, TmdbWatchProvidersResponseDTO.builder().id(TMDB_ID).build());
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        verify(tmdbClient, never()).fetchMovieDetailsBundle(TMDB_ID);
+    }
+
+    @Test
+    void prefetchDetailPage_keepsEntriesThatWereAlreadyCached() {
+        TmdbCreditsDTO cachedCredits = TmdbCreditsDTO.builder().id(TMDB_ID).build();
+        cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_CREDITS).put(TmdbCacheKeys.credits(MediaType.MOVIE, TMDB_ID), cachedCredits);
+        when(tmdbClient.fetchMovieDetailsBundle(TMDB_ID)).thenReturn(movieBundle());
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        assertSame(cachedCredits, cached(TmdbCacheNames.TMDB_MEDIA_CREDITS, TmdbCacheKeys.credits(MediaType.MOVIE, TMDB_ID)));
+    }
+
+    @Test
+    void prefetchDetailPage_whenBundleFails_leavesCachesEmpty() {
+        when(tmdbClient.fetchMovieDetailsBundle(TMDB_ID)).thenThrow(new TmdbUnavailableException("down"));
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        assertNull(cacheManager.getCache(TmdbCacheNames.TMDB_MEDIA_DETAILS).get(TmdbCacheKeys.media(MediaType.MOVIE, TMDB_ID)));
+    }
+
+    @Test
+    void prefetchDetailPage_whenDetailsAreCachedAsNotFound_doesNotCallTmdb() {
+        String key = TmdbCacheKeys.media(MediaType.MOVIE, TMDB_ID);
+        TwoTierCache details = TwoTierCache.builder()
+            .remoteCache(new ConcurrentMapCache(TmdbCacheNames.TMDB_MEDIA_DETAILS))
+            .negativeCache(true)
+            .build();
+        assertThrows(Cache.ValueRetrievalException.class, () -> details.get(key, () -> {
+            throw new MediaNotFoundException("TMDB media not found for ID: " + TMDB_ID);
+        }));
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(List.of(
+            details,
+            new ConcurrentMapCache(TmdbCacheNames.TMDB_MEDIA_CREDITS),
+            new ConcurrentMapCache(TmdbCacheNames.TMDB_MEDIA_VIDEOS),
+            new ConcurrentMapCache(TmdbCacheNames.TMDB_MEDIA_WATCH_PROVIDERS)
+        ));
+        manager.afterPropertiesSet();
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(manager);
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        verify(tmdbClient, never()).fetchMovieDetailsBundle(TMDB_ID);
+    }
+
+    @Test
+    void prefetchDetailPage_whenCachingDisabled_doesNotCallTmdb() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(null);
+
+        tmdbDetailsBundleService.prefetchDetailPage(TMDB_ID, MediaType.MOVIE);
+
+        verify(tmdbClient, never()).fetchMovieDetailsBundle(TMDB_ID);
+    }
+
+    private TmdbDetailsBundleDTO<TmdbMovieDTO> movieBundle() {
+        return TmdbDetailsBundleDTO.<TmdbMovieDTO>builder()
+            .details(TmdbMovieDTO.builder().id(TMDB_ID).title("Fight Club").build())
+            .credits(TmdbCreditsDTO.builder().id(TMDB_ID).build())
+            .videos(TmdbVideosResponseDTO.builder().id(TMDB_ID).results(List.of()).build())
+            .watchProviders(TmdbWatchProvidersResponseDTO.builder().id(TMDB_ID).build())
+            .build();
+    }
+
+    private Object cached(String cacheName, String key) {
+        return cacheManager.getCache(cacheName).get(key).get();
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.common.cache.CacheTierMetrics;
+import com.project.watchmate.common.cache.TwoTierCacheManager;
+import com.project.watchmate.common.cache.WatchMateCacheProperties;
+import com.project.watchmate.common.error.TmdbClientException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+
+import reactor.core.publisher.Mono;
+
+class ReactiveTmdbClientImplTest {
+
+    private static final Duration TMDB_LATENCY = Duration.ofMillis(200);
+
+    @Test
+    void fetchPopular_whenTmdbReturnsServerError_emitsTmdbUnavailableException() {
+        ReactiveTmdbClientImpl client = new ReactiveTmdbClientImpl(webClientReturning(HttpStatus.INTERNAL_SERVER_ERROR, "server error"));
+
+        assertThrows(TmdbUnavailableException.class, () -> client.fetchPopular("movie").block());
+    }
+
+    @Test
+    void fetchTrending_whenTmdbReturnsTooManyRequests_emitsUnavailableClientException() {
+        ReactiveTmdbClientImpl client = new ReactiveTmdbClientImpl(webClientReturning(HttpStatus.TOO_MANY_REQUESTS, "rate payload"));
+
+        TmdbClientException exception = assertThrows(TmdbClientException.class, () -> client.fetchTrending("tv").block());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals("TMDB_UNAVAILABLE", exception.getCode());
+    }
+
+    @Test
+    void fetchGenres_whenTmdbReturnsEmptyBody_emitsEmptyList() {
+        ReactiveTmdbClientImpl client = new ReactiveTmdbClientImpl(webClientReturning(HttpStatus.OK, ""));
+
+        assertEquals(List.of(), client.fetchGenres("movie").block());
+    }
+
+    @Test
+    void fetchPopular_decodesTheSameResultsAsTheBlockingClient() {
+        WebClient webClient = webClientReturning(HttpStatus.OK, """
+            {"page": 1, "results": [{"id": 550, "title": "Fight Club", "genre_ids": [18]}], "total_pages": 1, "total_results": 1}
+            """);
+
+        List<TmdbMovieDTO> reactive = new ReactiveTmdbClientImpl(webClient).fetchPopular("movie").block();
+
+        assertEquals(new TmdbClientImpl(webClient).fetchPopular("movie"), reactive);
+        assertEquals("Fight Club", reactive.get(0).getTitle());
+    }
+
+    /**
+     * The calls curated content sync zips are all in flight together rather than one after another.
+     * This checks overlap only; it says nothing about thread usage or latency under real load.
+     */
+    @Test
+    void zippedListFetches_areInFlightTogether() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ReactiveTmdbClientImpl client = new ReactiveTmdbClientImpl(delayedWebClient(inFlight, maxInFlight));
+
+        Mono.zip(
+            client.fetchPopular("movie"),
+            client.fetchPopular("tv"),
+            client.fetchTrending("movie"),
+            client.fetchTrending("tv"),
+            client.fetchAiringToday(),
+            client.fetchUpcomingMovies(),
+            client.fetchOnTheAir()
+        ).block();
+
+        assertEquals(7, maxInFlight.get());
+    }
+
+    /**
+     * On a cache miss the cached method runs on the remote cache's I/O thread, as with Redis; its request
+     * must still draw from the background budget. The budget here allows one background request, then
+     * only the interactive reserve is left.
+     */
+    @Test
+    void cachedFetch_onCacheMissInsideBackgroundScope_drawsFromTheBackgroundBudget() {
+        ExecutorService redisIoThread = Executors.newSingleThreadExecutor();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            TmdbRateLimitProperties properties = new TmdbRateLimitProperties();
+            properties.setBurst(2);
+            properties.setRequestsPerSecond(1);
+            properties.setBackgroundReserve(1);
+            properties.setBackgroundMaxWait(Duration.ofMillis(20));
+            WebClient webClient = WebClient.builder()
+                .filter(new TmdbRequestThrottle(properties))
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .body("{\"page\":1,\"results\":[]}")
+                    .build()))
+                .build();
+            context.registerBean(WebClient.class, () -> webClient);
+            context.registerBean(CacheManager.class, () -> asyncRemoteCacheManager(redisIoThread));
+            context.register(CachingConfig.class, ReactiveTmdbClientImpl.class);
+            context.refresh();
+            ReactiveTmdbClient client = context.getBean(ReactiveTmdbClient.class);
+
+            try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
+                assertEquals(List.of(), client.fetchPopular("movie").block());
+                RuntimeException exhausted = assertThrows(RuntimeException.class, () -> client.fetchPopular("tv").block());
+                assertInstanceOf(TmdbUnavailableException.class, rootTmdbFailure(exhausted));
+            }
+            assertEquals(List.of(), client.fetchTrending("movie").block());
+        } finally {
+            redisIoThread.shutdownNow();
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+    }
+
+    private static CacheManager asyncRemoteCacheManager(ExecutorService ioThread) {
+        ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new AsyncRemoteCache(name, ioThread);
+            }
+        };
+        return new TwoTierCacheManager(remoteCacheManager, new WatchMateCacheProperties(), null, CacheTierMetrics.noop());
+    }
+
+    private static Throwable rootTmdbFailure(Throwable failure) {
+        Throwable current = failure;
+        while (current != null && !(current instanceof TmdbUnavailableException)) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    /** Completes lookups on its own thread and runs the loader there on a miss, like {@code RedisCache}. */
+    private static final class AsyncRemoteCache extends ConcurrentMapCache {
+
+        private final ExecutorService ioThread;
+
+        private AsyncRemoteCache(String name, ExecutorService ioThread) {
+            super(name);
+            this.ioThread = ioThread;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return CompletableFuture.supplyAsync(() -> get(key), ioThread).thenComposeAsync(cached -> cached != null
+                ? CompletableFuture.completedFuture((T) cached.get())
+                : valueLoader.get().thenApply(value -> {
+                    put(key, value);
+                    return value;
+                }));
+        }
+    }
+
+    private WebClient webClientReturning(HttpStatus status, String body) {
+        return WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body(body)
+                .build()))
+            .build();
+    }
+
+    /** Answers every request after {@link #TMDB_LATENCY} without holding a thread while waiting. */
+    private WebClient delayedWebClient(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return WebClient.builder()
+            .exchangeFunction(request -> Mono.defer(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return Mono.delay(TMDB_LATENCY)
+                    .map(tick -> ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .body("{\"page\":1,\"results\":[]}")
+                        .build())
+                    .doFinally(signal -> inFlight.decrementAndGet());
+            }))
+            .build();
+    }
+}
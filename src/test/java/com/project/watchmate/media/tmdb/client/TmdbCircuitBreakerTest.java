@@ -0,0 +1,202 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.project.watchmate.common.error.TmdbCircuitOpenException;
+
+import reactor.core.publisher.Mono;
+
+class TmdbCircuitBreakerTest {
+
+    private static final String SEASON_URL = "https://api.themoviedb.org/3/tv/1399/season/1";
+
+    private static final String SEARCH_URL = "https://api.themoviedb.org/3/search/multi?query=dune";
+
+    private MutableClock clock;
+
+    private TmdbCircuitBreaker circuitBreaker;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        TmdbCircuitBreakerProperties properties = new TmdbCircuitBreakerProperties();
+        properties.setFailureThreshold(3);
+        properties.setOpenDuration(Duration.ofSeconds(30));
+        clock = new MutableClock();
+        circuitBreaker = new TmdbCircuitBreaker(properties, null, clock);
+    }
+
+    @Test
+    void filter_whenFailuresReachThreshold_failsFastWithoutCallingTmdb() {
+        openSeasons();
+
+        assertEquals(TmdbCircuitBreaker.State.OPEN, circuitBreaker.getState(TmdbEndpointFamily.SEASONS));
+        assertThrows(TmdbCircuitOpenException.class, () -> circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.OK)).block());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void filter_whenOneFamilyIsOpen_leavesOtherFamiliesClosed() {
+        openSeasons();
+
+        ClientResponse response = circuitBreaker.filter(request(SEARCH_URL), respond(HttpStatus.OK)).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertTrue(circuitBreaker.isOpen(TmdbEndpointFamily.SEASONS));
+        assertFalse(circuitBreaker.isOpen(TmdbEndpointFamily.SEARCH));
+    }
+
+    @Test
+    void filter_whenTmdbAnswersNotFound_countsAsSuccess() {
+        circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.NOT_FOUND)).block();
+        circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+
+        assertEquals(TmdbCircuitBreaker.State.CLOSED, circuitBreaker.getState(TmdbEndpointFamily.SEASONS));
+    }
+
+    @Test
+    void filter_whenTransportFails_countsAsFailure() {
+        ExchangeFunction refused = request -> Mono.error(new WebClientRequestException(
+            new ConnectException("Connection refused"), HttpMethod.GET, request.url(), new HttpHeaders()));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(WebClientRequestException.class, () -> circuitBreaker.filter(request(SEASON_URL), refused).block());
+        }
+
+        assertTrue(circuitBreaker.isOpen(TmdbEndpointFamily.SEASONS));
+    }
+
+    @Test
+    void filter_whenRateLimitBudgetRunsOut_doesNotCountAsFailure() {
+        ExchangeFunction throttled = request -> Mono.error(new TimeoutException("Timed out waiting for the TMDB request budget."));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> circuitBreaker.filter(request(SEASON_URL), throttled).block());
+        }
+
+        assertEquals(TmdbCircuitBreaker.State.CLOSED, circuitBreaker.getState(TmdbEndpointFamily.SEASONS));
+    }
+
+    @Test
+    void filter_afterOpenDuration_letsOneProbeThroughAndClosesOnSuccess() {
+        openSeasons();
+        clock.advance(Duration.ofSeconds(30));
+
+        ClientResponse probe = circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.OK)).block();
+
+        assertEquals(HttpStatus.OK, probe.statusCode());
+        assertEquals(TmdbCircuitBreaker.State.CLOSED, circuitBreaker.getState(TmdbEndpointFamily.SEASONS));
+    }
+
+    @Test
+    void filter_whenProbeFails_reopens() {
+        openSeasons();
+        clock.advance(Duration.ofSeconds(30));
+
+        circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.BAD_GATEWAY)).block();
+
+        assertTrue(circuitBreaker.isOpen(TmdbEndpointFamily.SEASONS));
+        assertThrows(TmdbCircuitOpenException.class, () -> circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.OK)).block());
+    }
+
+    @Test
+    void filter_whenDisabled_neverOpens() {
+        TmdbCircuitBreakerProperties properties = new TmdbCircuitBreakerProperties();
+        properties.setEnabled(false);
+        properties.setFailureThreshold(1);
+        TmdbCircuitBreaker disabled = new TmdbCircuitBreaker(properties, null, clock);
+
+        disabled.filter(request(SEASON_URL), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        ClientResponse response = disabled.filter(request(SEASON_URL), respond(HttpStatus.OK)).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertFalse(disabled.isOpen(TmdbEndpointFamily.SEASONS));
+    }
+
+    @Test
+    void endpointFamily_classifiesTmdbPaths() {
+        assertEquals(TmdbEndpointFamily.DETAILS, family("/3/movie/550?language=en-US"));
+        assertEquals(TmdbEndpointFamily.DETAILS, family("/3/movie/550?language=en-US&append_to_response=credits,videos,watch/providers"));
+        assertEquals(TmdbEndpointFamily.SEASONS, family("/3/tv/1399?language=en-US&append_to_response=season/1,season/2"));
+        assertEquals(TmdbEndpointFamily.SEASONS, family("/3/tv/1399/season/3"));
+        assertEquals(TmdbEndpointFamily.EXTRAS, family("/3/tv/1399/credits"));
+        assertEquals(TmdbEndpointFamily.EXTRAS, family("/3/movie/550/watch/providers"));
+        assertEquals(TmdbEndpointFamily.SEARCH, family("/3/search/movie?query=dune"));
+        assertEquals(TmdbEndpointFamily.SEARCH, family("/3/discover/tv"));
+        assertEquals(TmdbEndpointFamily.LISTS, family("/3/movie/popular"));
+        assertEquals(TmdbEndpointFamily.LISTS, family("/3/trending/all/week"));
+        assertEquals(TmdbEndpointFamily.CHANGES, family("/3/tv/changes?page=1"));
+        assertEquals(TmdbEndpointFamily.OTHER, family("/3/configuration"));
+    }
+
+    private void openSeasons() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.filter(request(SEASON_URL), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        }
+    }
+
+    private ExchangeFunction respond(HttpStatus status) {
+        return request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(status).build());
+        };
+    }
+
+    private static TmdbEndpointFamily family(String pathAndQuery) {
+        return TmdbEndpointFamily.of(URI.create("https://api.themoviedb.org" + pathAndQuery));
+    }
+
+    private static ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
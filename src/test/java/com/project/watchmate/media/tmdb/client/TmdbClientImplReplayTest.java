@@ -0,0 +1,147 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.common.error.TmdbClientException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
+import com.project.watchmate.common.integration.support.TmdbStubServer;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvEpisodeDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
+
+/**
+ * Replays every endpoint {@link TmdbClientImpl} calls against {@link TmdbStubServer}, so the full-schema
+ * fixtures stay decodable by the client and the stub's fault injection surfaces as the usual exceptions.
+ */
+class TmdbClientImplReplayTest {
+
+    private TmdbStubServer stub;
+
+    private TmdbClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        stub = TmdbStubServer.start();
+        client = new TmdbClientImpl(WebClient.builder().baseUrl(stub.baseUrl()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void listEndpoints_replayRecordedResults() {
+        assertFalse(client.fetchGenres("movie").isEmpty());
+        assertFalse(client.fetchGenres("tv").isEmpty());
+        assertEquals("Fight Club", client.fetchPopular("movie").get(0).getTitle());
+        assertEquals("Game of Thrones", client.fetchPopular("tv").get(0).getTitle());
+        assertFalse(client.fetchTrending("movie").isEmpty());
+        assertFalse(client.fetchTrending("tv").isEmpty());
+        assertFalse(client.fetchUpcomingMovies().isEmpty());
+        assertFalse(client.fetchAiringToday().isEmpty());
+        assertFalse(client.fetchOnTheAir().isEmpty());
+        assertEquals(3, client.searchMulti("thrones", 1).getResults().size());
+        assertFalse(client.discoverByGenre("movie", 28L, 1).getResults().isEmpty());
+        assertEquals(2, client.fetchChanges(MediaType.MOVIE, LocalDate.now().minusDays(1), LocalDate.now(), 1).getResults().size());
+    }
+
+    @Test
+    void detailEndpoints_replayRecordingsAndFillTemplatesForOtherIds() {
+        assertEquals("Fight Club", client.fetchMediaById(550L, MediaType.MOVIE).getTitle());
+        assertEquals("Stub Movie 12345", client.fetchMediaById(12345L, MediaType.MOVIE).getTitle());
+        assertEquals(8, client.fetchTvDetailsById(1399L).getNumberOfSeasons());
+
+        TmdbTvSeasonDTO season = client.fetchTvSeasonDetails(1399L, 2);
+        assertEquals(2, season.getSeasonNumber());
+        assertEquals(8, season.getEpisodes().size());
+        assertEquals(2, season.getEpisodes().get(0).getSeasonNumber());
+
+        assertFalse(client.fetchCredits(550L, MediaType.MOVIE).getCast().isEmpty());
+        assertFalse(client.fetchVideos(1399L, MediaType.SHOW).getResults().isEmpty());
+        assertTrue(client.fetchWatchProviders(550L, MediaType.MOVIE).getResults().containsKey("US"));
+    }
+
+    @Test
+    void fetchTvSeasonDetails_decodesAFullSeasonResponseWithFieldsTheDtosDoNotMap() {
+        TmdbTvSeasonDTO season = client.fetchTvSeasonDetails(1399L, 1);
+
+        assertEquals(3624L, season.getId());
+        assertEquals("2011-04-17", season.getAirDate());
+        assertEquals(10, season.getEpisodes().size());
+        TmdbTvEpisodeDTO finale = season.getEpisodes().get(9);
+        assertEquals(63065L, finale.getId());
+        assertEquals("Fire and Blood", finale.getName());
+        assertEquals(10, finale.getEpisodeNumber());
+        assertEquals(53, finale.getRuntime());
+    }
+
+    @Test
+    void appendToResponse_addsEachPartUnderItsOwnKey() {
+        TmdbDetailsBundleDTO<TmdbMovieDTO> movieBundle = client.fetchMovieDetailsBundle(550L);
+        assertEquals("Fight Club", movieBundle.getDetails().getTitle());
+        assertFalse(movieBundle.getCredits().getCast().isEmpty());
+        assertFalse(movieBundle.getVideos().getResults().isEmpty());
+        assertTrue(movieBundle.getWatchProviders().getResults().containsKey("US"));
+
+        TmdbDetailsBundleDTO<TmdbTvDetailsDTO> showBundle = client.fetchTvDetailsBundle(1399L);
+        assertEquals("Game of Thrones", showBundle.getDetails().getName());
+
+        Map<Integer, TmdbTvSeasonDTO> seasons = client.fetchTvSeasonDetailsBatch(1399L, List.of(1, 3));
+        assertEquals(List.of(1, 3), List.copyOf(seasons.keySet()));
+        assertEquals(3, seasons.get(3).getSeasonNumber());
+    }
+
+    @Test
+    void fixtureDirectory_takesPrecedenceOverBundledRecordings(@TempDir Path fixtures) throws IOException {
+        Files.createDirectories(fixtures.resolve("movie"));
+        Files.writeString(fixtures.resolve("movie/550.json"), "{\"id\":550,\"title\":\"Fight Club (Recorded)\"}");
+        stub.setFixtureDirectory(fixtures);
+
+        assertEquals("Fight Club (Recorded)", client.fetchMediaById(550L, MediaType.MOVIE).getTitle());
+        assertEquals("Game of Thrones", client.fetchTvDetailsById(1399L).getName());
+        assertEquals(List.of("/movie/550", "/tv/1399"), stub.requests());
+    }
+
+    @Test
+    void injectedFaults_surfaceAsTmdbErrors() {
+        stub.setErrorRate(1.0);
+        assertThrows(TmdbUnavailableException.class, () -> client.fetchMediaById(550L, MediaType.MOVIE));
+
+        stub.setErrorRate(0.0);
+        stub.setRateLimitRate(1.0);
+        TmdbClientException rateLimited = assertThrows(TmdbClientException.class, () -> client.searchMulti("thrones", 1));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rateLimited.getStatus());
+    }
+
+    @Test
+    void injectedLatency_delaysResponses() {
+        stub.setLatency(Duration.ofMillis(200), Duration.ZERO);
+
+        long start = System.nanoTime();
+        client.fetchGenres("movie");
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) >= 0);
+    }
+}
@@ -1,18 +1,28 @@
 package com.project.watchmate.media.tmdb.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.project.watchmate.common.error.MediaNotFoundException;
 import com.project.watchmate.common.error.TmdbClientException;
 import com.project.watchmate.common.error.TmdbUnavailableException;
 import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.tmdb.dto.TmdbDetailsBundleDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbMovieDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
 
 import reactor.core.publisher.Mono;
 
@@ -103,6 +113,112 @@ class TmdbClientImplTest {
         assertEquals("TMDB is temporarily unavailable. Please try again shortly.", exception.getMessage());
     }
 
+    @Test
+    void fetchMovieDetailsBundle_splitsAppendedPartsFromDetails() {
+        String body = """
+            {
+              "id": 550,
+              "title": "Fight Club",
+              "release_date": "1999-10-15",
+              "credits": {"cast": [{"id": 819, "name": "Edward Norton", "order": 0}]},
+              "videos": {"results": [{"key": "abc", "site": "YouTube", "type": "Trailer"}]},
+              "watch/providers": {"results": {"US": {"link": "https://www.themoviedb.org/movie/550/watch"}}}
+            }
+            """;
+        TmdbClientImpl client = new TmdbClientImpl(WebClient.builder()
+            .exchangeFunction(request -> {
+                assertEquals("append_to_response=credits,videos,watch/providers",
+                    request.url().getQuery().substring(request.url().getQuery().indexOf("append_to_response")));
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .body(body)
+                    .build());
+            })
+            .build());
+
+        TmdbDetailsBundleDTO<TmdbMovieDTO> bundle = client.fetchMovieDetailsBundle(550L);
+
+        assertEquals("Fight Club", bundle.getDetails().getTitle());
+        assertEquals("1999-10-15", bundle.getDetails().getReleaseDate());
+        assertEquals(550L, bundle.getCredits().getId());
+        assertEquals("Edward Norton", bundle.getCredits().getCast().get(0).getName());
+        assertEquals("abc", bundle.getVideos().getResults().get(0).getKey());
+        assertEquals(550L, bundle.getWatchProviders().getId());
+        assertEquals("https://www.themoviedb.org/movie/550/watch", bundle.getWatchProviders().getResults().get("US").getLink());
+    }
+
+    @Test
+    void fetchTvDetailsBundle_whenTmdbReturnsNotFound_throwsMediaNotFoundException() {
+        TmdbClientImpl client = new TmdbClientImpl(webClientReturning(HttpStatus.NOT_FOUND, "{}"));
+
+        assertThrows(MediaNotFoundException.class, () -> client.fetchTvDetailsBundle(404L));
+    }
+
+    @Test
+    void fetchTvSeasonDetailsBatch_decodesAppendedSeasonsAndSkipsMissingOnes() {
+        String body = """
+            {
+              "adult": false,
+              "id": 1399,
+              "name": "Game of Thrones",
+              "original_language": "en",
+              "popularity": 456.218,
+              "vote_average": 8.456,
+              "vote_count": 24263,
+              "networks": [{"id": 49, "logo_path": "/tuomPhY2UtuPTqqFnKMVHvSb724.png", "name": "HBO", "origin_country": "US"}],
+              "season/1": {
+                "_id": "5256c89f19c2956ff6046d47",
+                "air_date": "2011-04-17",
+                "id": 3624,
+                "name": "Season 1",
+                "season_number": 1,
+                "vote_average": 8.3,
+                "episodes": [{
+                  "air_date": "2011-04-17",
+                  "episode_number": 1,
+                  "episode_type": "standard",
+                  "id": 63056,
+                  "name": "Winter Is Coming",
+                  "production_code": "101",
+                  "runtime": 62,
+                  "season_number": 1,
+                  "show_id": 1399,
+                  "vote_average": 8.0,
+                  "vote_count": 370,
+                  "crew": [{"job": "Director", "department": "Directing", "credit_id": "5256c8a219c2956ff6046003", "id": 44797, "name": "Tim Van Patten"}],
+                  "guest_stars": [{"character": "Will", "credit_id": "5256c8b119c2956ff6040010", "order": 500, "id": 1254706, "name": "Bronson Webb"}]
+                }]
+              },
+              "season/2": {"_id": "5256c89f19c2956ff6046d9a", "air_date": "2012-04-01", "id": 3625, "name": "Season 2", "season_number": 2, "vote_average": 8.2, "episodes": []}
+            }
+            """;
+        TmdbClientImpl client = new TmdbClientImpl(WebClient.builder()
+            .exchangeFunction(request -> {
+                assertEquals("append_to_response=season/1,season/2,season/9",
+                    request.url().getQuery().substring(request.url().getQuery().indexOf("append_to_response")));
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .body(body)
+                    .build());
+            })
+            .build());
+
+        Map<Integer, TmdbTvSeasonDTO> seasons = client.fetchTvSeasonDetailsBatch(1399L, List.of(1, 2, 9));
+
+        assertEquals(List.of(1, 2), List.copyOf(seasons.keySet()));
+        assertEquals("Winter Is Coming", seasons.get(1).getEpisodes().get(0).getName());
+        assertEquals(2, seasons.get(2).getSeasonNumber());
+        assertFalse(seasons.containsKey(9));
+    }
+
+    @Test
+    void fetchTvSeasonDetailsBatch_whenMoreSeasonsThanTmdbAppends_rejectsRequest() {
+        TmdbClientImpl client = new TmdbClientImpl(webClientReturning(HttpStatus.OK, "{}"));
+        List<Integer> seasonNumbers = IntStream.rangeClosed(1, TmdbClient.MAX_APPENDED_SEASONS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> client.fetchTvSeasonDetailsBatch(1399L, seasonNumbers));
+    }
+
     private WebClient webClientReturning(HttpStatus status, String body) {
         return WebClient.builder()
             .exchangeFunction(request -> Mono.just(ClientResponse.create(status).body(body).build()))
@@ -0,0 +1,165 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.watchmate.common.cache.TmdbCacheKeys;
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.common.error.MediaNotFoundException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TmdbRequestCoalescerTest {
+
+    private static final String SHOW_KEY = TmdbCacheKeys.show(1399L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TmdbRequestCoalescer coalescer = new TmdbRequestCoalescer(meterRegistry);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void execute_whenIdenticalLookupsOverlap_sendsOneRequestAndSharesResult() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TmdbTvDetailsDTO details = TmdbTvDetailsDTO.builder().id(1399L).name("Game of Thrones").build();
+
+        List<Future<TmdbTvDetailsDTO>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> coalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, () -> {
+                requests.incrementAndGet();
+                await(release);
+                return details;
+            })));
+        }
+        awaitCoalesced(3);
+        release.countDown();
+
+        for (Future<TmdbTvDetailsDTO> result : results) {
+            assertSame(details, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, requests.get());
+        assertEquals(1.0, count("sent"));
+        assertEquals(3.0, count("coalesced"));
+    }
+
+    @Test
+    void execute_whenSharedRequestFails_everyCallerSeesTheFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(callers.submit(() -> coalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, () -> {
+                await(release);
+                throw new MediaNotFoundException("TMDB show not found for ID: 1399");
+            })));
+        }
+        awaitCoalesced(1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(MediaNotFoundException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void execute_whenSharedRequestThrowsAnError_releasesWaitersWithIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(callers.submit(() -> coalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, () -> {
+                await(release);
+                throw new OutOfMemoryError("Java heap space");
+            })));
+        }
+        awaitCoalesced(1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void execute_whenSharedRequestOutlastsTheWaitTimeout_failsTheWaiterAsUnavailable() throws Exception {
+        TmdbRequestCoalescer shortWait = new TmdbRequestCoalescer(meterRegistry, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> owner = callers.submit(() -> shortWait.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, () -> {
+            started.countDown();
+            await(release);
+            return "details";
+        }));
+        await(started);
+        Future<Object> waiter = callers.submit(() -> shortWait.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, () -> "unused"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertInstanceOf(TmdbUnavailableException.class, exception.getCause());
+        assertEquals("details", owner.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_whenLookupsDoNotOverlap_sendsEachRequest() {
+        AtomicInteger requests = new AtomicInteger();
+
+        coalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, requests::incrementAndGet);
+        coalescer.execute(TmdbCacheNames.TMDB_SHOW_DETAILS, SHOW_KEY, requests::incrementAndGet);
+        coalescer.execute(TmdbCacheNames.TMDB_SEASON_DETAILS, SHOW_KEY, requests::incrementAndGet);
+
+        assertEquals(3, requests.get());
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, count("coalesced"));
+    }
+
+    private double count(String outcome) {
+        Counter counter = meterRegistry.find(TmdbRequestCoalescer.REQUESTS_METRIC)
+            .tags("cache", TmdbCacheNames.TMDB_SHOW_DETAILS, "outcome", outcome)
+            .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+class TmdbRequestThrottleTest {
+
+    @Test
+    void filter_whenTmdbReturnsTooManyRequests_retriesUntilSuccess() {
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties());
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> Mono.just(calls.incrementAndGet() == 1
+            ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "0").build()
+            : ClientResponse.create(HttpStatus.OK).build());
+
+        ClientResponse response = throttle.filter(request(HttpMethod.GET), next).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void filter_whenServerErrorsPersist_returnsLastResponseAfterMaxRetries() {
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties());
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+        };
+
+        ClientResponse response = throttle.filter(request(HttpMethod.GET), next).block();
+
+        assertEquals(HttpStatus.BAD_GATEWAY, response.statusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void filter_whenRequestIsNotGet_doesNotRetry() {
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties());
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        };
+
+        throttle.filter(request(HttpMethod.POST), next).block();
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void filter_whenRetryAfterExceedsMaxBackoff_returnsResponseWithoutRetrying() {
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties());
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "120").build());
+        };
+
+        ClientResponse response = throttle.filter(request(HttpMethod.GET), next).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.statusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void filter_whenBudgetIsExhausted_failsWithTimeoutAfterMaxWait() {
+        TmdbRateLimitProperties properties = properties();
+        properties.setBurst(1);
+        properties.setRequestsPerSecond(1);
+        properties.setMaxWait(Duration.ofMillis(20));
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties);
+        ExchangeFunction next = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+        throttle.filter(request(HttpMethod.GET), next).block();
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> throttle.filter(request(HttpMethod.GET), next).block());
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void tryAcquire_whenOnlyReserveIsLeft_makesBackgroundWaitButLetsInteractiveThrough() {
+        TmdbRateLimitProperties properties = properties();
+        properties.setBurst(3);
+        properties.setRequestsPerSecond(1);
+        properties.setBackgroundReserve(2);
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties);
+
+        assertEquals(0L, throttle.tryAcquire(TmdbRequestPriority.BACKGROUND));
+        assertTrue(throttle.tryAcquire(TmdbRequestPriority.BACKGROUND) > 0);
+        assertEquals(0L, throttle.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+        assertEquals(0L, throttle.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+        assertTrue(throttle.tryAcquire(TmdbRequestPriority.INTERACTIVE) > 0);
+    }
+
+    @Test
+    void background_marksRequestsUntilScopeCloses() {
+        assertEquals(TmdbRequestPriority.INTERACTIVE, TmdbRequestPriority.current());
+
+        try (TmdbRequestPriority.Scope background = TmdbRequestPriority.background()) {
+            assertEquals(TmdbRequestPriority.BACKGROUND, TmdbRequestPriority.current());
+        }
+
+        assertEquals(TmdbRequestPriority.INTERACTIVE, TmdbRequestPriority.current());
+    }
+
+    @Test
+    void retryDelay_waitsAtLeastRetryAfterAndStaysWithinJitteredBackoff() {
+        TmdbRateLimitProperties properties = properties();
+        properties.setInitialBackoff(Duration.ofMillis(200));
+        properties.setMaxBackoff(Duration.ofSeconds(2));
+        TmdbRequestThrottle throttle = new TmdbRequestThrottle(properties);
+
+        for (int i = 0; i < 50; i++) {
+            Duration secondRetry = throttle.retryDelay(1, null);
+            assertTrue(secondRetry.toMillis() >= 200 && secondRetry.toMillis() <= 400, "delay was " + secondRetry);
+            assertEquals(Duration.ofMillis(1500), throttle.retryDelay(0, Duration.ofMillis(1500)));
+        }
+        assertTrue(throttle.retryDelay(10, null).toMillis() <= 2000);
+        assertNull(throttle.retryDelay(0, Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void retryAfter_readsDelaySecondsAndHttpDate() {
+        Instant now = Instant.parse("2026-03-10T18:00:00Z");
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set(HttpHeaders.RETRY_AFTER, "3");
+        HttpHeaders date = new HttpHeaders();
+        date.set(HttpHeaders.RETRY_AFTER, "Tue, 10 Mar 2026 18:00:05 GMT");
+        HttpHeaders invalid = new HttpHeaders();
+        invalid.set(HttpHeaders.RETRY_AFTER, "soon");
+
+        assertEquals(Duration.ofSeconds(3), TmdbRequestThrottle.retryAfter(seconds, now));
+        assertEquals(Duration.ofSeconds(5), TmdbRequestThrottle.retryAfter(date, now));
+        assertNull(TmdbRequestThrottle.retryAfter(invalid, now));
+        assertNull(TmdbRequestThrottle.retryAfter(new HttpHeaders(), now));
+    }
+
+    private TmdbRateLimitProperties properties() {
+        TmdbRateLimitProperties properties = new TmdbRateLimitProperties();
+        properties.setInitialBackoff(Duration.ofMillis(5));
+        properties.setMaxBackoff(Duration.ofSeconds(1));
+        return properties;
+    }
+
+    private ClientRequest request(HttpMethod method) {
+        return ClientRequest.create(method, URI.create("https://api.themoviedb.org/3/tv/1399")).build();
+    }
+}
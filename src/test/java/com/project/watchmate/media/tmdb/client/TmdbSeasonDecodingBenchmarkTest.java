@@ -0,0 +1,114 @@
+package com.project.watchmate.media.tmdb.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares heap allocated per season fetch by the streamed decoding in {@link TmdbClientImpl} against
+ * {@code bodyToMono}, which joins every network buffer into one before parsing. The body arrives in
+ * 8 KB chunks, as it would from the socket, and the difference is roughly one copy of the payload.
+ * Allocation depends on JIT and GC behaviour, so this is opt-in: {@code -Dwatchmate.benchmarks=true}.
+ */
+@Slf4j
+class TmdbSeasonDecodingBenchmarkTest {
+
+    private static final int EPISODES = 300;
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final int WARMUP_FETCHES = 30;
+
+    private static final int MEASURED_FETCHES = 50;
+
+    private static final byte[] SEASON_JSON = seasonJson(EPISODES);
+
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "watchmate.benchmarks", matches = "true")
+    void benchmark_fetchTvSeasonDetails_allocatesLessPerFetchThanBufferedDecoding() {
+        WebClient webClient = chunkedWebClient();
+        TmdbClientImpl client = new TmdbClientImpl(webClient);
+        Supplier<TmdbTvSeasonDTO> buffered = () -> webClient.get()
+            .uri("/tv/1399/season/1")
+            .retrieve()
+            .bodyToMono(TmdbTvSeasonDTO.class)
+            .block();
+        Supplier<TmdbTvSeasonDTO> streamed = () -> client.fetchTvSeasonDetails(1399L, 1);
+
+        assertEquals(EPISODES, buffered.get().getEpisodes().size());
+        assertEquals(EPISODES, streamed.get().getEpisodes().size());
+
+        long bufferedBytes = allocatedBytesPerFetch(buffered);
+        long streamedBytes = allocatedBytesPerFetch(streamed);
+        log.info("TMDB season decoding allocation per fetch: payloadBytes={} streamedBytes={} bufferedBytes={}",
+            SEASON_JSON.length, streamedBytes, bufferedBytes);
+
+        assertTrue(streamedBytes < bufferedBytes,
+            "payload=" + SEASON_JSON.length + " streamed=" + streamedBytes + " buffered=" + bufferedBytes);
+    }
+
+    private static long allocatedBytesPerFetch(Supplier<TmdbTvSeasonDTO> fetch) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_FETCHES; i++) {
+            fetch.get();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_FETCHES; i++) {
+            fetch.get();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_FETCHES;
+    }
+
+    private static WebClient chunkedWebClient() {
+        return WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body(Flux.range(0, (SEASON_JSON.length + CHUNK_SIZE - 1) / CHUNK_SIZE).map(TmdbSeasonDecodingBenchmarkTest::chunk))
+                .build()))
+            .build();
+    }
+
+    private static DataBuffer chunk(int index) {
+        int offset = index * CHUNK_SIZE;
+        int length = Math.min(CHUNK_SIZE, SEASON_JSON.length - offset);
+        return DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(SEASON_JSON, offset, length).slice());
+    }
+
+    private static byte[] seasonJson(int episodes) {
+        StringBuilder json = new StringBuilder("{\"id\":3624,\"name\":\"Season 1\",\"season_number\":1,\"episodes\":[");
+        for (int i = 1; i <= episodes; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(60000 + i)
+                .append(",\"season_number\":1,\"episode_number\":").append(i)
+                .append(",\"name\":\"Episode ").append(i)
+                .append("\",\"air_date\":\"2011-04-17\",\"runtime\":62,\"still_path\":\"/still-").append(i)
+                .append(".jpg\",\"overview\":\"").append("A long episode synopsis. ".repeat(20)).append("\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -6,6 +6,7 @@ import com.project.watchmate.media.catalog.application.UserWatchStatusResolver;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -34,6 +35,9 @@ import com.project.watchmate.common.mapper.WatchMateMapper;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.extras.application.MediaExtrasService;
+import com.project.watchmate.media.tmdb.application.TmdbDetailsBundleService;
+import com.project.watchmate.media.tmdb.client.TmdbCircuitBreaker;
+import com.project.watchmate.media.tmdb.client.TmdbEndpointFamily;
 import com.project.watchmate.media.extras.dto.CastMemberDTO;
 import com.project.watchmate.media.extras.dto.MediaExtrasDTO;
 import com.project.watchmate.media.extras.dto.TrailerDTO;
@@ -79,6 +83,12 @@ class MediaServiceTest {
     @Mock
     private MediaExtrasService mediaExtrasService;
 
+    @Mock
+    private TmdbDetailsBundleService tmdbDetailsBundleService;
+
+    @Mock
+    private TmdbCircuitBreaker tmdbCircuitBreaker;
+
     @InjectMocks
     private MediaService mediaService;
 
@@ -138,6 +148,21 @@ class MediaServiceTest {
             assertEquals("US", result.getWatchProviders().getRegion());
         }
 
+        @Test
+        void getMovieDetails_WhenTmdbDetailsCircuitIsOpen_FlagsStoredSnapshotAsPossiblyStale() {
+            Media publicMovie = Media.builder().tmdbId(TMDB_ID).title("Public Movie").type(MediaType.MOVIE).build();
+
+            when(mediaRepository.findByTmdbIdAndType(TMDB_ID, MediaType.MOVIE)).thenReturn(Optional.of(publicMovie));
+            when(publicMediaDetailBaseCacheService.getMovieBase(TMDB_ID, MediaType.MOVIE)).thenReturn(publicBase("Public Movie"));
+            when(mediaExtrasService.getExtras(TMDB_ID, MediaType.MOVIE)).thenReturn(emptyExtras());
+            when(tmdbCircuitBreaker.isOpen(TmdbEndpointFamily.DETAILS)).thenReturn(true);
+
+            MovieDetailsDTO result = mediaService.getMovieDetails(TMDB_ID, null);
+
+            assertEquals("Public Movie", result.getTitle());
+            assertTrue(result.isPossiblyStale());
+        }
+
         @Test
         void getMovieDetails_WhenUserNotFound_ThrowsUserNotFoundException() {
             when(usersRepository.findByIdWithFavorites(1L)).thenReturn(Optional.empty());
@@ -70,7 +70,7 @@ class ReviewServiceTest {
     void setUp() {
         user = Users.builder().id(1L).username("author").build();
         otherUser = Users.builder().id(2L).username("other").build();
-        media = Media.builder().id(MEDIA_ID).tmdbId(TMDB_ID).title("Movie").build();
+        media = Media.builder().id(MEDIA_ID).tmdbId(TMDB_ID).type(MediaType.MOVIE).title("Movie").build();
         review = Review.builder().id(REVIEW_ID).user(user).media(media).rating(5).comment("Great").build();
     }
 
@@ -91,7 +91,8 @@ class ReviewServiceTest {
 
             assertEquals(REVIEW_ID, result.getReviewId());
             verify(reviewRepository).save(any(Review.class));
-            verify(cacheEvictionService).evictWatchlistSummaryPages();
+            verify(cacheEvictionService).evictWatchlistSummaryPagesForMedia(MediaType.MOVIE, TMDB_ID);
+            verify(cacheEvictionService, never()).evictWatchlistSummaryPages();
         }
 
         @Test
@@ -124,7 +125,8 @@ class ReviewServiceTest {
             assertEquals(4, review.getRating());
             assertEquals("Updated", review.getComment());
             verify(reviewRepository).save(review);
-            verify(cacheEvictionService).evictWatchlistSummaryPages();
+            verify(cacheEvictionService).evictWatchlistSummaryPagesForMedia(MediaType.MOVIE, TMDB_ID);
+            verify(cacheEvictionService, never()).evictWatchlistSummaryPages();
         }
 
         @Test
@@ -160,7 +162,8 @@ class ReviewServiceTest {
             reviewService.deleteReview(user, REVIEW_ID);
 
             verify(reviewRepository).delete(review);
-            verify(cacheEvictionService).evictWatchlistSummaryPages();
+            verify(cacheEvictionService).evictWatchlistSummaryPagesForMedia(MediaType.MOVIE, TMDB_ID);
+            verify(cacheEvictionService, never()).evictWatchlistSummaryPages();
         }
 
         @Test
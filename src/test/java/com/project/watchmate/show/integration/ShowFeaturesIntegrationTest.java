@@ -5,23 +5,38 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.test.web.servlet.MvcResult;
 
 import com.project.watchmate.show.jobs.dto.ShowTrackingJobDTO;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbEpisodeSummaryDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbCastMemberDTO;
 import com.project.watchmate.media.tmdb.dto.TmdbCreditsDTO;
@@ -40,16 +55,39 @@ import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.catalog.domain.ShowEpisode;
 import com.project.watchmate.media.catalog.domain.ShowSeason;
+import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobEventHub;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobProperties;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobService;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobWorkerPool;
 import com.project.watchmate.show.jobs.domain.ShowTrackingJob;
 import com.project.watchmate.show.jobs.domain.ShowTrackingJobStatus;
 import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
 import com.project.watchmate.show.tracking.domain.UserEpisodeWatch;
+import com.project.watchmate.show.tracking.application.ShowTrackingWriteSupport;
 import com.project.watchmate.show.tracking.domain.UserShowTracking;
 import com.project.watchmate.user.domain.Users;
 import com.project.watchmate.media.catalog.domain.WatchStatus;
 
+import tools.jackson.core.type.TypeReference;
+
 class ShowFeaturesIntegrationTest extends AbstractIntegrationTest {
 
+    @Autowired
+    private ShowTrackingJobEventHub showTrackingJobEventHub;
+
+    @Autowired
+    private ShowCatalogService showCatalogService;
+
+    @Autowired
+    private ShowTrackingWriteSupport showTrackingWriteSupport;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Test
     void publicNextEpisode_returns200WithoutAuth_andRefreshesImportedSnapshot() throws Exception {
         Media show = saveMedia(9001L, "Imported Show", MediaType.SHOW);
@@ -848,6 +886,79 @@ class ShowFeaturesIntegrationTest extends AbstractIntegrationTest {
         assertThat(persistedTracking.getEpisodesWatchedCount()).isEqualTo(4);
     }
 
+    @Test
+    void updateShowStatus_watchedForEndedShow_jobHydratesMissingSeasonsInOneBatchedRequest() throws Exception {
+        Users user = saveUser("show-status-batched-job-user", true);
+        Media show = saveMedia(9602L, "Batched Job Show", MediaType.SHOW);
+        when(tmdbClient.fetchTvDetailsById(eq(9602L))).thenReturn(endedShowDetailsWithId(9602L));
+
+        MvcResult mvcResult = mockMvc.perform(put("/api/v1/shows/{tmdbId}/status", 9602L)
+            .header("Authorization", bearerToken(user))
+            .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+            .content("""
+                {"status":"WATCHED"}
+                """))
+            .andExpect(status().isAccepted())
+            .andReturn();
+
+        ShowTrackingJobDTO job = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), ShowTrackingJobDTO.class);
+        when(tmdbClient.fetchTvSeasonDetailsBatch(eq(9602L), eq(List.of(1, 2, 3, 4)))).thenReturn(Map.of(
+            1, singleEpisodeSeason(1, "2020-01-01"),
+            2, singleEpisodeSeason(2, "2020-01-08"),
+            4, singleEpisodeSeason(4, "2020-01-22")
+        ));
+        when(tmdbClient.fetchTvSeasonDetails(eq(9602L), eq(3))).thenReturn(singleEpisodeSeason(3, "2020-01-15"));
+
+        showTrackingJobService.pollPendingJobs();
+
+        ShowTrackingJob completedJob = showTrackingJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(completedJob.getStatus()).isEqualTo(ShowTrackingJobStatus.COMPLETED);
+        assertThat(completedJob.getCompletedSeasons()).isEqualTo(4);
+        UserShowTracking persistedTracking = userShowTrackingRepository.findByUserAndMedia(user, show).orElseThrow();
+        assertThat(persistedTracking.getEpisodesWatchedCount()).isEqualTo(4);
+        verify(tmdbClient).fetchTvSeasonDetailsBatch(eq(9602L), eq(List.of(1, 2, 3, 4)));
+        verify(tmdbClient).fetchTvSeasonDetails(eq(9602L), eq(3));
+        verify(tmdbClient, never()).fetchTvSeasonDetails(eq(9602L), eq(1));
+    }
+
+    @Test
+    void updateShowStatus_whenOneSeasonFails_recordsItAndKeepsTheSeasonsThatSucceeded() throws Exception {
+        Users user = saveUser("show-status-partial-job-user", true);
+        Media show = saveMedia(9603L, "Partial Job Show", MediaType.SHOW);
+        when(tmdbClient.fetchTvDetailsById(eq(9603L))).thenReturn(endedShowDetailsWithId(9603L));
+
+        MvcResult mvcResult = mockMvc.perform(put("/api/v1/shows/{tmdbId}/status", 9603L)
+            .header("Authorization", bearerToken(user))
+            .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+            .content("""
+                {"status":"WATCHED"}
+                """))
+            .andExpect(status().isAccepted())
+            .andReturn();
+
+        ShowTrackingJobDTO job = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), ShowTrackingJobDTO.class);
+        when(tmdbClient.fetchTvSeasonDetailsBatch(eq(9603L), eq(List.of(1, 2, 3, 4)))).thenReturn(Map.of(
+            1, singleEpisodeSeason(1, "2020-01-01"),
+            2, singleEpisodeSeason(2, "2020-01-08"),
+            4, singleEpisodeSeason(4, "2020-01-22")
+        ));
+        when(tmdbClient.fetchTvSeasonDetails(eq(9603L), eq(3)))
+            .thenThrow(new com.project.watchmate.common.error.TmdbUnavailableException("TMDB temporarily unavailable"));
+
+        showTrackingJobService.pollPendingJobs();
+
+        ShowTrackingJob failedJob = showTrackingJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(failedJob.getStatus()).isEqualTo(ShowTrackingJobStatus.FAILED);
+        assertThat(failedJob.getErrorCode()).isEqualTo("TMDB_UNAVAILABLE");
+        assertThat(failedJob.getCompletedSeasons()).isEqualTo(3);
+        List<Map<String, Object>> failedSeasons = objectMapper.readValue(failedJob.getFailedSeasonsJson(), new TypeReference<>() { });
+        assertThat(failedSeasons).hasSize(1);
+        assertThat(failedSeasons.get(0)).containsEntry("seasonNumber", 3).containsEntry("errorCode", "TMDB_UNAVAILABLE");
+        assertThat(showSeasonRepository.findAllByMediaIdOrderBySeasonNumberAsc(show.getId()))
+            .extracting(ShowSeason::getSeasonNumber)
+            .containsExactly(1, 2, 4);
+    }
+
     @Test
     void updateShowStatus_repeatingSameBulkAction_returnsExistingPendingJob() throws Exception {
         Users user = saveUser("show-status-duplicate-job-user", true);
@@ -938,21 +1049,155 @@ class ShowFeaturesIntegrationTest extends AbstractIntegrationTest {
     }
 
     @Test
-    void claimPendingJob_allowsOnlyOneSuccessfulClaim() {
-        Users owner = saveUser("show-job-claim-user", true);
-        Media show = saveMedia(9604L, "Claimable Job Show", MediaType.SHOW);
+    void showTrackingJobEvents_streamsSnapshotThenProgressUntilTheJobFinishes() throws Exception {
+        Users owner = saveUser("show-job-events-owner", true);
+        Users otherUser = saveUser("show-job-events-other", true);
+        Media show = saveMedia(9611L, "Streamed Job Show", MediaType.SHOW);
         ShowTrackingJob job = showTrackingJobRepository.save(ShowTrackingJob.builder()
             .user(owner)
             .media(show)
-            .jobType(ShowTrackingJobType.MARK_SHOW_UP_TO_DATE)
-            .status(ShowTrackingJobStatus.PENDING)
-            .requestedStatus(WatchStatus.UP_TO_DATE)
+            .jobType(ShowTrackingJobType.MARK_SHOW_WATCHED)
+            .status(ShowTrackingJobStatus.RUNNING)
+            .requestedStatus(WatchStatus.WATCHED)
             .totalSeasons(4)
-            .completedSeasons(0)
+            .completedSeasons(1)
             .build());
 
-        assertThat(showTrackingJobService.claimPendingJob(job.getId())).isTrue();
-        assertThat(showTrackingJobService.claimPendingJob(job.getId())).isFalse();
+        mockMvc.perform(get("/api/v1/show-tracking-jobs/{jobId}/events", job.getId())
+            .header("Authorization", bearerToken(otherUser)))
+            .andExpect(status().isNotFound());
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/show-tracking-jobs/{jobId}/events", job.getId())
+            .header("Authorization", bearerToken(owner)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        showTrackingJobEventHub.publish(ShowTrackingJobProgressDTO.builder()
+            .jobId(job.getId())
+            .status(ShowTrackingJobStatus.COMPLETED)
+            .totalSeasons(4)
+            .completedSeasons(4)
+            .finalStatus(WatchStatus.WATCHED)
+            .build());
+
+        mockMvc.perform(asyncDispatch(stream))
+            .andExpect(status().isOk())
+            .andExpect(content().string(org.hamcrest.Matchers.containsString("event:job")))
+            .andExpect(content().string(org.hamcrest.Matchers.containsString("\"completedSeasons\":1")))
+            .andExpect(content().string(org.hamcrest.Matchers.containsString("event:progress")))
+            .andExpect(content().string(org.hamcrest.Matchers.containsString("\"finalStatus\":\"WATCHED\"")));
+    }
+
+    @Test
+    void pollPendingJobs_concurrentNodesClaimDisjointBatches() throws Exception {
+        List<Long> jobIds = saveHydrationJobs(96050L, 6);
+        CountDownLatch allRunning = new CountDownLatch(jobIds.size());
+        when(tmdbClient.fetchTvDetailsById(anyLong())).thenAnswer(invocation -> {
+            allRunning.countDown();
+            if (!allRunning.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Jobs were not all running at once");
+            }
+            return seasonlessTvDetails(invocation.getArgument(0));
+        });
+
+        ShowTrackingJobProperties properties = new ShowTrackingJobProperties();
+        properties.setWorkerThreads(3);
+        properties.setMaxJobsPerPoll(3);
+        List<ShowTrackingJobWorkerPool> pools = List.of(
+            new ShowTrackingJobWorkerPool(properties),
+            new ShowTrackingJobWorkerPool(properties)
+        );
+        ExecutorService pollers = Executors.newFixedThreadPool(pools.size());
+        try {
+            Future<Integer> first = pollers.submit(jobNode(properties, pools.get(0))::pollPendingJobs);
+            Future<Integer> second = pollers.submit(jobNode(properties, pools.get(1))::pollPendingJobs);
+
+            assertThat(first.get(60, TimeUnit.SECONDS)).isEqualTo(3);
+            assertThat(second.get(60, TimeUnit.SECONDS)).isEqualTo(3);
+        } finally {
+            pollers.shutdownNow();
+            pools.forEach(ShowTrackingJobWorkerPool::destroy);
+        }
+
+        assertThat(showTrackingJobRepository.findAllById(jobIds))
+            .hasSize(jobIds.size())
+            .allSatisfy(job -> {
+                assertThat(job.getStatus()).isEqualTo(ShowTrackingJobStatus.COMPLETED);
+                assertThat(job.getAttemptCount()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    void pollPendingJobs_capsEachJobTypeAtItsParallelism() {
+        List<Long> jobIds = saveHydrationJobs(96060L, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peakRunning = new AtomicInteger();
+        when(tmdbClient.fetchTvDetailsById(anyLong())).thenAnswer(invocation -> {
+            peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                return seasonlessTvDetails(invocation.getArgument(0));
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        ShowTrackingJobProperties properties = new ShowTrackingJobProperties();
+        properties.setWorkerThreads(3);
+        properties.setMaxJobsPerPoll(3);
+        properties.getTypeParallelism().put(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1);
+        ShowTrackingJobWorkerPool pool = new ShowTrackingJobWorkerPool(properties);
+        try {
+            assertThat(jobNode(properties, pool).pollPendingJobs()).isEqualTo(3);
+        } finally {
+            pool.destroy();
+        }
+
+        assertThat(peakRunning.get()).isEqualTo(1);
+        assertThat(showTrackingJobRepository.findAllById(jobIds))
+            .allSatisfy(job -> assertThat(job.getStatus()).isEqualTo(ShowTrackingJobStatus.COMPLETED));
+    }
+
+    /** A service with its own worker pool over the shared table, as another node would run it. */
+    private ShowTrackingJobService jobNode(ShowTrackingJobProperties properties, ShowTrackingJobWorkerPool pool) {
+        return new ShowTrackingJobService(
+            showTrackingJobRepository,
+            userShowTrackingRepository,
+            showCatalogService,
+            showTrackingWriteSupport,
+            properties,
+            transactionManager,
+            pool,
+            applicationEventPublisher,
+            showTrackingJobEventHub,
+            objectMapper
+        );
+    }
+
+    private List<Long> saveHydrationJobs(long firstTmdbId, int jobs) {
+        List<Long> jobIds = new ArrayList<>();
+        for (long tmdbId = firstTmdbId; tmdbId < firstTmdbId + jobs; tmdbId++) {
+            Media show = saveMedia(tmdbId, "Claimed Show " + tmdbId, MediaType.SHOW);
+            jobIds.add(showTrackingJobRepository.save(ShowTrackingJob.builder()
+                .media(show)
+                .jobType(ShowTrackingJobType.HYDRATE_SHOW_CATALOG)
+                .status(ShowTrackingJobStatus.PENDING)
+                .completedSeasons(0)
+                .build()).getId());
+        }
+        return jobIds;
+    }
+
+    private TmdbTvDetailsDTO seasonlessTvDetails(Long tmdbId) {
+        return TmdbTvDetailsDTO.builder()
+            .id(tmdbId)
+            .name("Claimed Show " + tmdbId)
+            .firstAirDate("2020-01-01")
+            .status("Ended")
+            .numberOfSeasons(0)
+            .numberOfEpisodes(0)
+            .genres(List.of())
+            .seasons(List.of())
+            .build();
     }
 
     private ShowEpisode cachedEpisode(Media show, int seasonNumber, int episodeNumber, String airDate) {
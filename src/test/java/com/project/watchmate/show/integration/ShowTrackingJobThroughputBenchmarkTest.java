@@ -0,0 +1,233 @@
+package com.project.watchmate.show.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.project.watchmate.common.integration.support.AbstractIntegrationTest;
+import com.project.watchmate.media.catalog.domain.Media;
+import com.project.watchmate.media.catalog.domain.MediaType;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvEpisodeDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonSummaryDTO;
+import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobEventHub;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobProperties;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobService;
+import com.project.watchmate.show.jobs.application.ShowTrackingJobWorkerPool;
+import com.project.watchmate.show.jobs.domain.ShowTrackingJob;
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobStatus;
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+import com.project.watchmate.show.tracking.application.ShowTrackingWriteSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class ShowTrackingJobThroughputBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int SEASONS_PER_SHOW = 2;
+
+    @Autowired
+    private ShowCatalogService showCatalogService;
+
+    @Autowired
+    private ShowTrackingWriteSupport showTrackingWriteSupport;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private ShowTrackingJobEventHub showTrackingJobEventHub;
+
+    /**
+     * Benchmark: show tracking jobs per second as workers per node and nodes scale.
+     *
+     * <p>Each run enqueues catalog hydration jobs for distinct shows (200 by default) against the shared
+     * MySQL container, with every TMDB call answered after a fixed delay (25 ms by default) so jobs are
+     * I/O-bound as in production. A node is its own {@link ShowTrackingJobService} and worker pool polling
+     * the same table, so SKIP LOCKED claiming is exercised across nodes. Override with
+     * {@code -Dwatchmate.show-jobs.benchmark.jobs}, {@code .latency-ms}, and the comma-separated
+     * {@code .workers} (default 1,4,8) and {@code .nodes} (default 1,2). Opt-in:
+     * {@code -Dwatchmate.benchmarks=true}.
+     */
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "watchmate.benchmarks", matches = "true")
+    void benchmark_pollPendingJobs_throughputScalesWithWorkersAndNodes() throws Exception {
+        int jobs = Integer.getInteger("watchmate.show-jobs.benchmark.jobs", 200);
+        long latencyMs = Long.getLong("watchmate.show-jobs.benchmark.latency-ms", 25L);
+        List<Integer> workerCounts = intList(System.getProperty("watchmate.show-jobs.benchmark.workers", "1,4,8"));
+        List<Integer> nodeCounts = intList(System.getProperty("watchmate.show-jobs.benchmark.nodes", "1,2"));
+        stubTmdb(latencyMs);
+
+        long nextTmdbId = 700_000L;
+        for (int nodes : nodeCounts) {
+            for (int workers : workerCounts) {
+                List<Long> jobIds = enqueueHydrationJobs(nextTmdbId, jobs);
+                nextTmdbId += jobs;
+
+                long elapsedNanos = runNodes(nodes, workers);
+
+                assertThat(showTrackingJobRepository.findAllById(jobIds))
+                    .hasSize(jobs)
+                    .allSatisfy(job -> assertThat(job.getStatus()).isEqualTo(ShowTrackingJobStatus.COMPLETED));
+                log.info("Show tracking job throughput: nodes={} workersPerNode={} jobs={} elapsedMs={} jobsPerSecond={}",
+                    nodes, workers, jobs, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    String.format("%.1f", jobs * 1e9 / elapsedNanos));
+            }
+        }
+    }
+
+    /** Polls with {@code nodes} independent services at once; returns the time until all have drained. */
+    private long runNodes(int nodes, int workersPerNode) throws Exception {
+        ShowTrackingJobProperties properties = new ShowTrackingJobProperties();
+        properties.setWorkerThreads(workersPerNode);
+        properties.setMaxJobsPerPoll(workersPerNode);
+
+        List<ShowTrackingJobWorkerPool> pools = new ArrayList<>();
+        List<Callable<Integer>> polls = new ArrayList<>();
+        for (int node = 0; node < nodes; node++) {
+            ShowTrackingJobWorkerPool pool = new ShowTrackingJobWorkerPool(properties);
+            pools.add(pool);
+            ShowTrackingJobService service = new ShowTrackingJobService(
+                showTrackingJobRepository,
+                userShowTrackingRepository,
+                showCatalogService,
+                showTrackingWriteSupport,
+                properties,
+                transactionManager,
+                pool,
+                applicationEventPublisher,
+                showTrackingJobEventHub,
+                objectMapper
+            );
+            polls.add(service::pollPendingJobs);
+        }
+
+        ExecutorService pollers = Executors.newFixedThreadPool(nodes);
+        try {
+            long start = System.nanoTime();
+            for (Future<Integer> poll : pollers.invokeAll(polls)) {
+                poll.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            pollers.shutdownNow();
+            pools.forEach(ShowTrackingJobWorkerPool::destroy);
+        }
+    }
+
+    private List<Long> enqueueHydrationJobs(long firstTmdbId, int jobs) {
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            long tmdbId = firstTmdbId + i;
+            Media show = saveMedia(tmdbId, "Benchmark Show " + tmdbId, MediaType.SHOW);
+            jobIds.add(showTrackingJobRepository.save(ShowTrackingJob.builder()
+                .media(show)
+                .jobType(ShowTrackingJobType.HYDRATE_SHOW_CATALOG)
+                .status(ShowTrackingJobStatus.PENDING)
+                .completedSeasons(0)
+                .build()).getId());
+        }
+        return jobIds;
+    }
+
+    private void stubTmdb(long latencyMs) {
+        when(tmdbClient.fetchTvDetailsById(anyLong())).thenAnswer(invocation -> {
+            pause(latencyMs);
+            return showDetails(invocation.getArgument(0));
+        });
+        when(tmdbClient.fetchTvSeasonDetails(anyLong(), anyInt())).thenAnswer(invocation -> {
+            pause(latencyMs);
+            return season(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        when(tmdbClient.fetchTvSeasonDetailsBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            pause(latencyMs);
+            Long tmdbId = invocation.getArgument(0);
+            List<Integer> seasonNumbers = invocation.getArgument(1);
+            Map<Integer, TmdbTvSeasonDTO> seasons = new LinkedHashMap<>();
+            seasonNumbers.forEach(seasonNumber -> seasons.put(seasonNumber, season(tmdbId, seasonNumber)));
+            return seasons;
+        });
+    }
+
+    private static TmdbTvDetailsDTO showDetails(Long tmdbId) {
+        List<TmdbTvSeasonSummaryDTO> seasons = new ArrayList<>();
+        for (int seasonNumber = 1; seasonNumber <= SEASONS_PER_SHOW; seasonNumber++) {
+            seasons.add(TmdbTvSeasonSummaryDTO.builder()
+                .id(tmdbId * 10 + seasonNumber)
+                .seasonNumber(seasonNumber)
+                .name("Season " + seasonNumber)
+                .episodeCount(1)
+                .airDate("2020-01-01")
+                .build());
+        }
+        return TmdbTvDetailsDTO.builder()
+            .id(tmdbId)
+            .name("Benchmark Show " + tmdbId)
+            .firstAirDate("2020-01-01")
+            .lastAirDate("2021-01-01")
+            .status("Ended")
+            .numberOfSeasons(SEASONS_PER_SHOW)
+            .numberOfEpisodes(SEASONS_PER_SHOW)
+            .genres(List.of())
+            .seasons(seasons)
+            .build();
+    }
+
+    private static TmdbTvSeasonDTO season(Long tmdbId, Integer seasonNumber) {
+        return TmdbTvSeasonDTO.builder()
+            .id(tmdbId * 10 + seasonNumber)
+            .seasonNumber(seasonNumber)
+            .name("Season " + seasonNumber)
+            .airDate("2020-01-01")
+            .episodeCount(1)
+            .episodes(List.of(TmdbTvEpisodeDTO.builder()
+                .id(tmdbId * 100 + seasonNumber)
+                .seasonNumber(seasonNumber)
+                .episodeNumber(1)
+                .name("Episode " + seasonNumber)
+                .airDate("2020-01-01")
+                .runtime(45)
+                .build()))
+            .build();
+    }
+
+    private static void pause(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private static List<Integer> intList(String csv) {
+        return Arrays.stream(csv.split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(Integer::valueOf)
+            .toList();
+    }
+}
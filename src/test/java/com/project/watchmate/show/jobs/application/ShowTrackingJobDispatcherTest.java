@@ -0,0 +1,100 @@
+package com.project.watchmate.show.jobs.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+
+@ExtendWith(MockitoExtension.class)
+class ShowTrackingJobDispatcherTest {
+
+    @Mock
+    private ShowTrackingJobService showTrackingJobService;
+
+    @Mock
+    private ObjectProvider<ShowTrackingJobWakeupBroadcaster> wakeupBroadcasterProvider;
+
+    @Mock
+    private ShowTrackingJobWakeupBroadcaster wakeupBroadcaster;
+
+    private final ShowTrackingJobProperties properties = new ShowTrackingJobProperties();
+
+    private ShowTrackingJobWorkerPool workerPool;
+
+    private ShowTrackingJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPollDelayMs(1000L);
+        properties.setMaxPollDelayMs(8000L);
+        workerPool = new ShowTrackingJobWorkerPool(properties);
+        dispatcher = new ShowTrackingJobDispatcher(showTrackingJobService, properties, workerPool, wakeupBroadcasterProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+        workerPool.destroy();
+    }
+
+    @Test
+    void onJobEnqueued_wakesLocalDispatcherAndOtherNodes() throws InterruptedException {
+        when(wakeupBroadcasterProvider.getIfAvailable()).thenReturn(wakeupBroadcaster);
+
+        dispatcher.onJobEnqueued(new ShowTrackingJobEnqueuedEvent(1L, ShowTrackingJobType.MARK_SHOW_WATCHED));
+
+        assertTrue(dispatcher.awaitWakeup(0L));
+        verify(wakeupBroadcaster).publishWakeup();
+    }
+
+    @Test
+    void onJobEnqueued_whenWakeupDisabled_leavesJobToPolling() throws InterruptedException {
+        properties.getWakeup().setEnabled(false);
+
+        dispatcher.onJobEnqueued(new ShowTrackingJobEnqueuedEvent(1L, ShowTrackingJobType.MARK_SHOW_WATCHED));
+
+        assertFalse(dispatcher.awaitWakeup(0L));
+        verify(wakeupBroadcasterProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    void wakeup_coalescesUntilConsumed() throws InterruptedException {
+        dispatcher.wakeup();
+        dispatcher.wakeup();
+
+        assertTrue(dispatcher.awaitWakeup(0L));
+        assertFalse(dispatcher.awaitWakeup(0L));
+    }
+
+    @Test
+    void nextDelayMs_backsOffWhileIdleAndResetsOnWork() {
+        assertEquals(2000L, dispatcher.nextDelayMs(1000L, false));
+        assertEquals(8000L, dispatcher.nextDelayMs(4000L, false));
+        assertEquals(8000L, dispatcher.nextDelayMs(8000L, false));
+        assertEquals(1000L, dispatcher.nextDelayMs(8000L, true));
+    }
+
+    @Test
+    void start_pollsAsSoonAsWokenInsteadOfWaitingForTheDelay() {
+        properties.setPollDelayMs(60000L);
+        properties.setMaxPollDelayMs(60000L);
+        dispatcher.start();
+
+        dispatcher.wakeup();
+
+        verify(showTrackingJobService, timeout(2000)).pollPendingJobs();
+    }
+}
@@ -0,0 +1,168 @@
+package com.project.watchmate.show.jobs.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.project.watchmate.common.error.ShowTrackingJobNotFoundException;
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobStatus;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobDTO;
+import com.project.watchmate.show.jobs.dto.ShowTrackingJobProgressDTO;
+
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ShowTrackingJobEventHubTest {
+
+    @Mock
+    private ObjectProvider<ShowTrackingJobEventBroadcaster> broadcasterProvider;
+
+    @Mock
+    private ShowTrackingJobEventBroadcaster broadcaster;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ShowTrackingJobEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new ShowTrackingJobEventHub(new ShowTrackingJobProperties(), broadcasterProvider, Runnable::run);
+    }
+
+    @Test
+    void subscribe_whenJobIsNotVisible_dropsTheStream() {
+        assertThrows(ShowTrackingJobNotFoundException.class, () -> hub.subscribe(1L, () -> {
+            throw new ShowTrackingJobNotFoundException("Show tracking job not found.");
+        }));
+
+        assertEquals(0, hub.subscriberCount(1L));
+    }
+
+    @Test
+    void subscribe_whenJobAlreadyFinished_closesTheStreamAfterTheSnapshot() {
+        hub.subscribe(1L, () -> snapshot(1L, ShowTrackingJobStatus.COMPLETED));
+
+        assertEquals(0, hub.subscriberCount(1L));
+    }
+
+    @Test
+    void deliver_keepsStreamOpenUntilTheJobFinishes() {
+        hub.subscribe(1L, () -> snapshot(1L, ShowTrackingJobStatus.RUNNING));
+        hub.subscribe(2L, () -> snapshot(2L, ShowTrackingJobStatus.RUNNING));
+
+        hub.deliver(progress(1L, ShowTrackingJobStatus.RUNNING, 2));
+        assertEquals(1, hub.subscriberCount(1L));
+
+        hub.deliver(progress(1L, ShowTrackingJobStatus.FAILED, 3));
+        assertEquals(0, hub.subscriberCount(1L));
+        assertEquals(1, hub.subscriberCount(2L));
+    }
+
+    @Test
+    void subscribe_whenJobFinishesBeforeTheSnapshotIsSent_stillClosesTheStream() {
+        hub.subscribe(1L, () -> {
+            hub.deliver(progress(1L, ShowTrackingJobStatus.COMPLETED, 4));
+            return snapshot(1L, ShowTrackingJobStatus.RUNNING);
+        });
+
+        assertEquals(0, hub.subscriberCount(1L));
+    }
+
+    @Test
+    void deliver_whenDeliveryIsSaturated_closesTheStreamWithoutThrowing() {
+        ShowTrackingJobEventHub saturatedHub = new ShowTrackingJobEventHub(
+            new ShowTrackingJobProperties(),
+            broadcasterProvider,
+            task -> {
+                throw new RejectedExecutionException("queue full");
+            }
+        );
+        saturatedHub.subscribe(1L, () -> snapshot(1L, ShowTrackingJobStatus.RUNNING));
+
+        saturatedHub.deliver(progress(1L, ShowTrackingJobStatus.RUNNING, 2));
+
+        assertEquals(0, saturatedHub.subscriberCount(1L));
+    }
+
+    @Test
+    void publish_fansOutToOtherNodes() {
+        when(broadcasterProvider.getIfAvailable()).thenReturn(broadcaster);
+        ShowTrackingJobProgressDTO progress = progress(1L, ShowTrackingJobStatus.RUNNING, 1);
+
+        hub.publish(progress);
+
+        verify(broadcaster).publish(progress);
+    }
+
+    @Test
+    void broadcaster_deliversOtherNodesUpdatesAndIgnoresItsOwn() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ShowTrackingJobEventBroadcaster nodeA = new ShowTrackingJobEventBroadcaster(redisTemplate, "test-channel", "node-a", null, objectMapper);
+        ShowTrackingJobEventBroadcaster nodeB = new ShowTrackingJobEventBroadcaster(redisTemplate, "test-channel", "node-b", null, objectMapper);
+        List<ShowTrackingJobProgressDTO> receivedByA = new ArrayList<>();
+        List<ShowTrackingJobProgressDTO> receivedByB = new ArrayList<>();
+
+        nodeA.publish(progress(7L, ShowTrackingJobStatus.RUNNING, 3));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("test-channel"), payload.capture());
+        nodeA.listenerFor(receivedByA::add).onMessage(message(payload.getValue()), null);
+        nodeB.listenerFor(receivedByB::add).onMessage(message(payload.getValue()), null);
+
+        assertTrue(receivedByA.isEmpty());
+        assertEquals(1, receivedByB.size());
+        assertEquals(7L, receivedByB.get(0).getJobId());
+        assertSame(ShowTrackingJobStatus.RUNNING, receivedByB.get(0).getStatus());
+        assertEquals(3, receivedByB.get(0).getCompletedSeasons());
+    }
+
+    @Test
+    void broadcaster_whenPublishFails_doesNotThrow() {
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("Redis down"));
+        ShowTrackingJobEventBroadcaster nodeA = new ShowTrackingJobEventBroadcaster(redisTemplate, "test-channel", "node-a", null, new ObjectMapper());
+
+        nodeA.publish(progress(7L, ShowTrackingJobStatus.RUNNING, 3));
+    }
+
+    private static ShowTrackingJobDTO snapshot(Long jobId, ShowTrackingJobStatus status) {
+        return ShowTrackingJobDTO.builder()
+            .jobId(jobId)
+            .status(status)
+            .totalSeasons(4)
+            .completedSeasons(1)
+            .build();
+    }
+
+    private static ShowTrackingJobProgressDTO progress(Long jobId, ShowTrackingJobStatus status, int completedSeasons) {
+        return ShowTrackingJobProgressDTO.builder()
+            .jobId(jobId)
+            .status(status)
+            .totalSeasons(4)
+            .completedSeasons(completedSeasons)
+            .build();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("test-channel".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
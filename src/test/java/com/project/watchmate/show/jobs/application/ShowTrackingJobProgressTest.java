@@ -0,0 +1,67 @@
+package com.project.watchmate.show.jobs.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShowTrackingJobProgressTest {
+
+    private final List<String> writes = new ArrayList<>();
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ShowTrackingJobProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        progress = new ShowTrackingJobProgress(
+            7L,
+            20,
+            1000L,
+            5,
+            (jobId, totalSeasons, completedSeasons) -> writes.add(jobId + ":" + completedSeasons + "/" + totalSeasons),
+            nanoTime::get
+        );
+    }
+
+    @Test
+    void seasonsCompleted_writesOnlyEveryFewSeasons() {
+        progress.flush();
+        for (int completed = 1; completed <= 12; completed++) {
+            progress.seasonsCompleted(completed);
+        }
+
+        assertEquals(List.of("7:0/20", "7:5/20", "7:10/20"), writes);
+    }
+
+    @Test
+    void seasonsCompleted_writesOnceTheIntervalHasPassed() {
+        progress.flush();
+        progress.seasonsCompleted(1);
+        advanceMillis(1000);
+        progress.seasonsCompleted(2);
+
+        assertEquals(List.of("7:0/20", "7:2/20"), writes);
+    }
+
+    @Test
+    void flush_writesTheFinalCountOnce() {
+        progress.flush();
+        progress.seasonsCompleted(3);
+
+        progress.flush();
+        progress.flush();
+
+        assertEquals(List.of("7:0/20", "7:3/20"), writes);
+    }
+
+    private void advanceMillis(long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
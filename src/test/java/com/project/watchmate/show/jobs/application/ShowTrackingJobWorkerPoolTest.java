@@ -0,0 +1,90 @@
+package com.project.watchmate.show.jobs.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.watchmate.show.jobs.domain.ShowTrackingJobType;
+
+class ShowTrackingJobWorkerPoolTest {
+
+    private final ShowTrackingJobProperties properties = new ShowTrackingJobProperties();
+
+    private ShowTrackingJobWorkerPool pool;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWorkerThreads(3);
+        properties.getTypeParallelism().put(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1);
+        pool = new ShowTrackingJobWorkerPool(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.destroy();
+    }
+
+    @Test
+    void reserve_capsEachTypeAtItsParallelismAndAllTypesAtTheWorkerCount() {
+        assertEquals(1, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 3));
+        assertEquals(2, pool.reserve(ShowTrackingJobType.SET_SHOW_PROGRESS, 3));
+        assertEquals(0, pool.reserve(ShowTrackingJobType.MARK_SHOW_WATCHED, 3));
+        assertFalse(pool.hasIdleWorker());
+
+        pool.release(ShowTrackingJobType.SET_SHOW_PROGRESS, 2);
+
+        assertEquals(0, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+        assertEquals(2, pool.reserve(ShowTrackingJobType.MARK_SHOW_WATCHED, 3));
+    }
+
+    @Test
+    void submit_freesTheSlotAndWakesThePollerWhenTheJobEnds() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        assertEquals(1, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+        pool.submit(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, () -> awaitQuietly(release));
+
+        assertEquals(1, pool.runningJobs());
+        assertEquals(0, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+
+        release.countDown();
+        assertTrue(pool.awaitChange(5000L));
+        assertEquals(0, pool.runningJobs());
+        assertEquals(1, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+    }
+
+    @Test
+    void submit_whenTheJobThrows_stillFreesTheSlot() throws InterruptedException {
+        assertEquals(1, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+        pool.submit(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertTrue(pool.awaitChange(5000L));
+        assertEquals(0, pool.runningJobs());
+        assertEquals(1, pool.reserve(ShowTrackingJobType.HYDRATE_SHOW_CATALOG, 1));
+    }
+
+    @Test
+    void wakeup_endsAWaitEarlyAndCoalesces() throws InterruptedException {
+        pool.wakeup();
+        pool.wakeup();
+
+        assertTrue(pool.awaitChange(0L));
+        assertFalse(pool.awaitChange(0L));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
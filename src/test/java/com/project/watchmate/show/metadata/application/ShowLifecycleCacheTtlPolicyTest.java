@@ -0,0 +1,125 @@
+package com.project.watchmate.show.metadata.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.watchmate.common.cache.TmdbCacheNames;
+import com.project.watchmate.common.cache.WatchMateCacheNames;
+import com.project.watchmate.media.tmdb.dto.TmdbEpisodeSummaryDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvDetailsDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvEpisodeDTO;
+import com.project.watchmate.media.tmdb.dto.TmdbTvSeasonDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowEpisodeMetadataDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowMetadataDTO;
+import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
+
+class ShowLifecycleCacheTtlPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T18:00:00Z");
+
+    private static final LocalDate TODAY = LocalDate.ofInstant(NOW, ZoneOffset.UTC);
+
+    private static final Duration SHOW_TTL = Duration.ofHours(12);
+
+    private static final Duration METADATA_TTL = Duration.ofHours(6);
+
+    private final ShowLifecycleCacheTtlPolicy policy = new ShowLifecycleCacheTtlPolicy(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void timeToLive_whenShowEnded_keepsItForWeeks() {
+        TmdbTvDetailsDTO ended = TmdbTvDetailsDTO.builder().id(1L).status("Ended").build();
+        PublicShowMetadataDTO cancelled = PublicShowMetadataDTO.builder().tmdbId(2L).tmdbShowStatus(" canceled ").build();
+
+        assertEquals(ShowLifecycleCacheTtlPolicy.ENDED_SHOW_TTL,
+            policy.timeToLive(TmdbCacheNames.TMDB_SHOW_DETAILS, ended, SHOW_TTL));
+        assertEquals(ShowLifecycleCacheTtlPolicy.ENDED_SHOW_TTL,
+            policy.timeToLive(WatchMateCacheNames.PUBLIC_SHOW_METADATA, cancelled, METADATA_TTL));
+    }
+
+    @Test
+    void timeToLive_whenNextEpisodeAirsToday_expiresAtStartOfNextUtcDay() {
+        TmdbTvDetailsDTO airingTonight = TmdbTvDetailsDTO.builder()
+            .id(1L)
+            .status("Returning Series")
+            .nextEpisodeToAir(TmdbEpisodeSummaryDTO.builder().airDate(TODAY.toString()).build())
+            .build();
+
+        assertEquals(Duration.ofHours(6), policy.timeToLive(TmdbCacheNames.TMDB_SHOW_DETAILS, airingTonight, SHOW_TTL));
+    }
+
+    @Test
+    void timeToLive_whenNextEpisodeIsWeeksAway_keepsConfiguredTtl() {
+        PublicShowMetadataDTO returning = PublicShowMetadataDTO.builder()
+            .tmdbShowStatus("Returning Series")
+            .nextEpisodeAirDate(TODAY.plusWeeks(3))
+            .build();
+
+        assertEquals(METADATA_TTL, policy.timeToLive(WatchMateCacheNames.PUBLIC_SHOW_METADATA, returning, METADATA_TTL));
+    }
+
+    @Test
+    void timeToLive_whenAnnouncedAirDateHasPassed_usesMinimumTtl() {
+        PublicShowMetadataDTO overdue = PublicShowMetadataDTO.builder()
+            .tmdbShowStatus("Returning Series")
+            .nextEpisodeAirDate(TODAY.minusDays(2))
+            .build();
+
+        assertEquals(ShowLifecycleCacheTtlPolicy.MIN_TTL,
+            policy.timeToLive(WatchMateCacheNames.PUBLIC_SHOW_METADATA, overdue, METADATA_TTL));
+    }
+
+    @Test
+    void timeToLive_whenSeasonFinishedLongAgo_keepsItForWeeks() {
+        TmdbTvSeasonDTO settled = TmdbTvSeasonDTO.builder()
+            .seasonNumber(1)
+            .episodes(List.of(
+                TmdbTvEpisodeDTO.builder().airDate("2024-01-01").build(),
+                TmdbTvEpisodeDTO.builder().airDate("2024-01-08").build()
+            ))
+            .build();
+
+        assertEquals(ShowLifecycleCacheTtlPolicy.SETTLED_SEASON_TTL,
+            policy.timeToLive(TmdbCacheNames.TMDB_SEASON_DETAILS, settled, SHOW_TTL));
+    }
+
+    @Test
+    void timeToLive_whenSeasonHasUpcomingEpisode_expiresAfterItAirs() {
+        PublicShowSeasonMetadataDTO airing = PublicShowSeasonMetadataDTO.builder()
+            .seasonNumber(2)
+            .episodes(List.of(
+                PublicShowEpisodeMetadataDTO.builder().episodeNumber(1).airDate(TODAY.minusDays(7)).build(),
+                PublicShowEpisodeMetadataDTO.builder().episodeNumber(2).airDate(TODAY).build(),
+                PublicShowEpisodeMetadataDTO.builder().episodeNumber(3).airDate(TODAY.plusDays(7)).build()
+            ))
+            .build();
+
+        assertEquals(Duration.ofHours(6), policy.timeToLive(WatchMateCacheNames.PUBLIC_SEASON_METADATA, airing, METADATA_TTL));
+    }
+
+    @Test
+    void timeToLive_whenSeasonHasUndatedEpisodes_keepsConfiguredTtl() {
+        PublicShowSeasonMetadataDTO partlyAnnounced = PublicShowSeasonMetadataDTO.builder()
+            .episodes(List.of(
+                PublicShowEpisodeMetadataDTO.builder().episodeNumber(1).airDate(LocalDate.of(2020, 1, 1)).build(),
+                PublicShowEpisodeMetadataDTO.builder().episodeNumber(2).airDate(null).build()
+            ))
+            .build();
+
+        assertEquals(METADATA_TTL, policy.timeToLive(WatchMateCacheNames.PUBLIC_SEASON_METADATA, partlyAnnounced, METADATA_TTL));
+    }
+
+    @Test
+    void timeToLive_whenCacheIsNotShowScoped_keepsConfiguredTtl() {
+        TmdbTvDetailsDTO ended = TmdbTvDetailsDTO.builder().id(1L).status("Ended").build();
+
+        assertEquals(SHOW_TTL, policy.timeToLive(TmdbCacheNames.TMDB_MEDIA_DETAILS, ended, SHOW_TTL));
+    }
+}
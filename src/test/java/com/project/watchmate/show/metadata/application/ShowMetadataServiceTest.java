@@ -6,8 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -26,17 +30,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.project.watchmate.show.catalog.application.ShowCatalogService;
+import com.project.watchmate.show.metadata.dto.NextEpisodeAiringDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowEpisodeMetadataDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowMetadataDTO;
 import com.project.watchmate.show.metadata.dto.PublicShowSeasonMetadataDTO;
 import com.project.watchmate.show.metadata.dto.ShowDetailsDTO;
 import com.project.watchmate.show.metadata.dto.ShowEpisodeDetailsDTO;
+import com.project.watchmate.common.error.TmdbCircuitOpenException;
+import com.project.watchmate.common.error.TmdbUnavailableException;
 import com.project.watchmate.common.error.UserNotFoundException;
 import com.project.watchmate.common.mapper.WatchMateMapper;
 import com.project.watchmate.show.metadata.mapper.ShowMetadataMapper;
 import com.project.watchmate.media.catalog.domain.Media;
 import com.project.watchmate.media.catalog.domain.MediaType;
 import com.project.watchmate.media.extras.application.MediaExtrasService;
+import com.project.watchmate.media.tmdb.application.TmdbDetailsBundleService;
 import com.project.watchmate.media.extras.dto.CastMemberDTO;
 import com.project.watchmate.media.extras.dto.MediaExtrasDTO;
 import com.project.watchmate.media.extras.dto.TrailerDTO;
@@ -78,6 +86,9 @@ class ShowMetadataServiceTest {
     @Mock
     private MediaExtrasService mediaExtrasService;
 
+    @Mock
+    private TmdbDetailsBundleService tmdbDetailsBundleService;
+
     @InjectMocks
     private ShowMetadataService showMetadataService;
 
@@ -162,6 +173,54 @@ class ShowMetadataServiceTest {
 
             assertEquals(WatchStatus.WATCHING, result.getWatchStatus());
         }
+
+        @Test
+        void getShowDetails_WhenTmdbUnavailable_ServesStoredSnapshotAsPossiblyStale() {
+            when(showCatalogService.validateShowType(MediaType.SHOW)).thenReturn(MediaType.SHOW);
+            when(showCatalogService.findImportedShow(TMDB_ID)).thenReturn(show);
+            when(reviewRepository.findByMedia(show)).thenReturn(List.of());
+            when(publicShowMetadataCacheService.getShowMetadata(TMDB_ID)).thenThrow(new TmdbCircuitOpenException("down"));
+            when(publicShowMetadataCacheService.getStoredShowMetadata(show)).thenReturn(Optional.of(publicShowMetadata("Stored Show")));
+            when(mediaExtrasService.getExtras(TMDB_ID, MediaType.SHOW)).thenReturn(emptyExtras());
+
+            ShowDetailsDTO result = showMetadataService.getShowDetails(TMDB_ID, MediaType.SHOW, null);
+
+            assertEquals("Stored Show", result.getTitle());
+            assertTrue(result.isPossiblyStale());
+        }
+
+        @Test
+        void getShowDetails_WhenTmdbUnavailableAndShowNotStored_Rethrows() {
+            TmdbUnavailableException unavailable = new TmdbUnavailableException("down");
+            when(showCatalogService.validateShowType(MediaType.SHOW)).thenReturn(MediaType.SHOW);
+            when(showCatalogService.findImportedShow(TMDB_ID)).thenReturn(null);
+            when(publicShowMetadataCacheService.getShowMetadata(TMDB_ID)).thenThrow(unavailable);
+            when(publicShowMetadataCacheService.getStoredShowMetadata(null)).thenReturn(Optional.empty());
+
+            TmdbUnavailableException exception = assertThrows(TmdbUnavailableException.class,
+                () -> showMetadataService.getShowDetails(TMDB_ID, MediaType.SHOW, null));
+
+            assertSame(unavailable, exception);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Next Episode Tests")
+    class GetNextEpisodeTests {
+
+        @Test
+        void getNextEpisode_WhenTmdbUnavailable_MapsStoredSnapshot() {
+            NextEpisodeAiringDTO stored = NextEpisodeAiringDTO.builder().tmdbId(TMDB_ID).seasonNumber(2).possiblyStale(true).build();
+            when(showCatalogService.validateShowType(MediaType.SHOW)).thenReturn(MediaType.SHOW);
+            when(tmdbService.fetchTvDetails(TMDB_ID)).thenThrow(new TmdbUnavailableException("down"));
+            when(showCatalogService.findImportedShow(TMDB_ID)).thenReturn(show);
+            when(showMetadataMapper.mapToStoredNextEpisodeDto(show)).thenReturn(stored);
+
+            NextEpisodeAiringDTO result = showMetadataService.getNextEpisode(TMDB_ID, MediaType.SHOW);
+
+            assertSame(stored, result);
+            verify(tmdbService, never()).refreshShowSnapshot(any(), any());
+        }
     }
 
     @Nested
@@ -257,6 +316,18 @@ class ShowMetadataServiceTest {
             assertFalse(result.getContent().get(2).getWatched()); // ep 3
         }
 
+        @Test
+        void getShowSeasonDetails_WhenTmdbUnavailable_ServesStoredSeasonAsPossiblyStale() {
+            when(showCatalogService.validateShowType(MediaType.SHOW)).thenReturn(MediaType.SHOW);
+            when(publicShowMetadataCacheService.getSeasonMetadata(TMDB_ID, 1)).thenThrow(new TmdbCircuitOpenException("down"));
+            when(publicShowMetadataCacheService.getStoredSeasonMetadata(TMDB_ID, 1)).thenReturn(Optional.of(seasonWithEpisodes(3)));
+
+            Page<ShowEpisodeDetailsDTO> result = showMetadataService.getShowSeasonDetails(TMDB_ID, 1, MediaType.SHOW, null, 0, 20);
+
+            assertEquals(3, result.getTotalElements());
+            assertTrue(result.getContent().stream().allMatch(ShowEpisodeDetailsDTO::isPossiblyStale));
+        }
+
         private PublicShowSeasonMetadataDTO seasonWithEpisodes(int count) {
             List<PublicShowEpisodeMetadataDTO> episodes = new ArrayList<>();
             for (int i = 1; i <= count; i++) {